@@ -1,4 +1,12 @@
+import com.samskivert.mustache.Mustache
+import com.samskivert.mustache.Template
+import org.graalvm.buildtools.gradle.tasks.BuildNativeImageTask
 import org.gradle.api.tasks.testing.logging.TestExceptionFormat
+import org.openapitools.codegen.CodegenModel
+import org.openapitools.codegen.CodegenProperty
+import org.openapitools.generator.gradle.plugin.tasks.GenerateTask
+import java.io.Serializable
+import java.io.Writer
 
 plugins {
     java
@@ -6,6 +14,8 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     alias(libs.plugins.sonarqube)
+    alias(libs.plugins.jmh)
+    alias(libs.plugins.graalvm.native)
 
     // Open API
     alias(libs.plugins.openapi.generator)
@@ -21,15 +31,44 @@ repositories {
     mavenCentral()
 }
 
+// 組み込みサーバー: ./gradlew bootRun -Pserver=jetty のように tomcat (デフォルト) / jetty / undertow を指定する
+val embeddedServer = providers.gradleProperty("server").getOrElse("tomcat")
+require(embeddedServer in setOf("tomcat", "jetty", "undertow")) {
+    "Unsupported server: $embeddedServer (tomcat, jetty or undertow)"
+}
+
 dependencies {
     // Spring Boot
+    implementation(libs.spring.boot.starter.actuator)
     implementation(libs.spring.boot.starter.validation)
-    implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.web) {
+        if (embeddedServer != "tomcat") {
+            exclude(group = "org.springframework.boot", module = "spring-boot-starter-tomcat")
+        }
+    }
+    when (embeddedServer) {
+        "jetty" -> {
+            implementation(libs.spring.boot.starter.jetty)
+            // Jetty で h2c (server.http2.enabled) を利用するための HTTP/2 の ConnectionFactory
+            implementation(libs.jetty.http2.server)
+        }
+        "undertow" -> implementation(libs.spring.boot.starter.undertow)
+    }
 
     // Open API
     implementation(libs.swagger.annotations)
     implementation(libs.jackson.datatype.jsr310)
     implementation(libs.jackson.databind.nullable)
+    implementation(libs.jackson.module.blackbird)
+    implementation(libs.jackson.dataformat.cbor)
+    implementation(libs.jackson.dataformat.smile)
+    implementation(libs.jackson.dataformat.msgpack)
+
+    // Compression
+    implementation(libs.zstd.jni)
+
+    // Cache
+    implementation(libs.caffeine)
 
     // Lombok
     compileOnly(libs.lombok)
@@ -74,11 +113,58 @@ openApiValidate {
     inputSpec = "$projectDir/open_api/sample-oas3.yaml"
 }
 
+/**
+ * テンプレートの {{#primitiveJsonNullable}} / {{#notPrimitiveJsonNullable}} のセクションを、
+ * プロパティが JsonNullable の int32 / int64 / float / double / boolean (enum 以外) の場合 / それ以外の場合のみ出力する Lambda.
+ * モデルのセクションでは、いずれかのプロパティが該当する場合 / 該当しない場合のみ出力する.
+ * (Mustache のセクションでは複数の条件の OR を記述できないため)
+ */
+class PrimitiveJsonNullableLambda(private val openApiNullable: Boolean, private val expected: Boolean) :
+    Mustache.Lambda, Serializable {
+
+    override fun execute(frag: Template.Fragment, out: Writer) {
+        val primitive = openApiNullable && when (val context = frag.context()) {
+            is CodegenProperty -> isPrimitive(context)
+            is CodegenModel -> context.vars.any(::isPrimitive)
+            else -> false
+        }
+        if (primitive == expected) {
+            frag.execute(out)
+        }
+    }
+
+    private fun isPrimitive(property: CodegenProperty) =
+        property.isNullable && !property.isContainer && !property.isEnum &&
+            (property.isInteger || property.isLong || property.isFloat || property.isDouble || property.isBoolean)
+}
+
+val openApiNullable = true
+
+val openApiAdditionalProperties = mapOf(
+    "async" to true,
+    "cleanupOutput" to true,
+    "delegatePattern" to true,
+    "serializableModel" to true,
+    "serializationLibrary" to "jackson",
+    "unhandledException" to true,
+    "useBeanValidation" to true,
+    "useSpringBoot3" to true,
+    "useTags" to true,
+    // open_api/templates から生成したモデルが利用する Jackson の拡張 (PrimitiveJsonNullables など) のパッケージ
+    "jacksonPackage" to "jp.co.beanslabo.sample.gradle.oas.generator.jackson",
+    "openApiNullable" to openApiNullable,
+    "primitiveJsonNullable" to PrimitiveJsonNullableLambda(openApiNullable, true),
+    "notPrimitiveJsonNullable" to PrimitiveJsonNullableLambda(openApiNullable, false),
+)
+
 openApiGenerate {
     validateSpec = true
     generatorName = "spring"
 
     inputSpec = "$projectDir/open_api/sample-oas3.yaml"
+    // 独自テンプレートの追加 (files) の設定
+    configFile.set("$projectDir/open_api/generator-config.yaml")
+    templateDir.set("$projectDir/open_api/templates")
     outputDir = "${layout.buildDirectory.get()}/generated/sources/openapi"
 
     packageName = "jp.co.beanslabo"
@@ -91,7 +177,7 @@ openApiGenerate {
             "apis" to "",
             "models" to "",
             "modelDocs" to "",
-            "supportingFiles" to "RFC3339DateFormat.java,ApiUtil.java",
+            "supportingFiles" to "RFC3339DateFormat.java,ApiUtil.java,ModelValidators.java,ModelStrings.java",
         )
     )
 
@@ -101,18 +187,19 @@ openApiGenerate {
         )
     )
 
-    additionalProperties.set(
+    // format: byte は Base64 文字列のまま保持し、参照時に展開する型にする
+    typeMappings.set(
         mapOf(
-            "cleanupOutput" to true,
-            "delegatePattern" to true,
-            "serializableModel" to true,
-            "serializationLibrary" to "jackson",
-            "unhandledException" to true,
-            "useBeanValidation" to true,
-            "useSpringBoot3" to true,
-            "useTags" to true,
+            "ByteArray" to "Base64Bytes",
         )
     )
+    importMappings.set(
+        mapOf(
+            "Base64Bytes" to "jp.co.beanslabo.sample.gradle.oas.generator.type.Base64Bytes",
+        )
+    )
+
+    additionalProperties.set(openApiAdditionalProperties)
 }
 
 // 自動生成されるファイルをコンパイル対象に追加
@@ -125,14 +212,52 @@ sourceSets {
             )
         }
         resources {
-            srcDirs(
-                "src/main/resources",
-                "${layout.buildDirectory.get()}/generated/sources/openapi/src/main/resources"
-            )
+            // src/main/resources はデフォルトで含まれるため、重複して追加しない
+            srcDir("${layout.buildDirectory.get()}/generated/sources/openapi/src/main/resources")
         }
     }
 }
 
+// open_api/templates の Test 用に、sample-oas3.yaml で利用していない制約を設定した定義からモデルを生成する
+val openApiGenerateTestFixtures by tasks.registering(GenerateTask::class) {
+    validateSpec = true
+    generatorName = "spring"
+
+    inputSpec = "$projectDir/src/test/open_api/validation-fixture-oas3.yaml"
+    configFile.set("$projectDir/src/test/open_api/generator-config.yaml")
+    templateDir.set("$projectDir/open_api/templates")
+    outputDir = "${layout.buildDirectory.get()}/generated/sources/openapi-fixture"
+
+    packageName = "jp.co.beanslabo"
+    apiPackage = "jp.co.beanslabo.sample.gradle.oas.generator.fixture.controller"
+    invokerPackage = "jp.co.beanslabo.sample.gradle.oas.generator.fixture.invoker"
+    modelPackage = "jp.co.beanslabo.sample.gradle.oas.generator.fixture.model"
+
+    globalProperties = mapOf(
+        "models" to "",
+        "supportingFiles" to "ModelValidators.java,ModelStrings.java",
+    )
+    configOptions = mapOf(
+        "dateLibrary" to "java8",
+    )
+    additionalProperties = openApiAdditionalProperties
+
+    // openApiGenerate が clean に依存するため、clean の後に生成する
+    mustRunAfter(tasks.clean)
+}
+
+sourceSets {
+    test {
+        java {
+            srcDir("${layout.buildDirectory.get()}/generated/sources/openapi-fixture/src/main/java")
+        }
+    }
+}
+
+tasks.named("compileTestJava") {
+    dependsOn(openApiGenerateTestFixtures)
+}
+
 tasks.test {
     // report is always generated after tests run
     finalizedBy(tasks.jacocoTestReport)
@@ -160,6 +285,155 @@ tasks.named("openApiGenerate") {
     dependsOn("clean")
 }
 
+/* ---------------------------------------- */
+/* JMH                                      */
+/* ---------------------------------------- */
+
+// ./gradlew jmh -Pjmh.includes=JsonConfigBenchmark のように実行対象を絞り込める
+jmh {
+    jmhVersion = libs.versions.jmh.asProvider()
+    // Fixture JSON (src/test/resources) を利用するため
+    includeTests = true
+    includes = providers.gradleProperty("jmh.includes").map { listOf(it) }.orElse(listOf())
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+}
+
+/* ---------------------------------------- */
+/* GraalVM Native Image                     */
+/* ---------------------------------------- */
+
+// ./gradlew nativeCompile で Spring AOT 処理後の Native Image を build/native/nativeCompile に生成する
+// ./gradlew nativeTest で src/test/java の Test を Native Image 上で実行する
+// ./gradlew nativeFixtureTest で nativeCompile の実行ファイルを起動し、HTTP で Fixture JSON を POST する (CDS の後に定義)
+graalvmNative {
+    binaries {
+        named("main") {
+            imageName = "sample-gradle-oas-generator-server"
+        }
+    }
+}
+
+/* ---------------------------------------- */
+/* Load Test                                */
+/* ---------------------------------------- */
+
+// アプリケーションと同じ JVM で起動して負荷をかける負荷試験ツール
+val loadTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "loadTestImplementation"(libs.hdrhistogram)
+}
+
+// ./gradlew loadTest -PloadTest.concurrency=64 -PloadTest.rate=2000 -PloadTest.duration=60 のように指定する
+//   concurrency: 並列数 (デフォルト 16)
+//   protocol   : http1 / h2c (h2c は全リクエストを1つの HTTP/2 接続で多重化する、デフォルト http1)
+//   rate       : 目標のリクエスト数/秒. 0 の場合は closed-loop (デフォルト 0)
+//   warmup     : ウォームアップの秒数 (デフォルト 10)
+//   duration   : 計測の秒数 (デフォルト 30)
+//   paths      : リクエスト先のAPI (カンマ区切り、デフォルトは両API)
+//   mix        : Fixture JSON の重み (デフォルト ok=8,fieldIsMissing=1,fieldIsNull=1)
+tasks.register<JavaExec>("loadTest") {
+    description = "Runs the load test against both APIs."
+    outputs.upToDateWhen { false }
+    classpath = loadTest.runtimeClasspath
+    mainClass = "jp.co.beanslabo.sample.gradle.oas.generator.loadtest.LoadTest"
+    javaLauncher = javaToolchains.launcherFor(java.toolchain)
+    systemProperty("loadTest.fixtures", file("src/test/resources/json").absolutePath)
+    systemProperty("loadTest.reports", layout.buildDirectory.dir("reports/loadTest").get().asFile.absolutePath)
+    systemProperties(providers.gradlePropertiesPrefixedBy("loadTest.").get())
+}
+
+/* ---------------------------------------- */
+/* CDS (Class Data Sharing)                 */
+/* ---------------------------------------- */
+
+// CDS アーカイブの生成・起動時間の計測ツール、Native Image の Fixture Test (アプリケーションとは別の JVM で実行する)
+val startup: SourceSet by sourceSets.creating
+
+// openApiGenerate が clean に依存するため、clean の後にコンパイルする
+tasks.named(startup.compileJavaTaskName) {
+    mustRunAfter(tasks.clean)
+}
+
+val cdsDirectory = layout.buildDirectory.dir("cds")
+val cdsApplicationJar = cdsDirectory.zip(tasks.bootJar.flatMap { it.archiveFileName }) { dir, name ->
+    dir.file("application/$name")
+}
+val cdsArchive = cdsDirectory.map { it.file("application.jsa") }
+
+// CDS は展開済みの jar を前提とするため、bootJar を build/cds/application に展開する
+val extractBootJar by tasks.registering(JavaExec::class) {
+    val bootJar = tasks.bootJar.flatMap { it.archiveFile }
+    inputs.file(bootJar)
+    outputs.dir(cdsDirectory.map { it.dir("application") })
+    classpath(bootJar)
+    mainClass = "org.springframework.boot.loader.launch.JarLauncher"
+    systemProperty("jarmode", "tools")
+    args("extract", "--destination", cdsDirectory.get().dir("application").asFile.absolutePath)
+    doFirst { delete(cdsDirectory.map { it.dir("application") }) }
+}
+
+// ./gradlew cdsArchive で両APIに Fixture JSON を POST する学習を行い、build/cds/application.jsa を生成する
+// java -XX:SharedArchiveFile=build/cds/application.jsa -jar build/cds/application/*.jar で利用する
+val cdsArchiveTask = tasks.register<JavaExec>("cdsArchive") {
+    dependsOn(extractBootJar)
+    inputs.dir("src/test/resources/json")
+    outputs.file(cdsArchive)
+    classpath = startup.runtimeClasspath
+    mainClass = "jp.co.beanslabo.sample.gradle.oas.generator.startup.CdsTraining"
+    javaLauncher = javaToolchains.launcherFor(java.toolchain)
+    args(
+        cdsApplicationJar.get().asFile.absolutePath,
+        cdsArchive.get().asFile.absolutePath,
+        file("src/test/resources/json").absolutePath
+    )
+}
+
+// ./gradlew startupBenchmark -Pstartup.runs=10 のように計測回数を指定できる
+tasks.register<JavaExec>("startupBenchmark") {
+    dependsOn(cdsArchiveTask)
+    outputs.upToDateWhen { false }
+    classpath = startup.runtimeClasspath
+    mainClass = "jp.co.beanslabo.sample.gradle.oas.generator.startup.StartupBenchmark"
+    javaLauncher = javaToolchains.launcherFor(java.toolchain)
+    args(
+        cdsApplicationJar.get().asFile.absolutePath,
+        cdsArchive.get().asFile.absolutePath,
+        file("src/test/resources/json").absolutePath,
+        providers.gradleProperty("startup.runs").getOrElse("5")
+    )
+}
+
+// ./gradlew nativeFixtureTest で nativeCompile の実行ファイルと JVM のアプリケーションを起動し、
+// 各APIに Fixture JSON を POST して、レスポンスが一致することを確認する
+tasks.register<JavaExec>("nativeFixtureTest") {
+    description = "Runs the API fixtures over HTTP against the native executable and the JVM application."
+    group = "verification"
+    val nativeExecutable = tasks.named<BuildNativeImageTask>("nativeCompile").flatMap { it.outputFile }
+    dependsOn(extractBootJar)
+    inputs.file(nativeExecutable)
+    inputs.dir("src/test/resources/json")
+    outputs.upToDateWhen { false }
+    classpath = startup.runtimeClasspath
+    mainClass = "jp.co.beanslabo.sample.gradle.oas.generator.startup.NativeFixtureTest"
+    javaLauncher = javaToolchains.launcherFor(java.toolchain)
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf(
+            cdsApplicationJar.get().asFile.absolutePath,
+            nativeExecutable.get().asFile.absolutePath,
+            file("src/test/resources/json").absolutePath
+        )
+    })
+}
+
 sonar {
     properties {
         property("sonar.projectKey", "bl-semba-ryuichiro_sample-gradle-oas-generator")
@@ -0,0 +1,145 @@
+import org.gradle.api.tasks.testing.logging.TestExceptionFormat
+
+plugins {
+    java
+    // ルートプロジェクトで読み込み済みのため、バージョンは指定しない
+    id("org.springframework.boot")
+    id("io.spring.dependency-management")
+
+    // Open API
+    id("org.openapi.generator")
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(23)
+    }
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    // Spring Boot
+    implementation(libs.spring.boot.starter.validation)
+    implementation(libs.spring.boot.starter.webflux)
+
+    // Open API
+    implementation(libs.swagger.annotations)
+    implementation(libs.jackson.datatype.jsr310)
+    implementation(libs.jackson.databind.nullable)
+    implementation(libs.jackson.module.blackbird)
+
+    // Lombok
+    compileOnly(libs.lombok)
+    annotationProcessor(libs.lombok)
+    testCompileOnly(libs.lombok)
+    testAnnotationProcessor(libs.lombok)
+
+    // Test
+    testImplementation(libs.spring.boot.starter.test)
+    testImplementation(libs.commons.io)
+    testRuntimeOnly(libs.junit.platform.launcher)
+}
+
+group = "jp.co.beanslabo"
+version = "1.0.0-SNAPSHOT"
+
+tasks.withType<Test> {
+    useJUnitPlatform()
+    testLogging {
+        events("PASSED", "FAILED", "SKIPPED")
+        exceptionFormat = TestExceptionFormat.FULL
+        showCauses = true
+        showExceptions = true
+        showStackTraces = true
+    }
+}
+
+/* ---------------------------------------- */
+/* Open API                                 */
+/* ---------------------------------------- */
+
+openApiGenerate {
+    validateSpec = true
+    generatorName = "spring"
+
+    inputSpec = "${rootProject.projectDir}/open_api/sample-oas3.yaml"
+    outputDir = "${layout.buildDirectory.get()}/generated/sources/openapi"
+
+    packageName = "jp.co.beanslabo"
+    apiPackage = "jp.co.beanslabo.sample.gradle.oas.generator.reactive.controller"
+    invokerPackage = "jp.co.beanslabo.sample.gradle.oas.generator.reactive.invoker"
+    modelPackage = "jp.co.beanslabo.sample.gradle.oas.generator.reactive.model"
+
+    // Servlet 版と比較する2つのAPIのみ生成する
+    openapiNormalizer.set(
+        mapOf(
+            "FILTER" to "operationId:post-v1-sample-gradle-oas-generator|post-v1-sample-gradle-oas-generator-required",
+        )
+    )
+
+    globalProperties.set(
+        mapOf(
+            "apis" to "",
+            "models" to "",
+            "modelDocs" to "",
+            "supportingFiles" to "RFC3339DateFormat.java,ApiUtil.java",
+        )
+    )
+
+    configOptions.set(
+        mapOf(
+            "dateLibrary" to "java8",
+        )
+    )
+
+    additionalProperties.set(
+        mapOf(
+            "cleanupOutput" to true,
+            "delegatePattern" to true,
+            "reactive" to true,
+            "serializableModel" to true,
+            "serializationLibrary" to "jackson",
+            "unhandledException" to true,
+            "useBeanValidation" to true,
+            "useSpringBoot3" to true,
+            "useTags" to true,
+        )
+    )
+}
+
+// JSON の設定はルートプロジェクトの JsonConfig をそのまま利用する
+val syncJsonConfig by tasks.registering(Sync::class) {
+    from(rootProject.file("src/main/java")) {
+        include("jp/co/beanslabo/sample/gradle/oas/generator/config/JsonConfig.java")
+        include("jp/co/beanslabo/sample/gradle/oas/generator/config/JsonProperties.java")
+        include("jp/co/beanslabo/sample/gradle/oas/generator/jackson/**")
+        include("jp/co/beanslabo/sample/gradle/oas/generator/type/**")
+    }
+    into(layout.buildDirectory.dir("generated/sources/config"))
+}
+
+// 自動生成されるファイルをコンパイル対象に追加
+sourceSets {
+    main {
+        java {
+            srcDirs(
+                "${layout.buildDirectory.get()}/generated/sources/openapi/src/main/java",
+                "${layout.buildDirectory.get()}/generated/sources/config"
+            )
+        }
+    }
+    test {
+        resources {
+            // Fixture JSON はルートプロジェクトのものを利用する
+            srcDir(rootProject.file("src/test/resources"))
+        }
+    }
+}
+
+// コンパイル時にOpenAPIの生成ファイルも生成
+tasks.named("compileJava") {
+    dependsOn("openApiGenerate", syncJsonConfig)
+}
@@ -0,0 +1,26 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.reactive;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonConfig;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Spring Boot Application (WebFlux).
+ *
+ * <p>JSON の設定は Servlet 版と同じ {@link JsonConfig} を利用する.
+ */
+@SpringBootApplication
+@Import(JsonConfig.class)
+public class SampleGradleOasGeneratorReactiveApplication {
+
+    /**
+     * Entry point.
+     *
+     * @param args Command line arguments
+     */
+    public static void main(String[] args) {
+        SpringApplication.run(SampleGradleOasGeneratorReactiveApplication.class, args);
+    }
+}
@@ -0,0 +1,31 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.reactive.controller;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.reactive.model.PostV1SampleGradleOasGenerator200Response;
+import jp.co.beanslabo.sample.gradle.oas.generator.reactive.model.PostV1SampleGradleOasGeneratorRequest;
+import lombok.val;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Delegate implementation for SampleGradleOasGeneratorApi.
+ */
+@Component
+public class SampleGradleOasGeneratorApiDelegateImpl implements SampleGradleOasGeneratorApiDelegate {
+
+    /**
+     * </inheritDoc>
+     */
+    @Override
+    public Mono<ResponseEntity<PostV1SampleGradleOasGenerator200Response>> postV1SampleGradleOasGenerator(Mono<PostV1SampleGradleOasGeneratorRequest> postV1SampleGradleOasGeneratorRequest, ServerWebExchange exchange) throws Exception {
+
+        return postV1SampleGradleOasGeneratorRequest.map(request -> {
+            val response = new PostV1SampleGradleOasGenerator200Response();
+            response.setStatus("OK");
+
+            return ResponseEntity.ok(response);
+        });
+    }
+}
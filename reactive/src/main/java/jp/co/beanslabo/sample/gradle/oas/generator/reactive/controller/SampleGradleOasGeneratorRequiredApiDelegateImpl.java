@@ -0,0 +1,31 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.reactive.controller;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.reactive.model.PostV1SampleGradleOasGenerator200Response;
+import jp.co.beanslabo.sample.gradle.oas.generator.reactive.model.PostV1SampleGradleOasGeneratorRequiredRequest;
+import lombok.val;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Delegate implementation for SampleGradleOasGeneratorRequiredApi.
+ */
+@Component
+public class SampleGradleOasGeneratorRequiredApiDelegateImpl implements SampleGradleOasGeneratorRequiredApiDelegate {
+
+    /**
+     * </inheritDoc>
+     */
+    @Override
+    public Mono<ResponseEntity<PostV1SampleGradleOasGenerator200Response>> postV1SampleGradleOasGeneratorRequired(Mono<PostV1SampleGradleOasGeneratorRequiredRequest> postV1SampleGradleOasGeneratorRequiredRequest, ServerWebExchange exchange) throws Exception {
+
+        return postV1SampleGradleOasGeneratorRequiredRequest.map(request -> {
+            val response = new PostV1SampleGradleOasGenerator200Response();
+            response.setStatus("OK");
+
+            return ResponseEntity.ok(response);
+        });
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Controller classes.<br>
+ * OpenAPI で生成する、Delegate クラスを実装するクラスを格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.reactive.controller;
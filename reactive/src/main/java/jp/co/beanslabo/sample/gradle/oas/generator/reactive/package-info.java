@@ -0,0 +1,4 @@
+/**
+ * WebFlux (Netty) で動作する Reactive 版のアプリケーション.
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.reactive;
@@ -0,0 +1,162 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.reactive.controller;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.reactive.SampleGradleOasGeneratorReactiveApplication;
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * {@link SampleGradleOasGeneratorApi} の Integration Test (WebFlux).
+ *
+ * <p>Servlet 版の {@code SampleGradleOasGeneratorApiTest} と同じ Fixture JSON を利用し、同じ HTTP Status となることを確認する.
+ */
+@SpringBootTest(classes = SampleGradleOasGeneratorReactiveApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+class SampleGradleOasGeneratorApiTest {
+
+    /**
+     * 全てのフィールドに以下を付与.
+     *
+     * <ul>
+     *   <li>nullable: true
+     * </ul>
+     */
+    private static final String API_PATH = "/api/sample-gradle-oas-generator";
+
+    /**
+     * 全てのフィールドに以下を付与.
+     *
+     * <ul>
+     *   <li>nullable: true
+     *   <li>required
+     * </ul>
+     */
+    private static final String REQUIRED_API_PATH = "/api/sample-gradle-oas-generator-required";
+
+    /**
+     * {@link #REQUIRED_API_PATH} に null を設定しても バリデーションエラーとならない Fixture JSON.
+     */
+    private static final Set<String> REQUIRED_API_NULLABLE_JSONS =
+        Set.of("intArrayItem.json", "objectArrayItem.json", "stringArrayItem.json", "stringByteFormat.json");
+
+    /**
+     * {@link #API_PATH} のみ確認する Fixture JSON.
+     */
+    private static final Set<String> API_ONLY_JSONS =
+        Set.of("objectField1.json", "objectField2.json", "objectFieldBoth.json");
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    static Stream<Arguments> argumentsStream() {
+
+        val paths = List.of(API_PATH, REQUIRED_API_PATH);
+        val jsons =
+            List.of(
+                "boolean.json",
+                "double.json",
+                "float.json",
+                "int32.json",
+                "int64.json",
+                "intArray.json",
+                "intArrayItem.json",
+                "integer.json",
+                "number.json",
+                "object.json",
+                "objectArray.json",
+                "objectArrayItem.json",
+                "objectArrayItemField.json",
+                "objectField1.json",
+                "objectField2.json",
+                "objectFieldBoth.json",
+                "string.json",
+                "stringArray.json",
+                "stringArrayItem.json",
+                "stringDateTimeFormat.json",
+                "stringDateFormat.json",
+                "stringToEnum.json",
+                "stringBinaryFormat.json",
+                "stringByteFormat.json",
+                "stringEmailFormat.json",
+                "stringHostnameFormat.json",
+                "stringIpv4Format.json",
+                "stringIpv6Format.json",
+                "stringPasswordFormat.json",
+                "stringUriFormat.json",
+                "stringUuidFormat.json");
+
+        return paths.stream().flatMap(path -> jsons.stream().map(json -> arguments(path, json)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {API_PATH, REQUIRED_API_PATH})
+    @DisplayName("全パラメータ値あり")
+    void okTest(String apiPath) throws Exception {
+
+        webTestClient.post().uri(apiPath)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(readJson("/json/ok.json"))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class).isEqualTo("{\"status\":\"OK\"}");
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = "argumentsStream")
+    @DisplayName("値がNullのフィールドあり")
+    void fieldIsNull(String apiPath, String jsonName) throws Exception {
+
+        if (REQUIRED_API_PATH.equals(apiPath) && API_ONLY_JSONS.contains(jsonName)) {
+            return;
+        }
+
+        val expected = REQUIRED_API_PATH.equals(apiPath) && !REQUIRED_API_NULLABLE_JSONS.contains(jsonName)
+            ? HttpStatus.BAD_REQUEST
+            : HttpStatus.OK;
+
+        webTestClient.post().uri(apiPath)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(readJson(String.join("/", "/json/fieldIsNull", jsonName)))
+            .exchange()
+            .expectStatus().isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = "argumentsStream")
+    @DisplayName("フィールドの欠損あり")
+    void fieldIsMissingTest(String apiPath, String jsonName) throws Exception {
+
+        webTestClient.post().uri(apiPath)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(readJson(String.join("/", "/json/fieldIsMissing", jsonName)))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class).isEqualTo("{\"status\":\"OK\"}");
+    }
+
+    private static String readJson(String jsonPath) throws IOException {
+        try (val is = SampleGradleOasGeneratorApiTest.class.getResourceAsStream(jsonPath)) {
+            return IOUtils.toString(Objects.requireNonNull(is), Charset.defaultCharset());
+        }
+    }
+}
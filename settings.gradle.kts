@@ -4,3 +4,6 @@ plugins {
 }
 
 rootProject.name = "sample-gradle-oas-generator"
+
+// WebFlux (Netty) で動作する Reactive 版
+include("reactive")
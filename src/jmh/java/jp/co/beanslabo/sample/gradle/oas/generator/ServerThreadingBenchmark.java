@@ -0,0 +1,99 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Platform Thread (Tomcat の Thread Pool) と Virtual Thread でリクエストを処理した場合の Benchmark.
+ *
+ * <p>アプリケーションを任意のポートで起動し、Tomcat の最大 Thread 数を超える並列数で
+ * {@code ok.json} を POST した場合のスループットを計測する.
+ * Thread の違いのみを計測するため、APIの同時実行数の制限 (Bulkhead) と、同じリクエストへの保存したレスポンスの返却は無効にする.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(256)
+public class ServerThreadingBenchmark {
+
+    /**
+     * {@code spring.threads.virtual.enabled} の設定値.
+     */
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    /**
+     * リクエスト先のAPI.
+     */
+    @Param({"/api/sample-gradle-oas-generator", "/api/sample-gradle-oas-generator-required"})
+    private String apiPath;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient httpClient;
+
+    private HttpRequest request;
+
+    @Setup
+    public void setup() throws IOException {
+
+        context = new SpringApplicationBuilder(SampleGradleOasGeneratorApplication.class)
+            .run("--server.port=0", "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--sample.bulkhead.enabled=false", "--sample.idempotency.enabled=false");
+        var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        byte[] body;
+        try (InputStream is = ServerThreadingBenchmark.class.getResourceAsStream("/json/ok.json")) {
+            body = Objects.requireNonNull(is).readAllBytes();
+        }
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + apiPath))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int post() throws IOException, InterruptedException {
+
+        var response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status: " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,118 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.compression;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.RecyclingBufferPool;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdInputStreamNoFinalizer;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonConfig;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonProperties;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 圧縮されたリクエストボディを展開しながら Deserialize する場合の CPU コストの Benchmark.
+ *
+ * <p>{@code string_array_field} / {@code object_array_field} に {@link #items} 件の要素を持つ JSON を、
+ * 圧縮なし / gzip / zstd で {@link PostV1SampleGradleOasGeneratorRequest} に変換する.
+ * 削減されるバイト数 (圧縮前後のサイズ) は Setup 時に標準出力に出力する.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestCompressionBenchmark {
+
+    /**
+     * 配列の要素数.
+     */
+    @Param({"10", "1000", "10000"})
+    private int items;
+
+    /**
+     * {@code Content-Encoding}.
+     */
+    @Param({"identity", "gzip", "zstd"})
+    private String encoding;
+
+    private ObjectMapper objectMapper;
+
+    private byte[] body;
+
+    @Setup
+    public void setup() throws IOException {
+
+        objectMapper = new JsonConfig().objectMapper(new JsonProperties(), new StandardEnvironment());
+
+        var strings = new ArrayList<String>();
+        var objects = new ArrayList<Map<String, Object>>();
+        for (int i = 0; i < items; i++) {
+            strings.add("string-value-" + i);
+            var object = new LinkedHashMap<String, Object>();
+            object.put("inner_id", i);
+            object.put("inner_name", "name-" + i);
+            objects.add(object);
+        }
+        var json = objectMapper.writeValueAsBytes(Map.of(
+            "string_array_field", strings,
+            "object_array_field", objects));
+
+        body = switch (encoding) {
+            case "gzip" -> gzip(json);
+            case "zstd" -> Zstd.compress(json);
+            default -> json;
+        };
+        System.out.printf("%n%s items=%d: %,d bytes -> %,d bytes (%.1f%% saved)%n",
+            encoding, items, json.length, body.length, 100.0 * (json.length - body.length) / json.length);
+    }
+
+    @Benchmark
+    public PostV1SampleGradleOasGeneratorRequest read() throws IOException {
+
+        try (InputStream in = decompress(new ByteArrayInputStream(body))) {
+            return objectMapper.readValue(in, PostV1SampleGradleOasGeneratorRequest.class);
+        }
+    }
+
+    private InputStream decompress(InputStream in) throws IOException {
+
+        return switch (encoding) {
+            case "gzip" -> new GZIPInputStream(in, 8 * 1024);
+            case "zstd" -> new ZstdInputStreamNoFinalizer(in, RecyclingBufferPool.INSTANCE);
+            default -> in;
+        };
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,131 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequiredRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JsonConfig#objectMapper(JsonProperties, org.springframework.core.env.Environment)} で生成される {@link ObjectMapper} の Benchmark.
+ *
+ * <p>{@code SampleGradleOasGeneratorApiTest#argumentsStream()} と同じ Fixture JSON を利用し、
+ * 両APIのリクエストオブジェクトについて Serialize / Deserialize の性能を計測する.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonConfigBenchmark {
+
+    /**
+     * Fixture JSON のディレクトリ.
+     */
+    @Param({"fieldIsNull", "fieldIsMissing"})
+    private String pattern;
+
+    /**
+     * Fixture JSON のファイル名.
+     */
+    @Param({
+        "boolean.json",
+        "double.json",
+        "float.json",
+        "int32.json",
+        "int64.json",
+        "intArray.json",
+        "intArrayItem.json",
+        "integer.json",
+        "number.json",
+        "object.json",
+        "objectArray.json",
+        "objectArrayItem.json",
+        "objectArrayItemField.json",
+        "objectField1.json",
+        "objectField2.json",
+        "objectFieldBoth.json",
+        "string.json",
+        "stringArray.json",
+        "stringArrayItem.json",
+        "stringDateTimeFormat.json",
+        "stringDateFormat.json",
+        "stringToEnum.json",
+        "stringBinaryFormat.json",
+        "stringByteFormat.json",
+        "stringEmailFormat.json",
+        "stringHostnameFormat.json",
+        "stringIpv4Format.json",
+        "stringIpv6Format.json",
+        "stringPasswordFormat.json",
+        "stringUriFormat.json",
+        "stringUuidFormat.json"})
+    private String json;
+
+    /**
+     * {@link JsonProperties#isBlackbirdEnabled()} の設定値.
+     */
+    @Param({"true", "false"})
+    private boolean blackbirdEnabled;
+
+    private ObjectMapper objectMapper;
+
+    private byte[] jsonBytes;
+
+    private PostV1SampleGradleOasGeneratorRequest request;
+
+    private PostV1SampleGradleOasGeneratorRequiredRequest requiredRequest;
+
+    @Setup
+    public void setup() throws IOException {
+
+        var jsonProperties = new JsonProperties();
+        jsonProperties.setBlackbirdEnabled(blackbirdEnabled);
+        objectMapper = new JsonConfig().objectMapper(jsonProperties, new StandardEnvironment());
+
+        var jsonPath = String.join("/", "/json", pattern, json);
+        try (InputStream is = JsonConfigBenchmark.class.getResourceAsStream(jsonPath)) {
+            jsonBytes = Objects.requireNonNull(is, jsonPath).readAllBytes();
+        }
+
+        request = objectMapper.readValue(jsonBytes, PostV1SampleGradleOasGeneratorRequest.class);
+        requiredRequest = objectMapper.readValue(jsonBytes, PostV1SampleGradleOasGeneratorRequiredRequest.class);
+    }
+
+    @Benchmark
+    public PostV1SampleGradleOasGeneratorRequest deserialize() throws IOException {
+        return objectMapper.readValue(jsonBytes, PostV1SampleGradleOasGeneratorRequest.class);
+    }
+
+    @Benchmark
+    public PostV1SampleGradleOasGeneratorRequiredRequest deserializeRequired() throws IOException {
+        return objectMapper.readValue(jsonBytes, PostV1SampleGradleOasGeneratorRequiredRequest.class);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] serializeRequired() throws IOException {
+        return objectMapper.writeValueAsBytes(requiredRequest);
+    }
+}
@@ -0,0 +1,72 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JsonProperties#isFastNumberParsingEnabled()} の有無による Deserialize の Benchmark.
+ *
+ * <p>{@code float_field} / {@code double_field} / {@code number_no_format} に
+ * 桁数の異なる数値を指定した JSON を Deserialize する.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParsingBenchmark {
+
+    /**
+     * 各フィールドに指定する数値.
+     */
+    @Param({
+        "1.5",
+        "3.141592653589793",
+        "-2.2250738585072014E-308",
+        "123456789012345678901234567890.123456789012345678901234567890"})
+    private String number;
+
+    /**
+     * {@link JsonProperties#isFastNumberParsingEnabled()} の設定値.
+     */
+    @Param({"true", "false"})
+    private boolean fastNumberParsingEnabled;
+
+    private ObjectMapper objectMapper;
+
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setup() {
+
+        var jsonProperties = new JsonProperties();
+        jsonProperties.setFastNumberParsingEnabled(fastNumberParsingEnabled);
+        objectMapper = new JsonConfig().objectMapper(jsonProperties, new StandardEnvironment());
+        jsonBytes = "{\"float_field\": %1$s, \"double_field\": %1$s, \"number_no_format\": %1$s}"
+            .formatted(number)
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public PostV1SampleGradleOasGeneratorRequest deserialize() throws IOException {
+        return objectMapper.readValue(jsonBytes, PostV1SampleGradleOasGeneratorRequest.class);
+    }
+}
@@ -0,0 +1,105 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.converter;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonConfig;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonProperties;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PooledBufferJsonHttpMessageConverter} と {@link MappingJackson2HttpMessageConverter} による
+ * リクエストボディの変換の Benchmark.
+ *
+ * <p>{@code ok.json} を {@link PostV1SampleGradleOasGeneratorRequest} に変換する.
+ * 1回あたりのメモリ割り当て量は {@code gc.alloc.rate.norm} で確認する.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBodyReadingBenchmark {
+
+    /**
+     * {@link PooledBufferJsonHttpMessageConverter} を利用するか.
+     */
+    @Param({"true", "false"})
+    private boolean pooled;
+
+    /**
+     * {@code Content-Length} を指定するか.
+     */
+    @Param({"true", "false"})
+    private boolean contentLength;
+
+    private MappingJackson2HttpMessageConverter converter;
+
+    private byte[] body;
+
+    @Setup
+    public void setup() throws IOException {
+
+        var objectMapper = new JsonConfig().objectMapper(new JsonProperties(), new StandardEnvironment());
+        converter = pooled
+            ? new PooledBufferJsonHttpMessageConverter(objectMapper, new ByteArrayPool(16 * 1024, 16),
+            PostV1SampleGradleOasGeneratorRequest.class.getPackageName())
+            : new MappingJackson2HttpMessageConverter(objectMapper);
+
+        try (InputStream is = RequestBodyReadingBenchmark.class.getResourceAsStream("/json/ok.json")) {
+            body = Objects.requireNonNull(is).readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public Object read() throws IOException {
+        return converter.read(PostV1SampleGradleOasGeneratorRequest.class, null, new InputMessage());
+    }
+
+    /**
+     * リクエストボディを読み込む {@link HttpInputMessage}.
+     */
+    private final class InputMessage implements HttpInputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        private InputMessage() {
+
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            if (contentLength) {
+                headers.setContentLength(body.length);
+            }
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
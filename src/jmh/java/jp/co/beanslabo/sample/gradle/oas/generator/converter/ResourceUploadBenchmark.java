@@ -0,0 +1,137 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.converter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SpoolingResourceHttpMessageConverter} と {@link ResourceHttpMessageConverter} による
+ * {@code application/octet-stream} のリクエストボディの読み込みの Benchmark.
+ *
+ * <p>{@link #size} バイトのリクエストボディを {@link Resource} として読み込み、読み込んだ内容を1回参照する.
+ * 一時ファイルの削除も含めて計測する. 1回あたりのメモリ割り当て量は {@code gc.alloc.rate.norm} で確認する.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceUploadBenchmark {
+
+    /**
+     * リクエストボディのサイズ.
+     */
+    @Param({"1048576", "67108864"})
+    private int size;
+
+    /**
+     * {@link SpoolingResourceHttpMessageConverter} を利用するか.
+     */
+    @Param({"true", "false"})
+    private boolean spool;
+
+    private ResourceHttpMessageConverter resourceConverter;
+
+    private SpoolingResourceHttpMessageConverter spoolingConverter;
+
+    private ServletRequestAttributes attributes;
+
+    @Setup
+    public void setup() {
+
+        resourceConverter = new ResourceHttpMessageConverter();
+        spoolingConverter = new SpoolingResourceHttpMessageConverter(null, Integer.MAX_VALUE);
+        attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public long read() throws IOException {
+
+        var resource = spool
+            ? spoolingConverter.read(Resource.class, new InputMessage())
+            : resourceConverter.read(Resource.class, new InputMessage());
+        try {
+            return resource.contentLength();
+        } finally {
+            SpoolingResourceHttpMessageConverter.deleteSpooledFiles(attributes);
+        }
+    }
+
+    /**
+     * {@link #size} バイトのリクエストボディを、一定のサイズずつ返す {@link HttpInputMessage}.
+     */
+    private final class InputMessage implements HttpInputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        private InputMessage() {
+
+            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+            headers.setContentLength(size);
+        }
+
+        @Override
+        public InputStream getBody() {
+
+            return new InputStream() {
+
+                private int remaining = size;
+
+                @Override
+                public int read() {
+
+                    if (remaining == 0) {
+                        return -1;
+                    }
+                    remaining--;
+                    return 'a';
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+
+                    if (remaining == 0) {
+                        return -1;
+                    }
+                    var n = Math.min(len, remaining);
+                    remaining -= n;
+                    return n;
+                }
+            };
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonConfig;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonProperties;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PrimitiveJsonNullableModule} の有無による Deserialize の Benchmark.
+ *
+ * <p>{@code JsonNullable<Integer>} / {@code JsonNullable<Long>} / {@code JsonNullable<Float>} /
+ * {@code JsonNullable<Double>} / {@code JsonNullable<Boolean>} のフィールドを含む JSON を Deserialize する.
+ * 1回あたりのメモリ割り当て量は {@code gc.alloc.rate.norm} ({@code -prof gc}) で確認する.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveJsonNullableDeserializerBenchmark {
+
+    /**
+     * Deserialize する JSON.
+     */
+    @Param({
+        "{\"int32_field\": 1, \"int64_field\": 2, \"integer_no_format\": 3, \"float_field\": 1.5,"
+            + " \"double_field\": 2.5, \"boolean_field\": true,"
+            + " \"object_field\": {\"id\": 100}, \"object_array_field\": [{\"inner_id\": 1}, {\"inner_id\": 2}]}",
+        "{\"int32_field\": null, \"int64_field\": null, \"integer_no_format\": null, \"float_field\": null,"
+            + " \"double_field\": null, \"boolean_field\": null,"
+            + " \"object_field\": {\"id\": null}, \"object_array_field\": [{\"inner_id\": null}, {\"inner_id\": null}]}",
+        "{\"int32_field\": 2147483647, \"int64_field\": 9223372036854775807, \"integer_no_format\": 100000,"
+            + " \"boolean_field\": false}"})
+    private String json;
+
+    /**
+     * {@link JsonProperties#isPrimitiveJsonNullableEnabled()} の設定値.
+     */
+    @Param({"true", "false"})
+    private boolean primitiveJsonNullableEnabled;
+
+    private ObjectMapper objectMapper;
+
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setup() {
+
+        var jsonProperties = new JsonProperties();
+        jsonProperties.setPrimitiveJsonNullableEnabled(primitiveJsonNullableEnabled);
+        objectMapper = new JsonConfig().objectMapper(jsonProperties, new StandardEnvironment());
+        jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public PostV1SampleGradleOasGeneratorRequest deserialize() throws IOException {
+        return objectMapper.readValue(jsonBytes, PostV1SampleGradleOasGeneratorRequest.class);
+    }
+}
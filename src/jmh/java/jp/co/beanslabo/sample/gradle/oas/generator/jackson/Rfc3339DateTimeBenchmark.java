@@ -0,0 +1,103 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonConfig;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Rfc3339DateTimeModule} の有無による {@code format: date} / {@code format: date-time} の変換の Benchmark.
+ *
+ * <p>100件の {@link OffsetDateTime} / {@link LocalDate} の配列を Serialize / Deserialize する.
+ * 日時は秒未満を含むものと含まないもの、JVM の Time Zone と同じ Offset と異なる Offset のものを混在させる.
+ * 1回あたりのメモリ割り当て量は {@code gc.alloc.rate.norm} で確認する.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Rfc3339DateTimeBenchmark {
+
+    private static final int SIZE = 100;
+
+    /**
+     * {@link JsonProperties#isFastDateTimeEnabled()} の設定値.
+     */
+    @Param({"true", "false"})
+    private boolean fastDateTimeEnabled;
+
+    private ObjectMapper objectMapper;
+
+    private OffsetDateTime[] dateTimes;
+
+    private LocalDate[] dates;
+
+    private byte[] dateTimesJson;
+
+    private byte[] datesJson;
+
+    @Setup
+    public void setup() throws IOException {
+
+        var jsonProperties = new JsonProperties();
+        jsonProperties.setFastDateTimeEnabled(fastDateTimeEnabled);
+        objectMapper = new JsonConfig().objectMapper(jsonProperties, new StandardEnvironment());
+
+        var random = new Random(0);
+        dateTimes = new OffsetDateTime[SIZE];
+        dates = new LocalDate[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            var dateTime = OffsetDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)
+                .plusSeconds(random.nextInt(10 * 365 * 24 * 3600))
+                .withNano(i % 2 == 0 ? 0 : random.nextInt(1000) * 1_000_000);
+            dateTimes[i] = i % 4 < 2 ? dateTime.withOffsetSameInstant(ZoneOffset.ofHours(9)) : dateTime;
+            dates[i] = dateTime.toLocalDate();
+        }
+        // Deserialize する JSON は Context の Time Zone に変換せず、異なる Offset を含める
+        dateTimesJson = objectMapper.writer().without(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE)
+            .writeValueAsBytes(dateTimes);
+        datesJson = objectMapper.writeValueAsBytes(dates);
+    }
+
+    @Benchmark
+    public OffsetDateTime[] deserializeDateTimes() throws IOException {
+        return objectMapper.readValue(dateTimesJson, OffsetDateTime[].class);
+    }
+
+    @Benchmark
+    public LocalDate[] deserializeDates() throws IOException {
+        return objectMapper.readValue(datesJson, LocalDate[].class);
+    }
+
+    @Benchmark
+    public byte[] serializeDateTimes() throws IOException {
+        return objectMapper.writeValueAsBytes(dateTimes);
+    }
+
+    @Benchmark
+    public byte[] serializeDates() throws IOException {
+        return objectMapper.writeValueAsBytes(dates);
+    }
+}
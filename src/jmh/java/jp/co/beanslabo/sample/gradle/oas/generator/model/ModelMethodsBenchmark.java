@@ -0,0 +1,111 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.model;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest.StringToEnumEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * open_api/templates のテンプレートから生成したモデルの hashCode / equals / toString と enum の fromValue の Benchmark.
+ *
+ * <p>{@code hashCode} / {@code contains} は全てのフィールドに値を設定したリクエストで計算・検索し、
+ * {@code toString} は10,000件のエラーを持つ {@link BatchResult} を文字列に変換する.
+ * テンプレートの有無による比較は、open_api/templates の pojo.mustache などを除いて生成したモデルで同じ Benchmark を実行して行う.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelMethodsBenchmark {
+
+    private static final int SIZE = 100;
+
+    private PostV1SampleGradleOasGeneratorRequest request;
+
+    private PostV1SampleGradleOasGeneratorRequest sameRequest;
+
+    private Set<PostV1SampleGradleOasGeneratorRequest> requests;
+
+    private BatchResult batchResult;
+
+    @Setup
+    public void setup() {
+
+        request = request(0);
+        sameRequest = request(0);
+        requests = new HashSet<>();
+        IntStream.range(0, SIZE).forEach(i -> requests.add(request(i)));
+        batchResult = new BatchResult(0, 400, IntStream.range(0, 10_000).mapToObj(i -> "error-" + i).toList());
+    }
+
+    private static PostV1SampleGradleOasGeneratorRequest request(int index) {
+        return new PostV1SampleGradleOasGeneratorRequest()
+            .stringField("string-" + index)
+            .stringDateFormat(LocalDate.of(2024, 1, 1).plusDays(index))
+            .stringDateTimeFormat(OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).plusSeconds(index))
+            .stringPasswordFormat("password")
+            .stringEmailFormat("user" + index + "@example.com")
+            .stringUuidFormat(new UUID(0, index))
+            .stringUriFormat(URI.create("https://example.com/" + index))
+            .stringHostnameFormat("example.com")
+            .stringIpv4Format("192.0.2.1")
+            .stringIpv6Format("2001:db8::1")
+            .stringToEnum(StringToEnumEnum._1)
+            .int32Field(index)
+            .int64Field((long) index)
+            .integerNoFormat(index)
+            .floatField(1.5f)
+            .doubleField(2.5)
+            .numberNoFormat(BigDecimal.valueOf(index))
+            .booleanField(true)
+            .stringArrayField(List.of("a", "b"))
+            .intArrayField(List.of(1, 2));
+    }
+
+    @Benchmark
+    public int hashCodeRepeated() {
+        return request.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsSame() {
+        return request.equals(sameRequest);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return requests.contains(sameRequest);
+    }
+
+    @Benchmark
+    public String toStringLarge() {
+        return batchResult.toString();
+    }
+
+    @Benchmark
+    public StringToEnumEnum fromValue() {
+        return StringToEnumEnum.fromValue("1");
+    }
+}
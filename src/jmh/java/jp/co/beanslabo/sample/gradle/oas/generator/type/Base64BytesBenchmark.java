@@ -0,0 +1,94 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.type;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonConfig;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code format: byte} のフィールドを {@code byte[]} と {@link Base64Bytes} で読み込む場合の Benchmark.
+ *
+ * <p>{@link #size} バイトのバイト列を Base64 で含む JSON を読み込む.
+ * {@code passThrough} は読み込んだ値をそのまま JSON に書き込む. 1回あたりのメモリ割り当て量は {@code gc.alloc.rate.norm} で確認する.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Base64BytesBenchmark {
+
+    /**
+     * バイト列のサイズ.
+     */
+    @Param({"1024", "1048576"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException {
+
+        objectMapper = new JsonConfig().objectMapper(new JsonProperties(), new StandardEnvironment());
+        var bytes = new byte[size];
+        new Random(0).nextBytes(bytes);
+        json = objectMapper.writeValueAsBytes(Map.of("string_byte_format", bytes));
+    }
+
+    @Benchmark
+    public byte[] eager() throws IOException {
+        return objectMapper.readValue(json, Eager.class).value();
+    }
+
+    @Benchmark
+    public Base64Bytes wrapped() throws IOException {
+        return objectMapper.readValue(json, Wrapped.class).value();
+    }
+
+    @Benchmark
+    public byte[] eagerPassThrough() throws IOException {
+        return objectMapper.writeValueAsBytes(objectMapper.readValue(json, Eager.class));
+    }
+
+    @Benchmark
+    public byte[] wrappedPassThrough() throws IOException {
+        return objectMapper.writeValueAsBytes(objectMapper.readValue(json, Wrapped.class));
+    }
+
+    /**
+     * {@code byte[]} で読み込む.
+     *
+     * @param value バイト列
+     */
+    public record Eager(@JsonProperty("string_byte_format") byte[] value) {
+    }
+
+    /**
+     * {@link Base64Bytes} で読み込む.
+     *
+     * @param value バイト列
+     */
+    public record Wrapped(@JsonProperty("string_byte_format") Base64Bytes value) {
+    }
+}
@@ -0,0 +1,81 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.validation;
+
+import jakarta.validation.ConstraintViolation;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonConfig;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonProperties;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequiredRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate Validator と {@link CompiledValidator} で、リクエストオブジェクトを検証した場合の Benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompiledValidatorBenchmark {
+
+    /**
+     * Fixture JSON のパス.
+     */
+    @Param({"/json/ok.json", "/json/fieldIsNull/string.json", "/json/fieldIsNull/objectArrayItemField.json"})
+    private String jsonPath;
+
+    private LocalValidatorFactoryBean beanValidator;
+
+    private CompiledValidator compiledValidator;
+
+    private PostV1SampleGradleOasGeneratorRequiredRequest request;
+
+    @Setup
+    public void setup() throws IOException {
+
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        compiledValidator = new CompiledValidator(beanValidator);
+
+        var objectMapper = new JsonConfig().objectMapper(new JsonProperties(), new StandardEnvironment());
+        try (InputStream is = CompiledValidatorBenchmark.class.getResourceAsStream(jsonPath)) {
+            request = objectMapper.readValue(
+                Objects.requireNonNull(is, jsonPath), PostV1SampleGradleOasGeneratorRequiredRequest.class);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        beanValidator.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<PostV1SampleGradleOasGeneratorRequiredRequest>> hibernateValidator() {
+        return beanValidator.validate(request);
+    }
+
+    @Benchmark
+    public List<Violation> compiledValidator() {
+        return compiledValidator.validate(request);
+    }
+}
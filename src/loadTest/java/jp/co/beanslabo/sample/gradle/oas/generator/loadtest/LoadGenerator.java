@@ -0,0 +1,180 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 設定された並列数・目標のリクエスト数でリクエストを送信し、レイテンシを記録するクラス.
+ *
+ * <p>open-loop ({@link LoadTestSettings#rate()} が正) の場合は、各リクエストの送信予定時刻を事前に決め、
+ * 送信予定時刻から応答までの時間を補正済みのレイテンシとして記録する.
+ * 前のリクエストの応答が遅れて送信予定時刻を過ぎた場合も、その待ち時間がレイテンシに含まれる (coordinated omission の補正).
+ *
+ * <p>closed-loop の場合は応答を待ってすぐに次を送信するため、送信予定時刻がない.
+ * 補正済みのレイテンシは、応答時間の中央値を期待する送信間隔として
+ * {@link Histogram#copyCorrectedForCoordinatedOmission(long)} で近似する.
+ *
+ * <p>h2c ({@link LoadTestSettings#http2()}) の場合は、全ての Thread のリクエストを1つの HTTP/2 の接続で多重化して送信する.
+ * HTTP/1.1 の場合は Thread ごとに接続を利用する.
+ */
+final class LoadGenerator {
+
+    private final LoadTestSettings settings;
+
+    private final Workload workload;
+
+    private final URI baseUri;
+
+    private final HttpClient httpClient;
+
+    LoadGenerator(LoadTestSettings settings, Workload workload, URI baseUri) {
+        this.settings = settings;
+        this.workload = workload;
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+            .version(settings.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+            .build();
+    }
+
+    /**
+     * リクエストボディのない GET で接続を確立する. <br>
+     * h2c の場合はこの接続で HTTP/2 に Upgrade し、以降のリクエストはこの接続で送信する.
+     * (サーバーによってはリクエストボディのあるリクエストの Upgrade に応じないため、先に Upgrade しておく)
+     *
+     * @return 接続の HTTP のバージョン
+     * @throws Exception 接続に失敗した場合
+     */
+    HttpClient.Version connect() throws Exception {
+
+        var request = HttpRequest.newBuilder(baseUri.resolve("/actuator/health")).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).version();
+    }
+
+    /**
+     * 指定した時間リクエストを送信する.
+     *
+     * @param duration 送信する時間
+     * @return 計測結果
+     * @throws Exception 送信に失敗した場合
+     */
+    LoadTestResult run(Duration duration) throws Exception {
+
+        var concurrency = settings.concurrency();
+        var start = System.nanoTime();
+        var end = start + duration.toNanos();
+        var statuses = new ConcurrentHashMap<Integer, LongAdder>();
+
+        var futures = new ArrayList<Future<Histogram[]>>();
+        var executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (var worker = 0; worker < concurrency; worker++) {
+                var index = worker;
+                futures.add(executor.submit(() -> runWorker(index, start, end, statuses)));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        var serviceTime = new Histogram(3);
+        var latency = new Histogram(3);
+        for (var future : futures) {
+            var histograms = future.get();
+            serviceTime.add(histograms[0]);
+            latency.add(histograms[1]);
+        }
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        if (!settings.openLoop() && serviceTime.getTotalCount() > 0) {
+            latency = serviceTime.copyCorrectedForCoordinatedOmission(serviceTime.getValueAtPercentile(50));
+        }
+
+        var statusCounts = new TreeMap<Integer, Long>();
+        statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+        return new LoadTestResult(settings, elapsed, serviceTime, latency, statusCounts);
+    }
+
+    /**
+     * 1つの Thread でリクエストを送信する. <br>
+     * open-loop の場合、各 Thread は {@code worker + concurrency * n} 番目の送信予定時刻を受け持つ.
+     *
+     * @return 応答時間と補正済みのレイテンシの {@link Histogram} (ナノ秒)
+     */
+    private Histogram[] runWorker(int worker, long start, long end, Map<Integer, LongAdder> statuses) {
+
+        var serviceTime = new Histogram(3);
+        var latency = new Histogram(3);
+
+        var intervalNanos = settings.openLoop() ? 1_000_000_000.0 / settings.rate() : 0;
+        var sequence = (long) worker;
+
+        while (true) {
+            long intended;
+            if (settings.openLoop()) {
+                intended = start + (long) (sequence * intervalNanos);
+                sequence += settings.concurrency();
+                if (intended >= end) {
+                    break;
+                }
+                parkUntil(intended);
+            } else {
+                intended = System.nanoTime();
+                if (intended >= end) {
+                    break;
+                }
+            }
+
+            var sent = System.nanoTime();
+            var status = send(workload.nextPath(), workload.nextPayload());
+            var received = System.nanoTime();
+
+            serviceTime.recordValue(received - sent);
+            latency.recordValue(received - intended);
+            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+        return new Histogram[] {serviceTime, latency};
+    }
+
+    /**
+     * リクエストを送信する.
+     *
+     * @return HTTP ステータスコード (通信に失敗した場合は -1)
+     */
+    private int send(String path, byte[] payload) {
+
+        var request = HttpRequest.newBuilder(baseUri.resolve(path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+            .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
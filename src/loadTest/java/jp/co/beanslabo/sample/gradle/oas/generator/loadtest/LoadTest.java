@@ -0,0 +1,49 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.loadtest;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.SampleGradleOasGeneratorApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.net.URI;
+
+/**
+ * アプリケーションを任意のポートで起動し、両APIに Fixture JSON を送信する負荷試験.
+ *
+ * <p>設定は {@link LoadTestSettings} を参照. {@code ./gradlew loadTest} で実行する.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args Command line arguments
+     * @throws Exception 負荷試験に失敗した場合
+     */
+    public static void main(String[] args) throws Exception {
+
+        var settings = LoadTestSettings.fromSystemProperties();
+        var workload = Workload.load(settings.fixtureDirectory(), settings.mix(), settings.paths());
+
+        // Fixture JSON を繰り返し送信するため、保存したレスポンスを返さずに毎回処理させる
+        try (var context = new SpringApplicationBuilder(SampleGradleOasGeneratorApplication.class)
+            .run("--server.port=0", "--logging.level.root=WARN", "--sample.idempotency.enabled=false")) {
+
+            var webServer = ((WebServerApplicationContext) context).getWebServer();
+            var generator = new LoadGenerator(settings, workload, URI.create("http://localhost:" + webServer.getPort()));
+
+            System.out.printf("server: %s, protocol: %s%n", webServer.getClass().getSimpleName(), generator.connect());
+            System.out.printf("payloads: %d, paths: %s, mix: %s%n", workload.size(), settings.paths(), settings.mix());
+            System.out.printf("warmup: %s%n", settings.warmup());
+            generator.run(settings.warmup());
+
+            var result = generator.run(settings.duration());
+            result.print(System.out);
+            result.write();
+            System.out.printf("report: %s%n", settings.reportDirectory().toAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 負荷試験の計測結果.
+ *
+ * @param settings     設定
+ * @param elapsed      計測時間 (最後の応答まで)
+ * @param serviceTime  応答時間 (送信から応答まで) の {@link Histogram} (ナノ秒)
+ * @param latency      coordinated omission を補正したレイテンシの {@link Histogram} (ナノ秒)
+ * @param statusCounts HTTP ステータスコードごとの件数 (通信の失敗は -1)
+ */
+record LoadTestResult(
+    LoadTestSettings settings,
+    Duration elapsed,
+    Histogram serviceTime,
+    Histogram latency,
+    Map<Integer, Long> statusCounts) {
+
+    private static final List<Double> PERCENTILES = List.of(50.0, 90.0, 99.0, 99.9, 99.99, 100.0);
+
+    /**
+     * 計測結果を出力する.
+     *
+     * @param out 出力先
+     */
+    void print(PrintStream out) {
+
+        var count = serviceTime.getTotalCount();
+        out.printf("mode: %s, protocol: %s, concurrency: %d, target rate: %s, duration: %s%n",
+            settings.openLoop() ? "open-loop" : "closed-loop",
+            settings.protocol(),
+            settings.concurrency(),
+            settings.openLoop() ? "%.0f req/s".formatted(settings.rate()) : "-",
+            settings.duration());
+        out.printf("requests: %,d, throughput: %,.1f req/s, status: %s%n",
+            count, count / (elapsed.toNanos() / 1_000_000_000.0), statusCounts);
+        out.printf("%-12s %14s %14s%n", "percentile", "service(ms)", "corrected(ms)");
+        for (var percentile : PERCENTILES) {
+            out.printf("%-12s %14.3f %14.3f%n",
+                percentile == 100.0 ? "max" : "p" + percentile,
+                millis(serviceTime, percentile),
+                millis(latency, percentile));
+        }
+    }
+
+    /**
+     * HdrHistogram のパーセンタイル分布 ({@code .hgrm}) をレポートのディレクトリに書き込む. <br>
+     * HdrHistogram の Plotter などで比較できる.
+     *
+     * @throws IOException 書き込みに失敗した場合
+     */
+    void write() throws IOException {
+
+        Files.createDirectories(settings.reportDirectory());
+        try (var out = new PrintStream(Files.newOutputStream(settings.reportDirectory().resolve("service-time.hgrm")))) {
+            serviceTime.outputPercentileDistribution(out, 1_000_000.0);
+        }
+        try (var out = new PrintStream(Files.newOutputStream(settings.reportDirectory().resolve("corrected.hgrm")))) {
+            latency.outputPercentileDistribution(out, 1_000_000.0);
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+
+        if (histogram.getTotalCount() == 0) {
+            return Double.NaN;
+        }
+        var nanos = percentile == 100.0 ? histogram.getMaxValue() : histogram.getValueAtPercentile(percentile);
+        return nanos / 1_000_000.0;
+    }
+}
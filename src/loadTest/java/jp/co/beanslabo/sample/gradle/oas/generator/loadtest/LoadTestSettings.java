@@ -0,0 +1,86 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 負荷試験の設定. <br>
+ * System Property ({@code ./gradlew loadTest -PloadTest.xxx=...} で指定) から生成する.
+ *
+ * @param concurrency      並列数 (リクエストを送信する Thread 数)
+ * @param protocol         送信に利用する HTTP のバージョン ({@code http1} または {@code h2c})
+ * @param rate             目標のリクエスト数 (毎秒). 0 の場合は応答を待ってすぐに次を送信する (closed-loop)
+ * @param warmup           ウォームアップ時間 (計測しない)
+ * @param duration         計測時間
+ * @param paths            リクエスト先のAPI (ランダムに選択する)
+ * @param mix              Fixture JSON のグループと重み ({@link Workload} を参照)
+ * @param fixtureDirectory Fixture JSON のディレクトリ
+ * @param reportDirectory  レポートの出力先
+ */
+record LoadTestSettings(
+    int concurrency,
+    String protocol,
+    double rate,
+    Duration warmup,
+    Duration duration,
+    List<String> paths,
+    Map<String, Integer> mix,
+    Path fixtureDirectory,
+    Path reportDirectory) {
+
+    /**
+     * System Property から生成する.
+     *
+     * @return 設定
+     */
+    static LoadTestSettings fromSystemProperties() {
+
+        return new LoadTestSettings(
+            Integer.parseInt(property("concurrency", "16")),
+            property("protocol", "http1"),
+            Double.parseDouble(property("rate", "0")),
+            Duration.ofSeconds(Long.parseLong(property("warmup", "10"))),
+            Duration.ofSeconds(Long.parseLong(property("duration", "30"))),
+            List.of(property("paths", "/api/sample-gradle-oas-generator,/api/sample-gradle-oas-generator-required")
+                .split(",")),
+            parseMix(property("mix", "ok=8,fieldIsMissing=1,fieldIsNull=1")),
+            Path.of(property("fixtures", "src/test/resources/json")),
+            Path.of(property("reports", "build/reports/loadTest")));
+    }
+
+    /**
+     * open-loop (目標のリクエスト数で送信) か.
+     *
+     * @return open-loop の場合は true
+     */
+    boolean openLoop() {
+        return rate > 0;
+    }
+
+    /**
+     * HTTP/2 (h2c) で送信するか.
+     *
+     * @return h2c の場合は true
+     */
+    boolean http2() {
+        return "h2c".equals(protocol);
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadTest." + name, defaultValue);
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+
+        var weights = new LinkedHashMap<String, Integer>();
+        Arrays.stream(mix.split(","))
+            .map(entry -> entry.split("=", 2))
+            .forEach(entry -> weights.put(entry[0].trim(), entry.length > 1 ? Integer.parseInt(entry[1].trim()) : 1));
+        return weights;
+    }
+}
@@ -0,0 +1,120 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * 負荷試験で送信するリクエストの組み合わせ.
+ *
+ * <p>Fixture JSON のグループごとに重みを指定する. グループは以下のいずれか.
+ *
+ * <ul>
+ *   <li>{@code ok}: {@code ok.json}
+ *   <li>ディレクトリ名 ({@code fieldIsNull} など): ディレクトリ内の全ての JSON (均等に選択する)
+ * </ul>
+ *
+ * <p>リクエスト先のAPIは均等にランダムに選択する.
+ */
+final class Workload {
+
+    private final List<String> paths;
+
+    private final List<byte[]> payloads = new ArrayList<>();
+
+    private final List<Double> cumulativeWeights = new ArrayList<>();
+
+    private double totalWeight;
+
+    private Workload(List<String> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * Fixture JSON を読み込む.
+     *
+     * @param fixtureDirectory Fixture JSON のディレクトリ
+     * @param mix              グループと重み
+     * @param paths            リクエスト先のAPI
+     * @return {@link Workload}
+     * @throws IOException 読み込みに失敗した場合
+     */
+    static Workload load(Path fixtureDirectory, Map<String, Integer> mix, List<String> paths) throws IOException {
+
+        var workload = new Workload(paths);
+        for (var entry : mix.entrySet()) {
+            var group = fixtureDirectory.resolve(entry.getKey());
+            var files = Files.isDirectory(group) ? list(group) : List.of(fixtureDirectory.resolve(entry.getKey() + ".json"));
+            // グループの重みをファイル数で按分する
+            for (var file : files) {
+                workload.add(Files.readAllBytes(file), (double) entry.getValue() / files.size());
+            }
+        }
+        if (workload.totalWeight == 0) {
+            throw new IllegalArgumentException("Empty workload: " + mix);
+        }
+        return workload;
+    }
+
+    /**
+     * リクエスト先のAPIをランダムに選択する.
+     *
+     * @return API のパス
+     */
+    String nextPath() {
+        return paths.get(ThreadLocalRandom.current().nextInt(paths.size()));
+    }
+
+    /**
+     * 重みに従ってリクエストボディをランダムに選択する.
+     *
+     * @return リクエストボディ
+     */
+    byte[] nextPayload() {
+
+        var value = ThreadLocalRandom.current().nextDouble(totalWeight);
+        var low = 0;
+        var high = cumulativeWeights.size() - 1;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (cumulativeWeights.get(middle) > value) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return payloads.get(low);
+    }
+
+    /**
+     * リクエストボディの種類の数.
+     *
+     * @return 種類の数
+     */
+    int size() {
+        return payloads.size();
+    }
+
+    private void add(byte[] payload, double weight) {
+
+        if (weight <= 0) {
+            return;
+        }
+        totalWeight += weight;
+        payloads.add(payload);
+        cumulativeWeights.add(totalWeight);
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".json")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Load test tools.<br>
+ * アプリケーションを起動し、両APIに負荷をかけてスループットとレイテンシを計測するツールを格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.loadtest;
@@ -0,0 +1,109 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.aot;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.controller.SampleGradleOasGeneratorResponses;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGenerator200Response;
+import lombok.val;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.Serializable;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * OpenAPI Generator で生成したモデルを Native Image で利用するためのヒントを登録する {@link RuntimeHintsRegistrar}.
+ *
+ * <ul>
+ *   <li>Jackson による変換と Bean Validation のための Reflection ({@link BindingReflectionHintsRegistrar}).
+ *   <li>enum の {@code fromValue} などの public メソッドの呼び出し.
+ *   <li>{@code serializableModel=true} で生成される {@link Serializable} なモデルと、そのフィールドの型の Java Serialization.
+ *   <li>{@link SampleGradleOasGeneratorResponses} の変更不可のレスポンスの Serialize.
+ * </ul>
+ *
+ * <p>モデルのクラスは AOT 処理時にモデルのパッケージから検索する.
+ */
+public class ModelRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String MODEL_PACKAGE = PostV1SampleGradleOasGenerator200Response.class.getPackageName();
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+
+        val modelTypes = findModelTypes(classLoader);
+        modelTypes.add(SampleGradleOasGeneratorResponses.OK.getBody().getClass());
+
+        for (val modelType : modelTypes) {
+            bindingRegistrar.registerReflectionHints(hints.reflection(), modelType);
+            hints.reflection().registerType(modelType,
+                MemberCategory.INTROSPECT_DECLARED_METHODS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            registerSerializationHints(hints, modelType);
+        }
+
+        bindingRegistrar.registerReflectionHints(hints.reflection(), JsonNullable.class);
+    }
+
+    private static Set<Class<?>> findModelTypes(ClassLoader classLoader) {
+
+        val scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+
+        val types = new LinkedHashSet<Class<?>>();
+        for (val beanDefinition : scanner.findCandidateComponents(MODEL_PACKAGE)) {
+            types.add(ClassUtils.resolveClassName(Objects.requireNonNull(beanDefinition.getBeanClassName()), classLoader));
+        }
+        return types;
+    }
+
+    /**
+     * モデルとフィールドの型 (型引数を含む) のうち {@link Serializable} なものを Java Serialization の対象として登録する.
+     */
+    private static void registerSerializationHints(RuntimeHints hints, Class<?> modelType) {
+
+        if (!Serializable.class.isAssignableFrom(modelType)) {
+            return;
+        }
+
+        val types = new LinkedHashSet<Class<?>>();
+        types.add(modelType);
+        ReflectionUtils.doWithLocalFields(modelType, field -> {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                collectTypes(ResolvableType.forField(field), types);
+            }
+        });
+        // List のフィールドは ArrayList で初期化される
+        types.add(ArrayList.class);
+
+        types.stream()
+            .filter(type -> !type.isPrimitive() && Serializable.class.isAssignableFrom(type))
+            .forEach(type -> hints.serialization().registerType(TypeReference.of(type)));
+    }
+
+    private static void collectTypes(ResolvableType type, Set<Class<?>> types) {
+
+        val rawType = type.resolve();
+        if (rawType == null) {
+            return;
+        }
+        // JsonNullable<String> と JsonNullable<BigDecimal> のように型引数のみ異なる場合があるため、型引数は常に辿る
+        types.add(rawType);
+        for (val generic : type.getGenerics()) {
+            collectTypes(generic, types);
+        }
+    }
+}
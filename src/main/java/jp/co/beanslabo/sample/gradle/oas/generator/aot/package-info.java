@@ -0,0 +1,5 @@
+/**
+ * Spring AOT / GraalVM Native Image classes.<br>
+ * Native Image のビルドに必要な Reflection などのヒントを登録するクラスを格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.aot;
@@ -0,0 +1,78 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.async;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.config.AsyncProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Delegate の処理を {@link AsyncProperties#getExecutorType()} の Executor で実行し、
+ * 結果を {@link CompletableFuture} で返すクラス.
+ *
+ * <p>Servlet コンテナの Thread は {@link CompletableFuture} を返した時点で解放され、
+ * 処理の完了後に ASYNC の dispatch でレスポンスを書き込む. <br>
+ * Executor が処理を受け付けない場合は {@code 503 Service Unavailable} とする.
+ * 処理が {@link AsyncProperties#getTimeout()} 以内に完了しない場合は、処理を中断 (interrupt) し
+ * {@link AsyncRequestTimeoutException} ({@code 503 Service Unavailable}) とする.
+ * 中断した処理の終了は待たないため、処理がリクエストに紐づくリソースを利用している場合は、
+ * レスポンスの完了後に利用する場合があることに注意する.
+ *
+ * <p>処理は Servlet コンテナの Thread の {@link org.springframework.web.context.request.RequestContextHolder} を引き継がない.
+ * 最初の dispatch の完了時にリクエストの属性は参照できなくなるため、
+ * 処理で必要な値は {@link #submit(Callable)} を呼び出す Thread で取得して渡す.
+ */
+@Component
+@RequiredArgsConstructor
+public class DelegateExecutor {
+
+    private final ExecutorService delegateExecutorService;
+
+    private final AsyncProperties asyncProperties;
+
+    /**
+     * 処理を開始する.
+     *
+     * @param task Delegate の処理
+     * @param <T>  処理結果の型
+     * @return 処理結果. 処理が例外を送出した場合は、その例外で完了する
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+
+        val result = new CompletableFuture<T>();
+        final Future<?> running;
+        try {
+            running = delegateExecutorService.submit(() -> {
+                try {
+                    result.complete(task.call());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Delegate executor is saturated", e));
+        }
+
+        return result
+            .orTimeout(asyncProperties.getTimeout().toNanos(), TimeUnit.NANOSECONDS)
+            .exceptionallyCompose(e -> {
+                if (e instanceof TimeoutException) {
+                    running.cancel(true);
+                    return CompletableFuture.failedFuture(new AsyncRequestTimeoutException());
+                }
+                return result;
+            });
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Async classes.<br>
+ * Delegate の処理を Servlet コンテナの Thread から切り離して実行するクラスを格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.async;
@@ -0,0 +1,22 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.batch;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * バッチAPIの要素1件を処理する関数.
+ *
+ * @param <T> 要素の型
+ */
+@FunctionalInterface
+public interface BatchItemHandler<T> {
+
+    /**
+     * 要素1件を処理する.
+     *
+     * @param item バリデーション済みの要素
+     * @return 単体のAPIを呼び出した場合のレスポンス
+     * @throws Exception 処理に失敗した場合
+     */
+    ResponseEntity<?> handle(T item) throws Exception;
+}
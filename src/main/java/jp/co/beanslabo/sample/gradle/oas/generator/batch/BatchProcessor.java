@@ -0,0 +1,374 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.batch;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.BatchProperties;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.BatchResult;
+import jp.co.beanslabo.sample.gradle.oas.generator.validation.CompiledValidator;
+import jp.co.beanslabo.sample.gradle.oas.generator.validation.Violation;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * バッチAPIのリクエストボディを並列に処理するクラス.
+ *
+ * <p>リクエストボディは1件1行の JSON (NDJSON) または JSON の配列として逐次読み込み、
+ * 要素ごとのバインド・バリデーション・処理を {@link ForkJoinPool} で並列に行う. <br>
+ * 処理結果は {@link BatchResult} を1件1行の JSON とした {@link InputStream} として返し、
+ * 処理が完了した要素から順に読み出せる. <br>
+ * リクエストボディの読み込みは、処理結果の読み出しと別の Thread (Delegate の {@link ExecutorService}) で行うため、
+ * リクエストボディの受信中も処理が完了した要素の結果を読み出せる.
+ * 処理中の要素数は {@link BatchProperties#getMaxInFlight()} までに制限するため、
+ * 要素数に関わらずメモリ使用量は一定となる.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchProcessor {
+
+    private static final byte LINE_SEPARATOR = '\n';
+
+    /**
+     * リクエストボディの読み込みの終了を示す {@link Result}.
+     */
+    private static final Result END = new Result(null, null);
+
+    private final ObjectMapper objectMapper;
+
+    private final CompiledValidator validator;
+
+    private final ForkJoinPool batchExecutor;
+
+    private final ExecutorService delegateExecutorService;
+
+    private final BatchProperties batchProperties;
+
+    /**
+     * リクエストボディの処理を開始する. <br>
+     * 要素の読み込みと処理は、戻り値の {@link InputStream} を読み出すことで進行する.
+     *
+     * @param inputStream リクエストボディの {@link InputStream}
+     * @param itemType    要素の型
+     * @param handler     バリデーション済みの要素を処理する関数
+     * @param <T>         要素の型
+     * @return 処理結果を1件1行の JSON で返す {@link InputStream}
+     * @throws IOException リクエストボディの読み込みに失敗した場合
+     */
+    public <T> InputStream process(InputStream inputStream, Class<T> itemType, BatchItemHandler<T> handler)
+        throws IOException {
+
+        val maxInFlight = batchProperties.getMaxInFlight() > 0
+            ? batchProperties.getMaxInFlight()
+            : batchExecutor.getParallelism() * 2;
+
+        return new BatchResultInputStream<>(objectMapper.createParser(inputStream), itemType, handler, maxInFlight);
+    }
+
+    /**
+     * 要素1件をバインド・バリデーションし、処理する.
+     *
+     * @return 処理結果 ({@link BatchResult} の JSON と改行)
+     */
+    private <T> byte[] processItem(int index, TokenBuffer buffer, Class<T> itemType, BatchItemHandler<T> handler)
+        throws IOException {
+
+        final T item;
+        try (val parser = buffer.asParserOnFirstToken()) {
+            item = objectMapper.readValue(parser, itemType);
+        } catch (JsonProcessingException e) {
+            return toLine(index, HttpStatus.BAD_REQUEST.value(), List.of(e.getOriginalMessage()));
+        }
+
+        if (item == null) {
+            return toLine(index, HttpStatus.BAD_REQUEST.value(), List.of("リクエストボディがありません"));
+        }
+
+        val violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            return toLine(index, HttpStatus.BAD_REQUEST.value(), violations.stream()
+                .map(Violation::toString)
+                .sorted()
+                .toList());
+        }
+
+        try {
+            return toLine(index, handler.handle(item).getStatusCode().value(), List.of());
+        } catch (ResponseStatusException e) {
+            return toLine(index, e.getStatusCode().value(),
+                e.getReason() == null ? List.of() : List.of(e.getReason()));
+        } catch (Exception e) {
+            return toLine(index, HttpStatus.INTERNAL_SERVER_ERROR.value(), List.of(String.valueOf(e.getMessage())));
+        }
+    }
+
+    private byte[] toLine(int index, int status, List<String> errors) throws IOException {
+
+        val json = objectMapper.writeValueAsBytes(new BatchResult(index, status, errors));
+        val line = new byte[json.length + 1];
+        System.arraycopy(json, 0, line, 0, json.length);
+        line[json.length] = LINE_SEPARATOR;
+
+        return line;
+    }
+
+    /**
+     * 要素を読み込みながら並列に処理し、処理結果を返す {@link InputStream}.
+     *
+     * <p>最初の読み出し時に、リクエストボディの読み込みを Delegate の {@link ExecutorService} で開始する.
+     * 読み込みは処理中の要素数が上限に達した場合に待機し、処理結果が読み出されると再開する. <br>
+     * 読み出しは処理が完了した要素から順に結果を返すため、リクエストボディの受信中でも、
+     * 処理が完了した要素の結果を読み出せる. {@link #available()} は、待機せずに読み出せる処理結果のサイズを返す.
+     * JSON の構文エラーが発生した場合は以降の要素を読み込めないため、
+     * 処理中の要素の結果を返した後に構文エラーの結果を返して終了する.
+     */
+    private final class BatchResultInputStream<T> extends InputStream {
+
+        private final JsonParser parser;
+
+        private final Class<T> itemType;
+
+        private final BatchItemHandler<T> handler;
+
+        private final Semaphore inFlight;
+
+        private final BlockingQueue<Result> results = new LinkedBlockingQueue<>();
+
+        private Future<?> reader;
+
+        /*
+         * 以下は読み込みの Thread でのみ更新し、END の追加により読み出しの Thread に公開する
+         */
+        private boolean started;
+
+        private boolean arrayFormat;
+
+        private int readCount;
+
+        private byte[] syntaxError;
+
+        private IOException readError;
+
+        private boolean ended;
+
+        private int takenCount;
+
+        private byte[] current = new byte[0];
+
+        private int position;
+
+        BatchResultInputStream(JsonParser parser, Class<T> itemType, BatchItemHandler<T> handler, int maxInFlight) {
+
+            this.parser = parser;
+            this.itemType = itemType;
+            this.handler = handler;
+            this.inFlight = new Semaphore(maxInFlight);
+        }
+
+        @Override
+        public int read() throws IOException {
+
+            if (!fill()) {
+                return -1;
+            }
+            return current[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+
+            val length = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, length);
+            position += length;
+
+            return length;
+        }
+
+        @Override
+        public int available() throws IOException {
+
+            start();
+            if (position < current.length) {
+                return current.length - position;
+            }
+            val next = results.peek();
+            return next == null || next.line() == null ? 0 : next.line().length;
+        }
+
+        /**
+         * 読み出し中の処理結果がない場合に、次の処理結果を取得する.
+         *
+         * @return 読み出せる処理結果がある場合は true
+         */
+        private boolean fill() throws IOException {
+
+            if (position < current.length) {
+                return true;
+            }
+            start();
+
+            while (!ended || takenCount < readCount) {
+                val result = take();
+                if (result == END) {
+                    ended = true;
+                    if (readError != null) {
+                        throw readError;
+                    }
+                    continue;
+                }
+                if (result.error() != null) {
+                    throw result.error();
+                }
+
+                takenCount++;
+                inFlight.release();
+                current = result.line();
+                position = 0;
+                return true;
+            }
+
+            if (syntaxError != null) {
+                current = syntaxError;
+                syntaxError = null;
+                position = 0;
+                return true;
+            }
+            return false;
+        }
+
+        private void start() throws IOException {
+
+            if (reader != null) {
+                return;
+            }
+            try {
+                reader = delegateExecutorService.submit(this::readItems);
+            } catch (RejectedExecutionException e) {
+                throw new IOException("リクエストボディの読み込みを開始できません", e);
+            }
+        }
+
+        /**
+         * リクエストボディを読み込み、要素ごとの処理を依頼する. <br>
+         * 読み込みの Thread で実行し、終了時に {@link #END} を追加する.
+         */
+        private void readItems() {
+
+            try (parser) {
+                while (true) {
+                    inFlight.acquire();
+                    val buffer = nextItem();
+                    if (buffer == null) {
+                        break;
+                    }
+
+                    val index = readCount;
+                    batchExecutor.execute(() -> {
+                        try {
+                            results.add(new Result(processItem(index, buffer, itemType, handler), null));
+                        } catch (IOException e) {
+                            results.add(new Result(null, e));
+                        } catch (RuntimeException e) {
+                            results.add(new Result(null, new IOException(e)));
+                        }
+                    });
+                    readCount++;
+                }
+            } catch (IOException e) {
+                readError = e;
+            } catch (RejectedExecutionException e) {
+                readError = new IOException(e);
+            } catch (InterruptedException e) {
+                // close() で中断した場合は、処理結果を読み出さない
+                Thread.currentThread().interrupt();
+            } finally {
+                results.add(END);
+            }
+        }
+
+        /**
+         * 次の要素を読み込む.
+         *
+         * @return 要素 (終端または構文エラーの場合は null)
+         */
+        private TokenBuffer nextItem() throws IOException {
+
+            try {
+                var token = parser.nextToken();
+                if (!started) {
+                    started = true;
+                    arrayFormat = token == JsonToken.START_ARRAY;
+                    if (arrayFormat) {
+                        token = parser.nextToken();
+                    }
+                }
+                if (token == null || (arrayFormat && token == JsonToken.END_ARRAY)) {
+                    return null;
+                }
+
+                return TokenBuffer.asCopyOfValue(parser);
+            } catch (JsonParseException e) {
+                syntaxError = toLine(readCount, HttpStatus.BAD_REQUEST.value(), List.of(e.getOriginalMessage()));
+                return null;
+            }
+        }
+
+        private Result take() throws IOException {
+
+            try {
+                return results.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(e.getMessage());
+            }
+        }
+
+        /**
+         * リクエストボディの読み込みを中断する. <br>
+         * 処理中の要素は {@link BatchProperties#getMaxInFlight()} 件までのため、処理の完了を待たずに破棄する.
+         */
+        @Override
+        public void close() throws IOException {
+
+            if (reader == null) {
+                parser.close();
+            } else if (!ended) {
+                reader.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * 要素1件の処理結果.
+     *
+     * @param line  処理結果 ({@link BatchResult} の JSON と改行)
+     * @param error 要素の処理に失敗した場合の例外
+     */
+    private record Result(byte[] line, IOException error) {
+    }
+}
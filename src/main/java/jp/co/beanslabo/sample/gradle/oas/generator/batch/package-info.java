@@ -0,0 +1,5 @@
+/**
+ * Batch classes.<br>
+ * 複数件のリクエストをまとめて受け付け、並列に処理するクラスを格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.batch;
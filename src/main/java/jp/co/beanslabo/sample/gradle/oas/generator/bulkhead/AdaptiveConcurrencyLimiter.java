@@ -0,0 +1,187 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.bulkhead;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.config.BulkheadProperties;
+import lombok.val;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 処理時間に応じて上限を調整する、同時実行数の制限.
+ *
+ * <p>同時実行数が上限に達している場合は、{@link BulkheadProperties#getQueueSize()} 件まで
+ * {@link BulkheadProperties#getQueueTimeout()} の間だけ待機させ、それを超えるリクエストは拒否する.
+ *
+ * <p>上限は処理時間の指数移動平均を、直近 (短期) と長期の2つで比較して調整する (AIMD).
+ * <ul>
+ *   <li>短期の平均が長期の平均の {@link BulkheadProperties#getTolerance()} 倍を超えた場合は、
+ *       上限に {@link BulkheadProperties#getBackoffRatio()} を掛けて減らす
+ *   <li>それ以外で、同時実行数が上限の半分以上の場合は、上限を1増やす
+ * </ul>
+ * 処理が詰まり始めた時点で上限が下がるため、待機列が伸びて全てのリクエストが遅くなる前に超過分を拒否できる.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * 短期の指数移動平均の平滑化係数.
+     */
+    static final double SHORT_SMOOTHING = 0.1;
+
+    /**
+     * 長期の指数移動平均の平滑化係数.
+     */
+    static final double LONG_SMOOTHING = 0.001;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final int queueSize;
+
+    private final long queueTimeoutNanos;
+
+    private final double tolerance;
+
+    private final double backoffRatio;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+
+    private int inFlight;
+
+    private int waiting;
+
+    private double shortRtt;
+
+    private double longRtt;
+
+    /**
+     * コンストラクタ.
+     *
+     * @param properties Bulkhead に関する設定値
+     */
+    public AdaptiveConcurrencyLimiter(BulkheadProperties properties) {
+
+        if (properties.getMinLimit() < 1 || properties.getMaxLimit() < properties.getMinLimit()) {
+            throw new IllegalArgumentException(
+                "Invalid limit range: " + properties.getMinLimit() + ".." + properties.getMaxLimit());
+        }
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.queueSize = Math.max(0, properties.getQueueSize());
+        this.queueTimeoutNanos = properties.getQueueTimeout().toNanos();
+        this.tolerance = properties.getTolerance();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.limit = clamp(properties.getInitialLimit());
+    }
+
+    /**
+     * 処理の開始を試みる. <br>
+     * true を返した場合は、処理の終了時に必ず {@link #release(long)} を呼び出すこと.
+     *
+     * @return 処理を開始できる場合は true、拒否する場合は false
+     * @throws InterruptedException 待機中に割り込まれた場合
+     */
+    public boolean tryAcquire() throws InterruptedException {
+
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+            if (waiting >= queueSize || queueTimeoutNanos <= 0) {
+                return false;
+            }
+            waiting++;
+            try {
+                long remaining = queueTimeoutNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 処理の終了を通知し、処理時間から上限を調整する.
+     *
+     * @param rttNanos 処理時間 (ナノ秒)
+     */
+    public void release(long rttNanos) {
+
+        lock.lock();
+        try {
+            inFlight--;
+            if (longRtt == 0) {
+                shortRtt = rttNanos;
+                longRtt = rttNanos;
+            } else {
+                shortRtt += (rttNanos - shortRtt) * SHORT_SMOOTHING;
+                longRtt += (rttNanos - longRtt) * LONG_SMOOTHING;
+            }
+
+            if (shortRtt > longRtt * tolerance) {
+                limit = clamp(limit * backoffRatio);
+            } else if ((inFlight + 1) * 2 >= (int) limit) {
+                limit = clamp(limit + 1);
+            }
+
+            val available = (int) limit - inFlight;
+            if (available > 1) {
+                released.signalAll();
+            } else if (available == 1) {
+                released.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 現在の同時実行数の上限を取得する.
+     *
+     * @return 同時実行数の上限
+     */
+    public int getLimit() {
+
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 現在の同時実行数を取得する.
+     *
+     * @return 同時実行数
+     */
+    public int getInFlight() {
+
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
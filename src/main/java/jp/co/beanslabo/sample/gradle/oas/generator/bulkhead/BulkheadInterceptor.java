@@ -0,0 +1,92 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.bulkhead;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.BulkheadProperties;
+import jp.co.beanslabo.sample.gradle.oas.generator.controller.ApiOperations;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Optional;
+
+/**
+ * OpenAPI で生成した API の同時実行数を、{@link BulkheadProperties#getKeyType()} の単位で制限する {@link HandlerInterceptor}.
+ *
+ * <p>上限を超えたリクエストは、リクエストボディを読み込む前に {@code 503 Service Unavailable} と
+ * {@code Retry-After} ヘッダのみのレスポンスを返す.
+ * 非同期処理のリクエストは、最初の dispatch で開始し、完了時 ({@link #afterCompletion}) に終了する.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    /**
+     * 処理中の {@link Permit} を保持するリクエストの属性名.
+     */
+    static final String ATTRIBUTE_NAME = BulkheadInterceptor.class.getName() + ".permit";
+
+    private final BulkheadProperties bulkheadProperties;
+
+    private final Bulkheads bulkheads;
+
+    @Override
+    public boolean preHandle(
+        @NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler)
+        throws InterruptedException {
+
+        if (!(handler instanceof HandlerMethod handlerMethod)
+            || request.getAttribute(ATTRIBUTE_NAME) != null) {
+            return true;
+        }
+        val key = key(handlerMethod);
+        if (key.isEmpty()) {
+            return true;
+        }
+
+        val limiter = bulkheads.limiter(key.get());
+        if (!limiter.tryAcquire()) {
+            bulkheads.rejected(key.get());
+            reject(response);
+            return false;
+        }
+        request.setAttribute(ATTRIBUTE_NAME, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+        @NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler,
+        Exception ex) {
+
+        if (request.getAttribute(ATTRIBUTE_NAME) instanceof Permit permit) {
+            request.removeAttribute(ATTRIBUTE_NAME);
+            permit.limiter().release(System.nanoTime() - permit.startNanos());
+        }
+    }
+
+    private Optional<String> key(HandlerMethod handlerMethod) {
+
+        return switch (bulkheadProperties.getKeyType()) {
+            case OPERATION -> ApiOperations.operationId(handlerMethod);
+            case TAG -> ApiOperations.tag(handlerMethod);
+        };
+    }
+
+    private void reject(HttpServletResponse response) {
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+            String.valueOf(Math.max(1, bulkheadProperties.getRetryAfter().toSeconds())));
+        response.setContentLength(0);
+    }
+
+    private record Permit(AdaptiveConcurrencyLimiter limiter, long startNanos) {
+    }
+}
@@ -0,0 +1,84 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.BulkheadProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * operationId またはタグごとの {@link AdaptiveConcurrencyLimiter} を管理するクラス.
+ *
+ * <p>同時実行数の上限を {@value #LIMIT_METRIC_NAME}、拒否したリクエスト数を {@value #REJECTED_METRIC_NAME} に記録する.
+ */
+@Component
+@RequiredArgsConstructor
+public class Bulkheads {
+
+    /**
+     * 同時実行数の上限の Metrics の名前.
+     */
+    public static final String LIMIT_METRIC_NAME = "sample.bulkhead.limit";
+
+    /**
+     * 拒否したリクエスト数の Metrics の名前.
+     */
+    public static final String REJECTED_METRIC_NAME = "sample.bulkhead.rejected";
+
+    /**
+     * 制限の単位 (operationId またはタグ) の tag.
+     */
+    public static final String KEY_TAG = "key";
+
+    private final BulkheadProperties bulkheadProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    /**
+     * 制限の単位ごとの {@link AdaptiveConcurrencyLimiter} を取得する.
+     *
+     * @param key operationId またはタグ
+     * @return {@link AdaptiveConcurrencyLimiter}
+     */
+    public AdaptiveConcurrencyLimiter limiter(String key) {
+        return bulkhead(key).limiter();
+    }
+
+    /**
+     * リクエストを拒否したことを記録する.
+     *
+     * @param key operationId またはタグ
+     */
+    public void rejected(String key) {
+        bulkhead(key).rejected().increment();
+    }
+
+    private Bulkhead bulkhead(String key) {
+        return bulkheads.computeIfAbsent(key, this::create);
+    }
+
+    private Bulkhead create(String key) {
+
+        val limiter = new AdaptiveConcurrencyLimiter(bulkheadProperties);
+        Gauge.builder(LIMIT_METRIC_NAME, limiter, AdaptiveConcurrencyLimiter::getLimit)
+            .description("APIの同時実行数の上限")
+            .tag(KEY_TAG, key)
+            .register(meterRegistry);
+        val rejected = Counter.builder(REJECTED_METRIC_NAME)
+            .description("同時実行数の上限を超えて拒否したリクエスト数")
+            .tag(KEY_TAG, key)
+            .register(meterRegistry);
+        return new Bulkhead(limiter, rejected);
+    }
+
+    private record Bulkhead(AdaptiveConcurrencyLimiter limiter, Counter rejected) {
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Bulkhead classes.<br>
+ * APIごとに同時に処理するリクエスト数を制限し、超過したリクエストを即座に拒否するクラスを格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.bulkhead;
@@ -0,0 +1,212 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.compression;
+
+import com.github.luben.zstd.RecyclingBufferPool;
+import com.github.luben.zstd.ZstdInputStreamNoFinalizer;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.CompressionProperties;
+import lombok.val;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 圧縮されたリクエストボディを展開しながら読み込む {@link HttpServletRequestWrapper}.
+ *
+ * <p>リクエストボディは読み込みに合わせて展開し、全体をメモリに展開しない.
+ * 展開後の長さは分からないため、{@code Content-Encoding} / {@code Content-Length} ヘッダは存在しないものとして扱う.
+ */
+class DecompressedHttpServletRequest extends HttpServletRequestWrapper {
+
+    /**
+     * gzip の展開で利用するバッファのサイズ.
+     */
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+    private final List<String> encodings;
+
+    private final CompressionProperties properties;
+
+    private ServletInputStream inputStream;
+
+    private BufferedReader reader;
+
+    /**
+     * コンストラクタ.
+     *
+     * @param request    圧縮されたリクエスト
+     * @param encodings  リクエストボディに適用された順の {@code Content-Encoding}
+     * @param properties 展開に関する設定値
+     */
+    DecompressedHttpServletRequest(HttpServletRequest request, List<String> encodings, CompressionProperties properties) {
+
+        super(request);
+        this.encodings = encodings;
+        this.properties = properties;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+
+        if (reader != null) {
+            throw new IllegalStateException("getReader() has already been called for this request");
+        }
+        if (inputStream == null) {
+            inputStream = new DecompressedServletInputStream(decompress(super.getInputStream()));
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+
+        if (reader == null) {
+            if (inputStream != null) {
+                throw new IllegalStateException("getInputStream() has already been called for this request");
+            }
+            val encoding = getCharacterEncoding();
+            val charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            reader = new BufferedReader(new InputStreamReader(
+                new DecompressedServletInputStream(decompress(super.getInputStream())), charset));
+        }
+        return reader;
+    }
+
+    @Override
+    public int getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return -1;
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return isRemovedHeader(name) ? null : super.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return isRemovedHeader(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+
+        return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+            .filter(name -> !isRemovedHeader(name))
+            .toList());
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        return isRemovedHeader(name) ? -1 : super.getIntHeader(name);
+    }
+
+    /**
+     * 展開に利用したリソースを解放する.
+     *
+     * @throws IOException 解放に失敗した場合
+     */
+    void close() throws IOException {
+
+        if (inputStream != null) {
+            inputStream.close();
+        }
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    private InputStream decompress(InputStream in) throws IOException {
+
+        val compressed = new LimitedDecompressionInputStream.CountingInputStream(in);
+        InputStream decompressed = compressed;
+        // 適用された順と逆の順に展開する
+        for (int i = encodings.size() - 1; i >= 0; i--) {
+            decompressed = switch (encodings.get(i)) {
+                case RequestDecompressionFilter.GZIP, RequestDecompressionFilter.X_GZIP ->
+                    new GZIPInputStream(decompressed, GZIP_BUFFER_SIZE);
+                case RequestDecompressionFilter.ZSTD ->
+                    new ZstdInputStreamNoFinalizer(decompressed, RecyclingBufferPool.INSTANCE);
+                default -> throw new IllegalStateException("Unsupported encoding: " + encodings.get(i));
+            };
+        }
+        return new LimitedDecompressionInputStream(decompressed, compressed,
+            properties.getMaxDecompressedSize().toBytes(),
+            properties.getMaxRatio(),
+            properties.getRatioCheckThreshold().toBytes());
+    }
+
+    private static boolean isRemovedHeader(String name) {
+
+        return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)
+            || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+    }
+
+    /**
+     * 展開した {@link InputStream} を読み込む {@link ServletInputStream}. <br>
+     * 非同期の読み込み ({@link #setReadListener(ReadListener)}) には対応しない.
+     */
+    private static final class DecompressedServletInputStream extends ServletInputStream {
+
+        private final InputStream delegate;
+
+        private boolean finished;
+
+        private DecompressedServletInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+
+            val b = delegate.read();
+            finished = b < 0;
+            return b;
+        }
+
+        @Override
+        public int read(@NonNull byte[] b, int off, int len) throws IOException {
+
+            val n = delegate.read(b, off, len);
+            finished = n < 0;
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("Non-blocking read is not supported for compressed request body");
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.compression;
+
+import java.io.IOException;
+
+/**
+ * 圧縮されたリクエストボディの展開で、サイズまたは圧縮率の上限を超えた場合の例外.
+ *
+ * <p>Jackson の Parse 中に発生しても {@link IOException} として呼び出し元に伝播するように、
+ * {@link IOException} のサブクラスとする.
+ */
+public class DecompressionLimitExceededException extends IOException {
+
+    /**
+     * コンストラクタ.
+     *
+     * @param message メッセージ
+     */
+    public DecompressionLimitExceededException(String message) {
+        super(message);
+    }
+}
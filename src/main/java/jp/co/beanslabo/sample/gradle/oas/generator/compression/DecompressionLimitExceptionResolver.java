@@ -0,0 +1,39 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.compression;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.io.IOException;
+
+/**
+ * 原因に {@link DecompressionLimitExceededException} を含む例外を {@code 413 Content Too Large} とする
+ * {@link HandlerExceptionResolver}.
+ *
+ * <p>リクエストボディの読み込み中の例外は {@link org.springframework.http.converter.HttpMessageNotReadableException}
+ * に変換されて 400 となるため、それより前に解決する.
+ */
+public class DecompressionLimitExceptionResolver implements HandlerExceptionResolver {
+
+    @Override
+    public ModelAndView resolveException(
+        @NonNull HttpServletRequest request, @NonNull HttpServletResponse response, Object handler,
+        @NonNull Exception ex) {
+
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DecompressionLimitExceededException) {
+                try {
+                    response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value(), cause.getMessage());
+                } catch (IOException e) {
+                    return null;
+                }
+                return new ModelAndView();
+            }
+        }
+        return null;
+    }
+}
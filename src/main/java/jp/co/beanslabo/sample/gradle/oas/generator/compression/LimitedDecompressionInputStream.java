@@ -0,0 +1,143 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.compression;
+
+import lombok.val;
+import org.springframework.lang.NonNull;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 展開後のサイズと圧縮率を制限する {@link InputStream}.
+ *
+ * <p>展開後のサイズが上限を超えた場合、または判定を開始するサイズを超えた時点で
+ * 展開後 / 展開前のサイズの比率が上限を超えている場合に {@link DecompressionLimitExceededException} とする.
+ * 展開前のサイズは {@link CountingInputStream} で読み込んだバイト数とする.
+ */
+class LimitedDecompressionInputStream extends FilterInputStream {
+
+    private final CountingInputStream compressed;
+
+    private final long maxSize;
+
+    private final long maxRatio;
+
+    private final long ratioCheckThreshold;
+
+    private long size;
+
+    /**
+     * コンストラクタ.
+     *
+     * @param in                  展開する {@link InputStream}
+     * @param compressed          展開前のバイト数を数える {@link CountingInputStream}
+     * @param maxSize             展開後のサイズの上限
+     * @param maxRatio            展開後 / 展開前のサイズの比率の上限
+     * @param ratioCheckThreshold 比率の判定を開始する展開後のサイズ
+     */
+    LimitedDecompressionInputStream(
+        InputStream in, CountingInputStream compressed, long maxSize, long maxRatio, long ratioCheckThreshold) {
+
+        super(in);
+        this.compressed = compressed;
+        this.maxSize = maxSize;
+        this.maxRatio = maxRatio;
+        this.ratioCheckThreshold = ratioCheckThreshold;
+    }
+
+    @Override
+    public int read() throws IOException {
+
+        val b = super.read();
+        if (b >= 0) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(@NonNull byte[] b, int off, int len) throws IOException {
+
+        val n = super.read(b, off, len);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+
+        val skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void count(long n) throws DecompressionLimitExceededException {
+
+        size += n;
+        if (size > maxSize) {
+            throw new DecompressionLimitExceededException(
+                "Decompressed request body exceeds " + maxSize + " bytes");
+        }
+        if (size > ratioCheckThreshold && size > compressed.getCount() * maxRatio) {
+            throw new DecompressionLimitExceededException(
+                "Compression ratio of request body exceeds " + maxRatio);
+        }
+    }
+
+    /**
+     * 読み込んだバイト数を数える {@link InputStream}.
+     */
+    static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+
+            val b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(@NonNull byte[] b, int off, int len) throws IOException {
+
+            val n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+
+            val skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
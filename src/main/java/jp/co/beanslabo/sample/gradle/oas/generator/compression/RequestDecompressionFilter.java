@@ -0,0 +1,133 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.compression;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.CompressionProperties;
+import lombok.val;
+import org.springframework.core.NativeDetector;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * {@code Content-Encoding} が gzip / zstd のリクエストボディを、読み込みに合わせて展開する Filter.
+ *
+ * <p>展開後のサイズや圧縮率が {@link CompressionProperties} の上限を超えた場合は、
+ * 読み込み中に {@link DecompressionLimitExceededException} となる.
+ * 対応していない {@code Content-Encoding} の場合は、リクエストボディを読み込まずに
+ * {@code 415 Unsupported Media Type} と、対応している {@code Accept-Encoding} を返す.
+ *
+ * <p>Native Image では zstd に対応しない (zstd-jni の JNI・Native Library の Metadata がないため).
+ */
+public class RequestDecompressionFilter extends OncePerRequestFilter {
+
+    /**
+     * gzip.
+     */
+    static final String GZIP = "gzip";
+
+    /**
+     * gzip (別名).
+     */
+    static final String X_GZIP = "x-gzip";
+
+    /**
+     * Zstandard.
+     */
+    static final String ZSTD = "zstd";
+
+    /**
+     * 圧縮なし.
+     */
+    static final String IDENTITY = "identity";
+
+    private final CompressionProperties properties;
+
+    /**
+     * 対応している {@code Content-Encoding}.
+     */
+    private final Set<String> supportedEncodings;
+
+    /**
+     * 415 の場合に返す {@code Accept-Encoding}.
+     */
+    private final String acceptEncoding;
+
+    /**
+     * コンストラクタ. Native Image の場合は zstd に対応しない.
+     *
+     * @param properties 展開に関する設定値
+     */
+    public RequestDecompressionFilter(CompressionProperties properties) {
+        this(properties, !NativeDetector.inNativeImage());
+    }
+
+    /**
+     * コンストラクタ.
+     *
+     * @param properties  展開に関する設定値
+     * @param zstdEnabled zstd に対応するか
+     */
+    RequestDecompressionFilter(CompressionProperties properties, boolean zstdEnabled) {
+
+        this.properties = properties;
+        this.supportedEncodings = zstdEnabled ? Set.of(GZIP, X_GZIP, ZSTD) : Set.of(GZIP, X_GZIP);
+        this.acceptEncoding = zstdEnabled ? String.join(", ", GZIP, ZSTD) : GZIP;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+        throws ServletException, IOException {
+
+        val encodings = encodings(request);
+        if (encodings.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!supportedEncodings.containsAll(encodings)) {
+            response.setStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value());
+            response.setHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+            response.setContentLength(0);
+            return;
+        }
+
+        val decompressed = new DecompressedHttpServletRequest(request, encodings, properties);
+        try {
+            filterChain.doFilter(decompressed, response);
+        } finally {
+            decompressed.close();
+        }
+    }
+
+    /**
+     * {@code Content-Encoding} を適用された順に取得する ({@code identity} は除く).
+     *
+     * @param request リクエスト
+     * @return 小文字の {@code Content-Encoding}
+     */
+    private static List<String> encodings(HttpServletRequest request) {
+
+        val encodings = new ArrayList<String>();
+        for (val header : Collections.list(request.getHeaders(HttpHeaders.CONTENT_ENCODING))) {
+            for (val token : header.split(",")) {
+                val encoding = token.trim().toLowerCase(Locale.ROOT);
+                if (!encoding.isEmpty() && !IDENTITY.equals(encoding)) {
+                    encodings.add(encoding);
+                }
+            }
+        }
+        return encodings;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Compression classes.<br>
+ * 圧縮されたリクエストボディの展開を行うクラスを格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.compression;
@@ -0,0 +1,46 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.async.DelegateExecutor;
+import lombok.val;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delegate の非同期処理に関する設定を行うクラス.
+ */
+@Configuration
+@EnableConfigurationProperties(AsyncProperties.class)
+public class AsyncConfig {
+
+    private static final String THREAD_NAME_PREFIX = "delegate-";
+
+    /**
+     * {@link DelegateExecutor} が Delegate の処理を実行する {@link ExecutorService} を生成する.
+     *
+     * @param asyncProperties Delegate の非同期処理に関する設定値
+     * @return {@link ExecutorService}
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService delegateExecutorService(AsyncProperties asyncProperties) {
+
+        return switch (asyncProperties.getExecutorType()) {
+            case BOUNDED -> {
+                val poolSize = asyncProperties.getPoolSize();
+                // 待機できる数を超えた場合は RejectedExecutionException とする (AbortPolicy)
+                yield new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(asyncProperties.getQueueCapacity()),
+                    new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+            }
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(THREAD_NAME_PREFIX, 1).factory());
+        };
+    }
+}
@@ -0,0 +1,55 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Delegate の非同期処理に関する設定値.
+ */
+@Data
+@ConfigurationProperties(prefix = "sample.async")
+public class AsyncProperties {
+
+    /**
+     * Delegate の処理を実行する Executor の種類.
+     */
+    private ExecutorType executorType = ExecutorType.BOUNDED;
+
+    /**
+     * {@link ExecutorType#BOUNDED} の Thread 数.
+     */
+    private int poolSize = 64;
+
+    /**
+     * {@link ExecutorType#BOUNDED} で、全ての Thread が処理中の場合に待機できる処理の数. <br>
+     * 待機中の処理の数がこの値に達した場合は {@code 503 Service Unavailable} を返す.
+     */
+    private int queueCapacity = 256;
+
+    /**
+     * Delegate の処理 (待機時間を含む) の上限. <br>
+     * 超えた場合は処理を中断 (interrupt) し、{@code 503 Service Unavailable} を返す.
+     * {@code spring.mvc.async.request-timeout} (未指定の場合はサーバーのデフォルト値) より短くすること.
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+
+    /**
+     * Delegate の処理を実行する Executor の種類.
+     */
+    public enum ExecutorType {
+
+        /**
+         * Thread 数と待機できる処理の数を制限した Thread Pool で実行する.
+         */
+        BOUNDED,
+
+        /**
+         * 処理ごとに Virtual Thread を生成して実行する. <br>
+         * Thread 数は制限しないため、同時実行数は Bulkhead で制限する.
+         */
+        VIRTUAL
+    }
+}
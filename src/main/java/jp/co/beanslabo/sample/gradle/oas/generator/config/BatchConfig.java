@@ -0,0 +1,31 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * バッチAPIの処理に関する設定を行うクラス.
+ */
+@Configuration
+@EnableConfigurationProperties(BatchProperties.class)
+public class BatchConfig {
+
+    /**
+     * バッチAPIの要素を並列に処理する {@link ForkJoinPool} を生成する. <br>
+     * 処理は CPU 処理が主体となるため、Thread 数は {@link BatchProperties#getParallelism()} に固定する.
+     *
+     * @param batchProperties バッチAPIに関する設定値
+     * @return {@link ForkJoinPool}
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool batchExecutor(BatchProperties batchProperties) {
+
+        return new ForkJoinPool(batchProperties.getParallelism() > 0
+            ? batchProperties.getParallelism()
+            : Runtime.getRuntime().availableProcessors());
+    }
+}
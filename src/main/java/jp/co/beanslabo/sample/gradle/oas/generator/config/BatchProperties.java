@@ -0,0 +1,26 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * バッチAPIの処理に関する設定値.
+ */
+@Data
+@ConfigurationProperties(prefix = "sample.batch")
+public class BatchProperties {
+
+    /**
+     * 要素を並列に処理する Thread 数. <br>
+     * 未指定 (0 以下) の場合は利用可能な CPU コア数とする.
+     */
+    private int parallelism;
+
+    /**
+     * 1リクエストあたりの処理中 (結果を返していない) 要素数の上限. <br>
+     * 上限に達した場合は、結果を返すまで次の要素を読み込まない.
+     * 未指定 (0 以下) の場合は {@link #parallelism} の2倍とする.
+     */
+    private int maxInFlight;
+}
@@ -0,0 +1,68 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.msgpack.jackson.dataformat.MessagePackMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * JSON 以外のバイナリ形式 (CBOR / Smile / MessagePack) の Serialize / Deserialize に関する設定を行うクラス.
+ *
+ * <p>各形式の Mapper には {@link JsonConfig#objectMapper(JsonProperties, Environment)} と同じ設定を行う.
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    /**
+     * CBOR ({@code application/cbor}) の Serialize / Deserialize に利用する {@link CBORMapper} を生成する.
+     *
+     * @param jsonProperties JSON に関する設定値
+     * @param environment    {@link Environment}
+     * @return {@link CBORMapper}
+     */
+    @Bean
+    public CBORMapper cborMapper(JsonProperties jsonProperties, Environment environment) {
+
+        return JsonConfig.configure(
+            CBORMapper.builder(JsonConfig.configure(new CBORFactory(), environment)), jsonProperties).build();
+    }
+
+    /**
+     * Smile ({@code application/x-jackson-smile}) の Serialize / Deserialize に利用する {@link SmileMapper} を生成する.
+     *
+     * @param jsonProperties JSON に関する設定値
+     * @param environment    {@link Environment}
+     * @return {@link SmileMapper}
+     */
+    @Bean
+    public SmileMapper smileMapper(JsonProperties jsonProperties, Environment environment) {
+
+        return JsonConfig.configure(
+            SmileMapper.builder(JsonConfig.configure(new SmileFactory(), environment)), jsonProperties).build();
+    }
+
+    /**
+     * MessagePack ({@code application/x-msgpack}) の Serialize / Deserialize に利用する {@link MessagePackMapper} を生成する.
+     *
+     * <p>MessagePack には10進数の型がないため、{@link java.math.BigDecimal} / {@link java.math.BigInteger} は
+     * 精度を落とさないよう文字列として出力する.
+     *
+     * @param jsonProperties JSON に関する設定値
+     * @param environment    {@link Environment}
+     * @return {@link MessagePackMapper}
+     */
+    @Bean
+    public MessagePackMapper messagePackMapper(JsonProperties jsonProperties, Environment environment) {
+
+        return JsonConfig.configure(
+                MessagePackMapper.builder(JsonConfig.configure(new MessagePackFactory(), environment)), jsonProperties)
+            .build()
+            .handleBigIntegerAndBigDecimalAsString();
+    }
+}
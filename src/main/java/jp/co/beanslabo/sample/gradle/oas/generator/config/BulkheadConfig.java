@@ -0,0 +1,38 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.bulkhead.BulkheadInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * APIごとの同時実行数の制限 (Bulkhead) に関する設定を行うクラス.
+ */
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+@RequiredArgsConstructor
+public class BulkheadConfig implements WebMvcConfigurer {
+
+    private final BulkheadProperties bulkheadProperties;
+
+    private final BulkheadInterceptor bulkheadInterceptor;
+
+    /**
+     * {@link BulkheadInterceptor} を登録する. <br>
+     * 拒否するリクエストで他の Interceptor が動作しないように、最初に実行する.
+     *
+     * @param registry {@link InterceptorRegistry}
+     */
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+
+        if (bulkheadProperties.isEnabled()) {
+            registry.addInterceptor(bulkheadInterceptor).order(Ordered.HIGHEST_PRECEDENCE);
+        }
+    }
+}
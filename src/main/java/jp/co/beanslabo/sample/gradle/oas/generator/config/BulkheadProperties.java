@@ -0,0 +1,85 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * APIごとの同時実行数の制限 (Bulkhead) に関する設定値.
+ */
+@Data
+@ConfigurationProperties(prefix = "sample.bulkhead")
+public class BulkheadProperties {
+
+    /**
+     * 同時実行数を制限するか.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 同時実行数を制限する単位.
+     */
+    private KeyType keyType = KeyType.OPERATION;
+
+    /**
+     * 同時実行数の上限の初期値.
+     */
+    private int initialLimit = 20;
+
+    /**
+     * 同時実行数の上限の最小値. <br>
+     * 処理時間が増加しても、上限はこの値より小さくならない.
+     */
+    private int minLimit = 1;
+
+    /**
+     * 同時実行数の上限の最大値.
+     */
+    private int maxLimit = 200;
+
+    /**
+     * 上限に達した場合に待機できるリクエスト数. <br>
+     * 待機中のリクエスト数がこの値に達した場合は、待機せずに拒否する.
+     */
+    private int queueSize = 50;
+
+    /**
+     * 上限に達した場合に待機する時間. <br>
+     * この時間内に処理を開始できない場合は拒否する.
+     */
+    private Duration queueTimeout = Duration.ofMillis(50);
+
+    /**
+     * 上限を減らす処理時間の増加率. <br>
+     * 直近の処理時間の平均が、長期の平均のこの倍率を超えた場合に上限を減らす.
+     */
+    private double tolerance = 2.0;
+
+    /**
+     * 上限を減らす場合に、現在の上限に掛ける比率.
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * 拒否したレスポンスの {@code Retry-After} ヘッダに設定する時間.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * 同時実行数を制限する単位.
+     */
+    public enum KeyType {
+
+        /**
+         * OpenAPI の operationId ごとに制限する.
+         */
+        OPERATION,
+
+        /**
+         * OpenAPI のタグごとに制限する.
+         */
+        TAG
+    }
+}
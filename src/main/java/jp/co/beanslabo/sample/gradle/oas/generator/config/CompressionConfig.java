@@ -0,0 +1,55 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.compression.DecompressionLimitExceptionResolver;
+import jp.co.beanslabo.sample.gradle.oas.generator.compression.RequestDecompressionFilter;
+import lombok.val;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.filter.OrderedFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 圧縮されたリクエストボディの展開に関する設定を行うクラス. <br>
+ * レスポンスの圧縮は {@code server.compression} で設定する.
+ */
+@Configuration
+@EnableConfigurationProperties(CompressionProperties.class)
+@ConditionalOnProperty(prefix = "sample.compression", name = "request-decompression-enabled", matchIfMissing = true)
+public class CompressionConfig implements WebMvcConfigurer {
+
+    /**
+     * {@link RequestDecompressionFilter} を登録する. <br>
+     * リクエストをラップするため、他のラップする Filter と同様に
+     * {@link OrderedFilter#REQUEST_WRAPPER_FILTER_MAX_ORDER} より前に実行する.
+     *
+     * @param compressionProperties 展開に関する設定値
+     * @return {@link FilterRegistrationBean}
+     */
+    @Bean
+    public FilterRegistrationBean<RequestDecompressionFilter> requestDecompressionFilter(
+        CompressionProperties compressionProperties) {
+
+        val registration =
+            new FilterRegistrationBean<>(new RequestDecompressionFilter(compressionProperties));
+        registration.setOrder(OrderedFilter.REQUEST_WRAPPER_FILTER_MAX_ORDER - 100);
+        return registration;
+    }
+
+    /**
+     * 展開の上限を超えた場合に {@code 413} とする {@link DecompressionLimitExceptionResolver} を、最初に登録する.
+     *
+     * @param resolvers 登録済みの {@link HandlerExceptionResolver}
+     */
+    @Override
+    public void extendHandlerExceptionResolvers(@NonNull List<HandlerExceptionResolver> resolvers) {
+        resolvers.add(0, new DecompressionLimitExceptionResolver());
+    }
+}
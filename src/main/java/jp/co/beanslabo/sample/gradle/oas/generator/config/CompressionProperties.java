@@ -0,0 +1,40 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 圧縮されたリクエストボディ ({@code Content-Encoding}) の展開に関する設定値. <br>
+ * レスポンスの圧縮は {@code server.compression} で設定する.
+ */
+@Data
+@ConfigurationProperties(prefix = "sample.compression")
+public class CompressionProperties {
+
+    /**
+     * {@code Content-Encoding} が gzip / zstd (Native Image では gzip のみ) のリクエストボディを展開するか. <br>
+     * 無効の場合は、{@code Content-Encoding} を解釈せずにそのまま読み込む.
+     */
+    private boolean requestDecompressionEnabled = true;
+
+    /**
+     * 展開後のリクエストボディのサイズの上限. <br>
+     * 超えた場合は {@code 413 Content Too Large} を返す.
+     */
+    private DataSize maxDecompressedSize = DataSize.ofMegabytes(16);
+
+    /**
+     * 展開後 / 展開前のサイズの比率の上限. <br>
+     * 展開後のサイズが {@link #ratioCheckThreshold} を超えた時点で比率がこの値を超えている場合は、
+     * {@code 413 Content Too Large} を返す.
+     */
+    private int maxRatio = 100;
+
+    /**
+     * {@link #maxRatio} の判定を開始する、展開後のサイズ. <br>
+     * 小さなリクエストボディは圧縮率が高くなりやすいため、このサイズまでは比率を判定しない.
+     */
+    private DataSize ratioCheckThreshold = DataSize.ofKilobytes(64);
+}
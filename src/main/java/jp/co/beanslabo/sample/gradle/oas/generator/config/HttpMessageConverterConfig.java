@@ -0,0 +1,112 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import jp.co.beanslabo.sample.gradle.oas.generator.controller.SampleGradleOasGeneratorResponses;
+import jp.co.beanslabo.sample.gradle.oas.generator.converter.ByteArrayPool;
+import jp.co.beanslabo.sample.gradle.oas.generator.converter.MessagePackHttpMessageConverter;
+import jp.co.beanslabo.sample.gradle.oas.generator.converter.PooledBufferJsonHttpMessageConverter;
+import jp.co.beanslabo.sample.gradle.oas.generator.converter.PreEncodedJsonHttpMessageConverter;
+import jp.co.beanslabo.sample.gradle.oas.generator.converter.StreamingResourceHttpMessageConverter;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGenerator200Response;
+import org.msgpack.jackson.dataformat.MessagePackMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * HttpMessageConverter に関する設定を行うクラス. <br>
+ * ここで生成した HttpMessageConverter は、Spring Boot のデフォルトの HttpMessageConverter より優先される.
+ */
+@Configuration
+public class HttpMessageConverterConfig {
+
+    /**
+     * 固定のレスポンスを変換済みの JSON で書き込む {@link PreEncodedJsonHttpMessageConverter} を生成する.
+     *
+     * @param objectMapper {@link ObjectMapper}
+     * @return {@link PreEncodedJsonHttpMessageConverter}
+     * @throws JsonProcessingException JSON への変換に失敗した場合
+     */
+    @Bean
+    public PreEncodedJsonHttpMessageConverter preEncodedJsonHttpMessageConverter(ObjectMapper objectMapper)
+        throws JsonProcessingException {
+
+        return new PreEncodedJsonHttpMessageConverter(objectMapper, SampleGradleOasGeneratorResponses.OK.getBody());
+    }
+
+    /**
+     * JSON の読み書きを行う {@link MappingJackson2HttpMessageConverter} を生成する. <br>
+     * Spring Boot のデフォルトの MappingJackson2HttpMessageConverter を置き換える.
+     *
+     * <p>{@link JsonProperties#isPooledRequestBodyEnabled()} が有効な場合は、モデルへの変換で
+     * リクエストボディを再利用するバッファに読み込む {@link PooledBufferJsonHttpMessageConverter} を生成する.
+     *
+     * @param objectMapper   {@link ObjectMapper}
+     * @param jsonProperties JSON に関する設定値
+     * @return {@link MappingJackson2HttpMessageConverter}
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+        ObjectMapper objectMapper, JsonProperties jsonProperties) {
+
+        if (!jsonProperties.isPooledRequestBodyEnabled()) {
+            return new MappingJackson2HttpMessageConverter(objectMapper);
+        }
+        return new PooledBufferJsonHttpMessageConverter(objectMapper,
+            new ByteArrayPool(
+                Math.toIntExact(jsonProperties.getRequestBufferSize().toBytes()),
+                jsonProperties.getRequestBufferPoolSize()),
+            PostV1SampleGradleOasGenerator200Response.class.getPackageName());
+    }
+
+    /**
+     * JSON のリクエストボディを {@link org.springframework.core.io.Resource} として読み込まずに渡し、
+     * NDJSON のレスポンスを flush しながら書き込む {@link StreamingResourceHttpMessageConverter} を生成する. <br>
+     * Spring Boot のデフォルトの {@link org.springframework.http.converter.ResourceHttpMessageConverter} より優先される.
+     *
+     * @return {@link StreamingResourceHttpMessageConverter}
+     */
+    @Bean
+    public StreamingResourceHttpMessageConverter streamingResourceHttpMessageConverter() {
+        return new StreamingResourceHttpMessageConverter();
+    }
+
+    /**
+     * CBOR の読み書きを行う {@link MappingJackson2CborHttpMessageConverter} を生成する.
+     *
+     * @param cborMapper {@link CBORMapper}
+     * @return {@link MappingJackson2CborHttpMessageConverter}
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(CBORMapper cborMapper) {
+        return new MappingJackson2CborHttpMessageConverter(cborMapper);
+    }
+
+    /**
+     * Smile の読み書きを行う {@link MappingJackson2SmileHttpMessageConverter} を生成する.
+     *
+     * @param smileMapper {@link SmileMapper}
+     * @return {@link MappingJackson2SmileHttpMessageConverter}
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(SmileMapper smileMapper) {
+        return new MappingJackson2SmileHttpMessageConverter(smileMapper);
+    }
+
+    /**
+     * MessagePack の読み書きを行う {@link MessagePackHttpMessageConverter} を生成する.
+     *
+     * @param messagePackMapper {@link MessagePackMapper}
+     * @return {@link MessagePackHttpMessageConverter}
+     */
+    @Bean
+    public MessagePackHttpMessageConverter messagePackHttpMessageConverter(MessagePackMapper messagePackMapper) {
+        return new MessagePackHttpMessageConverter(messagePackMapper);
+    }
+}
@@ -0,0 +1,46 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jp.co.beanslabo.sample.gradle.oas.generator.controller.ApiOperations;
+import jp.co.beanslabo.sample.gradle.oas.generator.idempotency.IdempotencyFilter;
+import lombok.val;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.filter.OrderedFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * 同じリクエストの再送に、保存したレスポンスを返す処理 (Idempotency) に関する設定を行うクラス. <br>
+ * {@link IdempotencyProperties#isEnabled()} が有効な場合のみ有効になる.
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@ConditionalOnProperty(prefix = "sample.idempotency", name = "enabled", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    /**
+     * {@link IdempotencyFilter} を登録する. <br>
+     * 圧縮されたままのリクエストボディで判定するため、{@link CompressionConfig#requestDecompressionFilter} より前に実行する.
+     *
+     * @param idempotencyProperties Idempotency に関する設定値
+     * @param handlerMapping        {@link RequestMappingHandlerMapping}
+     * @param meterRegistry         {@link MeterRegistry}
+     * @return {@link FilterRegistrationBean}
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+        IdempotencyProperties idempotencyProperties,
+        @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+        MeterRegistry meterRegistry) {
+
+        val registration = new FilterRegistrationBean<>(new IdempotencyFilter(
+            idempotencyProperties, ApiOperations.operationIdsByPath(handlerMapping), meterRegistry));
+        registration.setOrder(OrderedFilter.REQUEST_WRAPPER_FILTER_MAX_ORDER - 200);
+        return registration;
+    }
+}
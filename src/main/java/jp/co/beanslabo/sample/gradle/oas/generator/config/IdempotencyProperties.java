@@ -0,0 +1,52 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 同じリクエストの再送に、保存したレスポンスを返す処理 (Idempotency) に関する設定値.
+ */
+@Data
+@ConfigurationProperties(prefix = "sample.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * 保存したレスポンスを返すか.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 対象とする API の operationId.
+     */
+    private List<String> operationIds = List.of();
+
+    /**
+     * 対象とするリクエストボディのサイズの上限. <br>
+     * {@code Content-Length} がこれを超える場合、または指定されていない場合は対象としない.
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(64);
+
+    /**
+     * 保存するリクエストボディ・レスポンスボディの合計サイズの上限. <br>
+     * 超えた場合は、参照される頻度の低いものから削除する.
+     */
+    private DataSize maxCacheSize = DataSize.ofMegabytes(64);
+
+    /**
+     * レスポンスを保存する期間.
+     */
+    private Duration ttl = Duration.ofMinutes(1);
+
+    /**
+     * 同じリクエストを処理中の場合に、処理の完了を待つ時間の上限. <br>
+     * 超えた場合は、待たずにリクエストを処理する.
+     * 待機中はリクエストを受け付けた Thread を占有し、Bulkhead の同時実行数にも含まれないため、
+     * 通常の処理時間と同程度の短い時間とする.
+     */
+    private Duration coalesceTimeout = Duration.ofMillis(100);
+}
@@ -1,15 +1,26 @@
 /* © 2024 Beans Labo Co., Ltd. */
 package jp.co.beanslabo.sample.gradle.oas.generator.config;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import jp.co.beanslabo.sample.gradle.oas.generator.jackson.PrimitiveJsonNullableModule;
+import jp.co.beanslabo.sample.gradle.oas.generator.jackson.Rfc3339DateTimeModule;
 import org.openapitools.jackson.nullable.JsonNullableModule;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.env.Environment;
 
 import java.util.TimeZone;
 
@@ -17,6 +28,7 @@ import java.util.TimeZone;
  * JSON の Serialize / Deserialize に関する設定を行うクラス.
  */
 @Configuration
+@EnableConfigurationProperties(JsonProperties.class)
 public class JsonConfig {
 
     /**
@@ -27,16 +39,60 @@ public class JsonConfig {
      *
      * <ul>
      *   <li>拡張ISO8601形式の日付文字列の相互変換.
+     *   <li>RFC 3339 の固定の形式の日付文字列の高速な相互変換 ({@link JsonProperties#isFastDateTimeEnabled()} が有効な場合).
      *   <li>{@link org.openapitools.jackson.nullable.JsonNullable} の相互変換.
+     *   <li>数値・真偽値の {@link org.openapitools.jackson.nullable.JsonNullable} を生成しない Deserialize
+     *       ({@link JsonProperties#isPrimitiveJsonNullableEnabled()} が有効な場合).
+     *   <li>浮動小数点数・{@link java.math.BigDecimal} の高速な Parse ({@link JsonProperties#isFastNumberParsingEnabled()} が有効な場合).
+     *   <li>Reflection を利用しない Property アクセス ({@link JsonProperties#isBlackbirdEnabled()} が有効で、Native Image でない場合).
+     *   <li>Virtual Thread で処理する場合も再利用されるバッファ ({@code spring.threads.virtual.enabled} が有効な場合).
      * </ul>
      *
+     * @param jsonProperties JSON に関する設定値
+     * @param environment    {@link Environment}
      * @return {@link ObjectMapper}
      */
     @Primary
     @Bean
-    public ObjectMapper objectMapper() {
+    public ObjectMapper objectMapper(JsonProperties jsonProperties, Environment environment) {
 
-        return JsonMapper.builder()
+        return configure(JsonMapper.builder(configure(new JsonFactory(), environment)), jsonProperties).build();
+    }
+
+    /**
+     * {@link JsonFactory} に {@link #objectMapper(JsonProperties, Environment)} と同じ設定を行う. <br>
+     * CBOR など JSON 以外の形式の Factory にも利用する.
+     *
+     * @param factory     設定対象の {@link JsonFactory}
+     * @param environment {@link Environment}
+     * @param <F>         Factory の型
+     * @return 引数の {@link JsonFactory}
+     */
+    static <F extends JsonFactory> F configure(F factory, Environment environment) {
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // デフォルトの ThreadLocal によるバッファの再利用は Virtual Thread 間で共有されないため、
+            // 全 Thread で共有する Pool を利用する
+            factory.setRecyclerPool(JsonRecyclerPools.sharedConcurrentDequePool());
+        }
+
+        return factory;
+    }
+
+    /**
+     * {@link MapperBuilder} に {@link #objectMapper(JsonProperties, Environment)} と同じ設定を行う. <br>
+     * CBOR など JSON 以外の形式の Mapper にも利用する.
+     *
+     * @param builder        設定対象の {@link MapperBuilder}
+     * @param jsonProperties JSON に関する設定値
+     * @param <M>            Mapper の型
+     * @param <B>            Builder の型
+     * @return 引数の {@link MapperBuilder}
+     */
+    static <M extends ObjectMapper, B extends MapperBuilder<M, B>> B configure(
+        B builder, JsonProperties jsonProperties) {
+
+        builder
             // 日付のOFFSETにJVMのTimeZoneを指定
             .defaultTimeZone(TimeZone.getDefault())
             // Date and Time APIを利用するためのModule
@@ -46,7 +102,30 @@ public class JsonConfig {
             // Serialize時に Unix Timestamp として出力するのを無効化
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
             // Deserialize時にJSONの整数値からENUMへのindexを利用したマッピングを禁止
-            .enable(DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS)
-            .build();
+            .enable(DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS);
+
+        if (jsonProperties.isFastDateTimeEnabled()) {
+            // format: date / date-time の固定の形式の文字列を DateTimeFormatter を利用せずに変換するModule
+            // (JavaTimeModule より後に登録し、優先させる)
+            builder.addModule(new Rfc3339DateTimeModule());
+        }
+
+        if (jsonProperties.isPrimitiveJsonNullableEnabled()) {
+            // JsonNullable の Deserialize 時に整数値・真偽値を直接読み込み、生成済みのインスタンスを再利用するModule
+            builder.addModule(new PrimitiveJsonNullableModule());
+        }
+
+        if (jsonProperties.isFastNumberParsingEnabled()) {
+            // float / double / BigDecimal の文字列からの変換に FastDoubleParser を利用
+            builder.enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER, StreamReadFeature.USE_FAST_BIG_NUMBER_PARSER);
+        }
+
+        if (jsonProperties.isBlackbirdEnabled() && !NativeDetector.inNativeImage()) {
+            // getter / setter の呼び出しを LambdaMetafactory で生成したコードに置き換えるModule
+            // (Native Image では実行時にクラスを生成できないため利用しない)
+            builder.addModule(new BlackbirdModule());
+        }
+
+        return builder;
     }
 }
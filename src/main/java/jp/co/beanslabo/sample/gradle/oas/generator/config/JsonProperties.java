@@ -0,0 +1,63 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * JSON の Serialize / Deserialize に関する設定値.
+ */
+@Data
+@ConfigurationProperties(prefix = "sample.json")
+public class JsonProperties {
+
+    /**
+     * Jackson Blackbird Module を利用するか. <br>
+     * 有効にすると、Bean の getter / setter / constructor の呼び出しを Reflection ではなく
+     * {@link java.lang.invoke.LambdaMetafactory} で生成したコードで行う.
+     */
+    private boolean blackbirdEnabled;
+
+    /**
+     * {@link org.openapitools.jackson.nullable.JsonNullable} の Deserialize に
+     * {@link jp.co.beanslabo.sample.gradle.oas.generator.jackson.PrimitiveJsonNullableModule} を利用するか. <br>
+     * 有効にすると、生成したモデルの {@code JsonNullable<Integer>} などのプロパティは JsonNullable を生成せずに
+     * プリミティブ型のフィールドに設定し、それ以外の null・真偽値・小さな整数値の JsonNullable は再利用する.
+     */
+    private boolean primitiveJsonNullableEnabled;
+
+    /**
+     * 数値の Parse に FastDoubleParser を利用するか. <br>
+     * 有効にすると、float / double / {@link java.math.BigDecimal} への変換を
+     * {@link Double#parseDouble(String)} / {@link java.math.BigDecimal#BigDecimal(String)} より高速なアルゴリズムで行う.
+     * 変換結果は同じ値となる.
+     */
+    private boolean fastNumberParsingEnabled;
+
+    /**
+     * {@code format: date} / {@code format: date-time} の変換に
+     * {@link jp.co.beanslabo.sample.gradle.oas.generator.jackson.Rfc3339DateTimeModule} を利用するか. <br>
+     * 有効にすると、{@code yyyy-MM-dd} / {@code yyyy-MM-ddTHH:mm:ss[.SSSSSSSSS](Z|+HH:MM)} 形式の文字列を
+     * {@link java.time.format.DateTimeFormatter} を利用せずに変換する. 変換結果・出力は {@code JavaTimeModule} と同じとなる.
+     */
+    private boolean fastDateTimeEnabled;
+
+    /**
+     * リクエストボディを再利用するバッファに読み込んでから Deserialize するか. <br>
+     * 有効にすると、モデルへの変換で読み込み用のバッファを生成せず、
+     * {@link #requestBufferSize} 以下のリクエストボディをバッファから直接 Parse する.
+     */
+    private boolean pooledRequestBodyEnabled;
+
+    /**
+     * リクエストボディを読み込むバッファのサイズ. <br>
+     * {@code Content-Length} がこのサイズを超える場合は、バッファを利用せずに読み込む.
+     */
+    private DataSize requestBufferSize = DataSize.ofKilobytes(16);
+
+    /**
+     * 再利用のために保持するバッファの数の上限.
+     */
+    private int requestBufferPoolSize = 256;
+}
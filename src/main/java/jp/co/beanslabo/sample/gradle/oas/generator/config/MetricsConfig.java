@@ -0,0 +1,29 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.metrics.ApiPhaseInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * APIの Metrics に関する設定を行うクラス.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final ApiPhaseInterceptor apiPhaseInterceptor;
+
+    /**
+     * APIの処理時間をフェーズごとに記録する {@link ApiPhaseInterceptor} を登録する.
+     *
+     * @param registry {@link InterceptorRegistry}
+     */
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(apiPhaseInterceptor);
+    }
+}
@@ -0,0 +1,15 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.aot.ModelRuntimeHints;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * GraalVM Native Image に関する設定を行うクラス. <br>
+ * {@code ./gradlew nativeCompile} の AOT 処理時に、生成したモデルのヒントを登録する.
+ */
+@Configuration
+@ImportRuntimeHints(ModelRuntimeHints.class)
+public class NativeImageConfig {
+}
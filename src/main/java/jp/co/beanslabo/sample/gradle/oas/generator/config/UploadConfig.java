@@ -0,0 +1,46 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.converter.SpooledFileCleanupInterceptor;
+import jp.co.beanslabo.sample.gradle.oas.generator.converter.SpoolingResourceHttpMessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * {@code application/octet-stream} のリクエストボディ (アップロード) の読み込みに関する設定を行うクラス. <br>
+ * {@link UploadProperties#isSpoolEnabled()} が有効な場合のみ有効になる.
+ */
+@Configuration
+@EnableConfigurationProperties(UploadProperties.class)
+@ConditionalOnProperty(prefix = "sample.upload", name = "spool-enabled", matchIfMissing = true)
+public class UploadConfig implements WebMvcConfigurer {
+
+    /**
+     * リクエストボディを一時ファイルに書き込む {@link SpoolingResourceHttpMessageConverter} を生成する. <br>
+     * Spring Boot のデフォルトの {@link org.springframework.http.converter.ResourceHttpMessageConverter} より優先される.
+     *
+     * @param uploadProperties アップロードに関する設定値
+     * @return {@link SpoolingResourceHttpMessageConverter}
+     */
+    @Bean
+    public SpoolingResourceHttpMessageConverter spoolingResourceHttpMessageConverter(UploadProperties uploadProperties) {
+
+        return new SpoolingResourceHttpMessageConverter(
+            uploadProperties.getDirectory(), uploadProperties.getMaxSize().toBytes());
+    }
+
+    /**
+     * 一時ファイルを削除する {@link SpooledFileCleanupInterceptor} を登録する.
+     *
+     * @param registry {@link InterceptorRegistry}
+     */
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(new SpooledFileCleanupInterceptor());
+    }
+}
@@ -0,0 +1,34 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * {@code application/octet-stream} のリクエストボディ (アップロード) の読み込みに関する設定値.
+ */
+@Data
+@ConfigurationProperties(prefix = "sample.upload")
+public class UploadProperties {
+
+    /**
+     * リクエストボディを一時ファイルに書き込んで読み込むか. <br>
+     * 無効の場合は、Spring のデフォルトと同様にリクエストボディを全てメモリに読み込む.
+     */
+    private boolean spoolEnabled = true;
+
+    /**
+     * 一時ファイルを作成するディレクトリ. <br>
+     * 指定しない場合は {@code java.io.tmpdir} に作成する.
+     */
+    private Path directory;
+
+    /**
+     * リクエストボディのサイズの上限. <br>
+     * 超えた場合は {@code 413 Content Too Large} を返す.
+     */
+    private DataSize maxSize = DataSize.ofGigabytes(1);
+}
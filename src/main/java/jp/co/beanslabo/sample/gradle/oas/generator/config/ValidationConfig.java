@@ -0,0 +1,46 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.metrics.TimedValidator;
+import jp.co.beanslabo.sample.gradle.oas.generator.validation.CompiledValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.validation.beanvalidation.MethodValidationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.Validator;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * リクエストの Bean Validation に関する設定を行うクラス.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ValidationConfig implements WebMvcConfigurer {
+
+    private final CompiledValidator compiledValidator;
+
+    /**
+     * {@code @Valid} を付与したリクエストボディの検証に {@link CompiledValidator} を利用する. <br>
+     * 検証の処理時間は {@link TimedValidator} で記録する.
+     *
+     * @return {@link CompiledValidator} を利用する {@link TimedValidator}
+     */
+    @Override
+    public Validator getValidator() {
+        return new TimedValidator(compiledValidator);
+    }
+
+    /**
+     * Controller をメソッドの Bean Validation (AOP) の対象外とする. <br>
+     * 生成される API の interface には {@code @Validated} が付与されるため、
+     * {@code @Valid} を付与したリクエストボディが Hibernate Validator でも検証されることを防ぐ.
+     * リクエストボディは {@link #getValidator()} で検証される.
+     *
+     * @return {@link MethodValidationExcludeFilter}
+     */
+    @Bean
+    public static MethodValidationExcludeFilter controllerMethodValidationExcludeFilter() {
+        return MethodValidationExcludeFilter.byAnnotation(Controller.class);
+    }
+}
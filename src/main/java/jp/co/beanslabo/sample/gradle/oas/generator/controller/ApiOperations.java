@@ -0,0 +1,76 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.val;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 生成される API の interface のメソッドに付与された {@link Operation} から、OpenAPI の定義を取得するクラス.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ApiOperations {
+
+    /**
+     * Handler のメソッドと {@link Operation} (付与されていない場合は empty).
+     */
+    private static final Map<Method, Optional<Operation>> OPERATIONS = new ConcurrentHashMap<>();
+
+    /**
+     * operationId を取得する.
+     *
+     * @param handlerMethod Handler のメソッド
+     * @return operationId (OpenAPI で生成した API でない場合は empty)
+     */
+    public static Optional<String> operationId(HandlerMethod handlerMethod) {
+
+        return operation(handlerMethod)
+            .map(Operation::operationId)
+            .filter(operationId -> !operationId.isEmpty());
+    }
+
+    /**
+     * 先頭のタグを取得する.
+     *
+     * @param handlerMethod Handler のメソッド
+     * @return タグ (OpenAPI で生成した API でない場合、またはタグがない場合は empty)
+     */
+    public static Optional<String> tag(HandlerMethod handlerMethod) {
+
+        return operation(handlerMethod)
+            .map(Operation::tags)
+            .filter(tags -> tags.length > 0)
+            .map(tags -> tags[0]);
+    }
+
+    /**
+     * OpenAPI で生成した API のパスと operationId を取得する.
+     *
+     * @param handlerMapping {@link RequestMappingHandlerMapping}
+     * @return パス (パス変数を含まないもののみ) と operationId
+     */
+    public static Map<String, String> operationIdsByPath(RequestMappingHandlerMapping handlerMapping) {
+
+        val operationIds = new HashMap<String, String>();
+        handlerMapping.getHandlerMethods().forEach((info, handlerMethod) ->
+            operationId(handlerMethod).ifPresent(operationId ->
+                info.getDirectPaths().forEach(path -> operationIds.put(path, operationId))));
+        return operationIds;
+    }
+
+    private static Optional<Operation> operation(HandlerMethod handlerMethod) {
+
+        return OPERATIONS.computeIfAbsent(handlerMethod.getMethod(),
+            method -> Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, Operation.class)));
+    }
+}
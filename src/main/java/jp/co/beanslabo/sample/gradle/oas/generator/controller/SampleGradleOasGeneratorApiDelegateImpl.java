@@ -1,27 +1,139 @@
 /* © 2024 Beans Labo Co., Ltd. */
 package jp.co.beanslabo.sample.gradle.oas.generator.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jp.co.beanslabo.sample.gradle.oas.generator.async.DelegateExecutor;
+import jp.co.beanslabo.sample.gradle.oas.generator.batch.BatchProcessor;
+import jp.co.beanslabo.sample.gradle.oas.generator.metrics.ApiPhase;
+import jp.co.beanslabo.sample.gradle.oas.generator.metrics.ApiPhaseRecorder;
 import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGenerator200Response;
 import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
+import jp.co.beanslabo.sample.gradle.oas.generator.stream.StreamingRequestReader;
+import jp.co.beanslabo.sample.gradle.oas.generator.validation.CompiledValidator;
+import jp.co.beanslabo.sample.gradle.oas.generator.validation.Violation;
+import lombok.RequiredArgsConstructor;
 import lombok.val;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * Delegate implementation for SampleGradleOasGeneratorApi.
+ * Delegate implementation for SampleGradleOasGeneratorApi. <br>
+ * 各APIの処理は {@link DelegateExecutor} で実行する.
  */
 @Component
+@RequiredArgsConstructor
 public class SampleGradleOasGeneratorApiDelegateImpl implements SampleGradleOasGeneratorApiDelegate {
 
+    private final DelegateExecutor delegateExecutor;
+
+    private final StreamingRequestReader streamingRequestReader;
+
+    private final BatchProcessor batchProcessor;
+
+    private final CompiledValidator validator;
+
+    /**
+     * </inheritDoc>
+     */
+    @Override
+    public CompletableFuture<ResponseEntity<PostV1SampleGradleOasGenerator200Response>> postV1SampleGradleOasGenerator(PostV1SampleGradleOasGeneratorRequest postV1SampleGradleOasGeneratorRequest) {
+
+        return delegateExecutor.submit(() -> process(postV1SampleGradleOasGeneratorRequest));
+    }
+
+    /**
+     * </inheritDoc>
+     */
+    @Override
+    public CompletableFuture<ResponseEntity<PostV1SampleGradleOasGenerator200Response>> postV1SampleGradleOasGeneratorStreaming(Resource body) {
+
+        // Delegate の Thread ではリクエストの属性を参照できないため、Servlet コンテナの Thread で取得する
+        val recorder = ApiPhaseRecorder.current();
+        return delegateExecutor.submit(() -> {
+            try (val inputStream = body.getInputStream()) {
+                val request = streamingRequestReader.read(
+                    inputStream,
+                    objectArrayField -> objectArrayField.forEach(inner -> validate(inner, recorder)),
+                    // 要素に対する制約はないため読み飛ばす
+                    stringArrayField -> {
+                    });
+                validate(request, recorder);
+            } catch (JsonProcessingException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getOriginalMessage(), e);
+            }
+
+            return SampleGradleOasGeneratorResponses.OK;
+        });
+    }
+
+    /**
+     * </inheritDoc>
+     */
+    @Override
+    public CompletableFuture<ResponseEntity<Resource>> postV1SampleGradleOasGeneratorBatch(Resource body) {
+
+        return delegateExecutor.submit(() -> {
+            // 要素は BatchProcessor の Thread で処理するため、DelegateExecutor を経由しない
+            val results = batchProcessor.process(
+                body.getInputStream(), PostV1SampleGradleOasGeneratorRequest.class, this::process);
+
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(new InputStreamResource(results));
+        });
+    }
+
     /**
      * </inheritDoc>
      */
     @Override
-    public ResponseEntity<PostV1SampleGradleOasGenerator200Response> postV1SampleGradleOasGenerator(PostV1SampleGradleOasGeneratorRequest postV1SampleGradleOasGeneratorRequest) throws Exception {
+    public CompletableFuture<ResponseEntity<PostV1SampleGradleOasGenerator200Response>> postV1SampleGradleOasGeneratorUpload(Resource body) {
+
+        return delegateExecutor.submit(() -> SampleGradleOasGeneratorResponses.OK);
+    }
+
+    /**
+     * {@code POST /api/sample-gradle-oas-generator} のリクエスト1件を処理する.
+     *
+     * @param request バリデーション済みのリクエスト
+     * @return レスポンス
+     */
+    private ResponseEntity<PostV1SampleGradleOasGenerator200Response> process(PostV1SampleGradleOasGeneratorRequest request) {
+
+        return SampleGradleOasGeneratorResponses.OK;
+    }
+
+    /**
+     * {@code @Valid} を付与した場合と同様に Bean Validation を行う. <br>
+     * 検証の時間は {@link ApiPhase#VALIDATION} として記録する.
+     *
+     * @param target   検証対象 (null の場合は何もしない)
+     * @param recorder 処理時間を記録する {@link ApiPhaseRecorder} (計測対象外の場合は empty)
+     */
+    private void validate(Object target, Optional<ApiPhaseRecorder> recorder) {
 
-        val response = new PostV1SampleGradleOasGenerator200Response();
-        response.setStatus("OK");
+        if (target == null) {
+            return;
+        }
 
-        return ResponseEntity.ok(response);
+        val start = System.nanoTime();
+        final List<Violation> violations;
+        try {
+            violations = validator.validate(target);
+        } finally {
+            recorder.ifPresent(value -> value.addValidationNanos(System.nanoTime() - start));
+        }
+        if (!violations.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, violations.toString());
+        }
     }
 }
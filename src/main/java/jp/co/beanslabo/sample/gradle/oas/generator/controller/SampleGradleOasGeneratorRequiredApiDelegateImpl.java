@@ -1,27 +1,75 @@
 /* © 2024 Beans Labo Co., Ltd. */
 package jp.co.beanslabo.sample.gradle.oas.generator.controller;
 
+import jp.co.beanslabo.sample.gradle.oas.generator.async.DelegateExecutor;
+import jp.co.beanslabo.sample.gradle.oas.generator.batch.BatchProcessor;
 import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGenerator200Response;
 import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequiredRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.val;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
- * Delegate implementation for SampleGradleOasGeneratorRequiredApi.
+ * Delegate implementation for SampleGradleOasGeneratorRequiredApi. <br>
+ * 各APIの処理は {@link DelegateExecutor} で実行する.
  */
 @Component
+@RequiredArgsConstructor
 public class SampleGradleOasGeneratorRequiredApiDelegateImpl implements SampleGradleOasGeneratorRequiredApiDelegate {
 
+    private final DelegateExecutor delegateExecutor;
+
+    private final BatchProcessor batchProcessor;
+
+    /**
+     * </inheritDoc>
+     */
+    @Override
+    public CompletableFuture<ResponseEntity<PostV1SampleGradleOasGenerator200Response>> postV1SampleGradleOasGeneratorRequired(PostV1SampleGradleOasGeneratorRequiredRequest postV1SampleGradleOasGeneratorRequiredRequest) {
+
+        return delegateExecutor.submit(() -> process(postV1SampleGradleOasGeneratorRequiredRequest));
+    }
+
+    /**
+     * </inheritDoc>
+     */
+    @Override
+    public CompletableFuture<ResponseEntity<Resource>> postV1SampleGradleOasGeneratorRequiredBatch(Resource body) {
+
+        return delegateExecutor.submit(() -> {
+            // 要素は BatchProcessor の Thread で処理するため、DelegateExecutor を経由しない
+            val results = batchProcessor.process(
+                body.getInputStream(), PostV1SampleGradleOasGeneratorRequiredRequest.class, this::process);
+
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(new InputStreamResource(results));
+        });
+    }
+
     /**
      * </inheritDoc>
      */
     @Override
-    public ResponseEntity<PostV1SampleGradleOasGenerator200Response> postV1SampleGradleOasGeneratorRequired(PostV1SampleGradleOasGeneratorRequiredRequest postV1SampleGradleOasGeneratorRequiredRequest) throws Exception {
+    public CompletableFuture<ResponseEntity<PostV1SampleGradleOasGenerator200Response>> postV1SampleGradleOasGeneratorRequiredUpload(Resource body) {
+
+        return delegateExecutor.submit(() -> SampleGradleOasGeneratorResponses.OK);
+    }
 
-        val response = new PostV1SampleGradleOasGenerator200Response();
-        response.setStatus("OK");
+    /**
+     * {@code POST /api/sample-gradle-oas-generator-required} のリクエスト1件を処理する.
+     *
+     * @param request バリデーション済みのリクエスト
+     * @return レスポンス
+     */
+    private ResponseEntity<PostV1SampleGradleOasGenerator200Response> process(PostV1SampleGradleOasGeneratorRequiredRequest request) {
 
-        return ResponseEntity.ok(response);
+        return SampleGradleOasGeneratorResponses.OK;
     }
 }
@@ -0,0 +1,46 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.controller;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGenerator200Response;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 各APIで共通の固定レスポンス.
+ *
+ * <p>全リクエストで同一のインスタンスを返し、レスポンスボディは
+ * {@link jp.co.beanslabo.sample.gradle.oas.generator.converter.PreEncodedJsonHttpMessageConverter}
+ * で変換済みの JSON として書き込まれる. そのため、レスポンスボディは変更できない.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SampleGradleOasGeneratorResponses {
+
+    /**
+     * {@code 200 OK} で、status が {@code "OK"} のレスポンス.
+     */
+    public static final ResponseEntity<PostV1SampleGradleOasGenerator200Response> OK =
+        ResponseEntity.ok(new Unmodifiable200Response("OK"));
+
+    /**
+     * 変更できない {@link PostV1SampleGradleOasGenerator200Response}.
+     */
+    private static final class Unmodifiable200Response extends PostV1SampleGradleOasGenerator200Response {
+
+        private static final long serialVersionUID = 1L;
+
+        Unmodifiable200Response(String status) {
+            super.setStatus(status);
+        }
+
+        @Override
+        public PostV1SampleGradleOasGenerator200Response status(String status) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setStatus(String status) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
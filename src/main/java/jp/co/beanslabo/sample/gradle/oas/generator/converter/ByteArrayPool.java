@@ -0,0 +1,77 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.converter;
+
+import lombok.val;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 同じサイズのバイト配列を再利用する Pool.
+ *
+ * <p>Pool が空の場合は新しい配列を生成し、返却時に Pool が上限に達している場合は破棄する.
+ * 取得・返却は Thread Safe で、取得した配列の内容は初期化されない.
+ */
+public class ByteArrayPool {
+
+    private final int bufferSize;
+
+    private final BlockingQueue<byte[]> buffers;
+
+    /**
+     * コンストラクタ.
+     *
+     * @param bufferSize 配列のサイズ
+     * @param maxPooled  Pool に保持する配列の数の上限
+     */
+    public ByteArrayPool(int bufferSize, int maxPooled) {
+
+        if (bufferSize <= 0 || maxPooled <= 0) {
+            throw new IllegalArgumentException("Invalid pool size: " + bufferSize + " x " + maxPooled);
+        }
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    /**
+     * 配列のサイズを取得する.
+     *
+     * @return 配列のサイズ
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * 配列を取得する. <br>
+     * 利用後は {@link #release(byte[])} で返却すること.
+     *
+     * @return {@link #getBufferSize()} のサイズの配列
+     */
+    public byte[] acquire() {
+
+        val buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    /**
+     * 配列を返却する.
+     *
+     * @param buffer {@link #acquire()} で取得した配列
+     */
+    public void release(byte[] buffer) {
+
+        if (buffer.length == bufferSize) {
+            buffers.offer(buffer);
+        }
+    }
+
+    /**
+     * Pool に保持している配列の数を取得する.
+     *
+     * @return 保持している配列の数
+     */
+    public int getPooledCount() {
+        return buffers.size();
+    }
+}
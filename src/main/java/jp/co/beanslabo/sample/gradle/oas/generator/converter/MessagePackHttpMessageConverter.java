@@ -0,0 +1,29 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.converter;
+
+import org.msgpack.jackson.dataformat.MessagePackMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+/**
+ * MessagePack ({@code application/x-msgpack}) の読み書きを行う HttpMessageConverter.
+ *
+ * <p>Spring の {@link org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter} などと同様に、
+ * 指定した {@link MessagePackMapper} で変換を行う.
+ */
+public class MessagePackHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    /**
+     * MessagePack の MediaType.
+     */
+    public static final MediaType APPLICATION_MSGPACK = new MediaType("application", "x-msgpack");
+
+    /**
+     * 指定した {@link MessagePackMapper} で変換を行う HttpMessageConverter を生成する.
+     *
+     * @param messagePackMapper {@link MessagePackMapper}
+     */
+    public MessagePackHttpMessageConverter(MessagePackMapper messagePackMapper) {
+        super(messagePackMapper, APPLICATION_MSGPACK);
+    }
+}
@@ -0,0 +1,138 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import lombok.val;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonInputMessage;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.SequenceInputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 指定したパッケージのクラスへの変換で、リクエストボディを {@link ByteArrayPool} の配列に読み込んでから
+ * Jackson の Parser に渡す {@link MappingJackson2HttpMessageConverter}.
+ *
+ * <p>リクエストボディが配列のサイズに収まる場合は、Jackson はその配列を直接 Parse するため、
+ * 読み込み用のバッファの生成・コピーを行わない.
+ * {@code Content-Length} が指定されている場合は、その長さだけを読み込む.
+ * 配列に収まらない場合や UTF-8 以外の文字コードの場合は、{@link MappingJackson2HttpMessageConverter} と同じ処理を行う.
+ *
+ * <p>変換には {@link ObjectMapper} の設定をそのまま利用し、書き込みは {@link MappingJackson2HttpMessageConverter} と変わらない.
+ */
+public class PooledBufferJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final ByteArrayPool pool;
+
+    private final Set<String> packageNames;
+
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    /**
+     * コンストラクタ.
+     *
+     * @param objectMapper 変換に利用する {@link ObjectMapper}
+     * @param pool         リクエストボディを読み込む配列の Pool
+     * @param packageNames 配列に読み込んで変換するクラスのパッケージ
+     */
+    public PooledBufferJsonHttpMessageConverter(ObjectMapper objectMapper, ByteArrayPool pool, String... packageNames) {
+
+        super(objectMapper);
+        this.pool = pool;
+        this.packageNames = Set.of(packageNames);
+    }
+
+    @Override
+    @NonNull
+    public Object read(@NonNull Type type, @Nullable Class<?> contextClass, @NonNull HttpInputMessage inputMessage)
+        throws IOException {
+
+        val javaType = getJavaType(type, contextClass);
+        return isPooled(javaType, inputMessage)
+            ? readPooled(javaType, inputMessage)
+            : super.read(type, contextClass, inputMessage);
+    }
+
+    @Override
+    @NonNull
+    protected Object readInternal(@NonNull Class<?> clazz, @NonNull HttpInputMessage inputMessage) throws IOException {
+
+        val javaType = getJavaType(clazz, null);
+        return isPooled(javaType, inputMessage)
+            ? readPooled(javaType, inputMessage)
+            : super.readInternal(clazz, inputMessage);
+    }
+
+    private boolean isPooled(JavaType javaType, HttpInputMessage inputMessage) {
+
+        return packageNames.contains(javaType.getRawClass().getPackageName())
+            && StandardCharsets.UTF_8.equals(getCharset(inputMessage.getHeaders().getContentType()))
+            && !(inputMessage instanceof MappingJacksonInputMessage jacksonInputMessage
+            && jacksonInputMessage.getDeserializationView() != null);
+    }
+
+    private Object readPooled(JavaType javaType, HttpInputMessage inputMessage) throws IOException {
+
+        val contentLength = inputMessage.getHeaders().getContentLength();
+        if (contentLength > pool.getBufferSize()) {
+            return readValue(javaType, inputMessage, reader -> reader.readValue(inputMessage.getBody()));
+        }
+
+        val buffer = pool.acquire();
+        try {
+            val body = inputMessage.getBody();
+            val length = contentLength >= 0
+                ? body.readNBytes(buffer, 0, (int) contentLength)
+                : body.readNBytes(buffer, 0, buffer.length);
+
+            if (contentLength < 0 && length == buffer.length) {
+                // Content-Length が指定されず、配列に収まらなかった場合は残りを続けて読み込む
+                return readValue(javaType, inputMessage, reader -> reader.readValue(
+                    new SequenceInputStream(new ByteArrayInputStream(buffer, 0, length), body)));
+            }
+            return readValue(javaType, inputMessage, reader -> reader.readValue(buffer, 0, length));
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    private Object readValue(JavaType javaType, HttpInputMessage inputMessage, ReadFunction function)
+        throws IOException {
+
+        try {
+            return function.read(readers.computeIfAbsent(javaType, this::reader));
+        } catch (InvalidDefinitionException ex) {
+            throw new HttpMessageConversionException("Type definition error: " + ex.getType(), ex);
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + ex.getOriginalMessage(), ex, inputMessage);
+        }
+    }
+
+    private ObjectReader reader(JavaType javaType) {
+        return customizeReader(getObjectMapper().readerFor(javaType), javaType);
+    }
+
+    /**
+     * {@link ObjectReader} で値を読み込む処理.
+     */
+    @FunctionalInterface
+    private interface ReadFunction {
+
+        Object read(ObjectReader reader) throws IOException;
+    }
+}
@@ -0,0 +1,91 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.val;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 変更されないレスポンスオブジェクトを、事前に JSON に変換したバイト列で書き込む HttpMessageConverter.
+ *
+ * <p>コンストラクタで指定したオブジェクト (同一インスタンス) をレスポンスボディとする場合、
+ * リクエストごとの Serialize を行わずに変換済みのバイト列をそのまま書き込み、{@code Content-Length} を設定する. <br>
+ * 変換には {@link org.springframework.http.converter.json.MappingJackson2HttpMessageConverter} と同じ
+ * {@link ObjectMapper} を利用するため、出力される JSON は変わらない.
+ *
+ * <p>書き込みのみに対応し、対象はコンストラクタで指定したオブジェクトと同じクラスに限る.
+ * 同じクラスの別インスタンスの場合は、都度 Serialize する.
+ */
+public class PreEncodedJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Object, byte[]> encoded = new IdentityHashMap<>();
+
+    private final Set<Class<?>> supportedClasses;
+
+    /**
+     * 指定したオブジェクトを JSON に変換して保持する.
+     *
+     * @param objectMapper JSON の変換に利用する {@link ObjectMapper}
+     * @param values       変換済みのバイト列で書き込むオブジェクト (変更されないこと)
+     * @throws JsonProcessingException JSON への変換に失敗した場合
+     */
+    public PreEncodedJsonHttpMessageConverter(ObjectMapper objectMapper, Object... values)
+        throws JsonProcessingException {
+
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+        for (val value : values) {
+            encoded.put(value, objectMapper.writeValueAsBytes(value));
+        }
+        this.supportedClasses = Arrays.stream(values).map(Object::getClass).collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return supportedClasses.contains(clazz);
+    }
+
+    @Override
+    public boolean canRead(@NonNull Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    @NonNull
+    protected Object readInternal(@NonNull Class<?> clazz, @NonNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("読み込みには対応していません", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(@NonNull Object value, MediaType contentType) {
+
+        val bytes = encoded.get(value);
+        return bytes != null ? (long) bytes.length : null;
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object value, @NonNull HttpOutputMessage outputMessage) throws IOException {
+
+        val bytes = encoded.get(value);
+        if (bytes != null) {
+            outputMessage.getBody().write(bytes);
+        } else {
+            objectMapper.writeValue(outputMessage.getBody(), value);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.converter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+
+/**
+ * {@link SpoolingResourceHttpMessageConverter} が作成した一時ファイルを、リクエストの処理の完了時に削除する {@link HandlerInterceptor}.
+ *
+ * <p>非同期処理のリクエストでは、最初の dispatch の完了時には呼び出されず、非同期処理の完了後の dispatch で削除する.
+ * 削除に失敗した場合の例外は {@link org.springframework.web.servlet.DispatcherServlet} がログに出力する.
+ *
+ * <p>{@link jp.co.beanslabo.sample.gradle.oas.generator.async.DelegateExecutor} のタイムアウトでは、
+ * 処理を中断 (interrupt) した後、処理の終了を待たずに ASYNC の dispatch を行うため、
+ * 中断した処理が一時ファイルを読み込んでいる間に削除する場合がある. <br>
+ * {@link java.nio.channels.FileChannel} の読み込みは interrupt で
+ * {@link java.nio.channels.ClosedByInterruptException} となり終了する.
+ * POSIX のファイルシステムでは、開いているファイルは削除後も読み込めるが、削除後に開こうとした場合は
+ * {@link java.nio.file.NoSuchFileException} となる. いずれもタイムアウト後の処理結果は破棄されるため、レスポンスには影響しない.
+ * Windows では開いているファイルを削除できないため、削除に失敗し一時ファイルが残る場合がある.
+ */
+public class SpooledFileCleanupInterceptor implements HandlerInterceptor {
+
+    @Override
+    public void afterCompletion(
+        @NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler,
+        Exception ex) throws IOException {
+
+        SpoolingResourceHttpMessageConverter.deleteSpooledFiles(new ServletRequestAttributes(request));
+    }
+}
@@ -0,0 +1,155 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.converter;
+
+import lombok.val;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.NonNull;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code application/octet-stream} のリクエストボディを一時ファイルに書き込み、{@link Resource} として読み込む HttpMessageConverter.
+ *
+ * <p>Spring のデフォルトの {@link org.springframework.http.converter.ResourceHttpMessageConverter} は、
+ * {@link Resource} のリクエストボディを全て {@code byte[]} に読み込むため、リクエストボディのサイズのヒープを必要とする. <br>
+ * このクラスは、リクエストボディを {@link FileChannel#transferFrom} で一時ファイルに書き込み、
+ * 一時ファイルの {@link FileSystemResource} を返す.
+ * 受け取った側は {@link FileSystemResource#readableChannel()} や {@link FileChannel#map} でファイルのまま参照できる.
+ *
+ * <p>一時ファイルはリクエストの属性に登録し、{@link SpooledFileCleanupInterceptor} がリクエストの処理の完了時に削除する.
+ * 読み込みのみに対応し、書き込みは {@link org.springframework.http.converter.ResourceHttpMessageConverter} で行う.
+ */
+public class SpoolingResourceHttpMessageConverter extends AbstractHttpMessageConverter<Resource> {
+
+    /**
+     * 一時ファイルの一覧を保持するリクエストの属性名.
+     */
+    static final String ATTRIBUTE_NAME = SpoolingResourceHttpMessageConverter.class.getName() + ".files";
+
+    /**
+     * {@link FileChannel#transferFrom} で1回に書き込むサイズの上限.
+     */
+    private static final long TRANSFER_SIZE = 1024 * 1024;
+
+    private final Path directory;
+
+    private final long maxSize;
+
+    /**
+     * 一時ファイルの作成先と、リクエストボディのサイズの上限を指定する.
+     *
+     * @param directory 一時ファイルを作成するディレクトリ (null の場合はシステムのデフォルト)
+     * @param maxSize   リクエストボディのサイズの上限 (バイト)
+     */
+    public SpoolingResourceHttpMessageConverter(Path directory, long maxSize) {
+
+        super(MediaType.APPLICATION_OCTET_STREAM);
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return Resource.class == clazz;
+    }
+
+    @Override
+    public boolean canWrite(@NonNull Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    @NonNull
+    protected Resource readInternal(@NonNull Class<? extends Resource> clazz, @NonNull HttpInputMessage inputMessage)
+        throws IOException {
+
+        val contentLength = inputMessage.getHeaders().getContentLength();
+        if (contentLength > maxSize) {
+            throw new MaxUploadSizeExceededException(maxSize);
+        }
+
+        val attributes = RequestContextHolder.currentRequestAttributes();
+        val file = directory != null
+            ? Files.createTempFile(directory, "upload-", ".tmp")
+            : Files.createTempFile("upload-", ".tmp");
+        register(attributes, file);
+
+        try (val source = Channels.newChannel(inputMessage.getBody());
+             val channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+            // 上限の判定のため、上限を1バイト超えるまで書き込む
+            while ((transferred = channel.transferFrom(
+                source, position, Math.min(TRANSFER_SIZE, maxSize + 1 - position))) > 0) {
+                position += transferred;
+                if (position > maxSize) {
+                    throw new MaxUploadSizeExceededException(maxSize);
+                }
+            }
+        }
+
+        return new FileSystemResource(file);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Resource resource, @NonNull HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("書き込みには対応していません");
+    }
+
+    /**
+     * リクエストの属性に登録した一時ファイルを削除する.
+     *
+     * @param attributes {@link RequestAttributes}
+     * @throws IOException 削除に失敗した場合
+     */
+    static void deleteSpooledFiles(RequestAttributes attributes) throws IOException {
+
+        if (!(attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST) instanceof List<?> files)) {
+            return;
+        }
+        attributes.removeAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+
+        IOException exception = null;
+        for (val file : files) {
+            try {
+                Files.deleteIfExists((Path) file);
+            } catch (IOException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void register(RequestAttributes attributes, Path file) {
+
+        var files = (List<Path>) attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (files == null) {
+            files = new ArrayList<>(1);
+            attributes.setAttribute(ATTRIBUTE_NAME, files, RequestAttributes.SCOPE_REQUEST);
+        }
+        files.add(file);
+    }
+}
@@ -0,0 +1,80 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.converter;
+
+import lombok.val;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@code application/json} / {@code application/x-ndjson} のリクエストボディを読み込まずに、
+ * リクエストの {@link InputStream} のまま {@link Resource} として渡す HttpMessageConverter.
+ *
+ * <p>Spring のデフォルトの {@link org.springframework.http.converter.ResourceHttpMessageConverter} は、
+ * {@link Resource} のリクエストボディを全て {@code byte[]} に読み込むため、リクエストボディのサイズのヒープを必要とする. <br>
+ * このクラスは {@link InputStreamResource} を返すため、受け取った側はリクエストボディを受信しながら読み込める.
+ * {@link InputStreamResource#getInputStream()} は1回のみ呼び出せる.
+ *
+ * <p>ストリーミングAPI・バッチAPIのように、JSON のリクエストボディを {@code type: string, format: binary} で
+ * 定義したAPIで利用する.
+ *
+ * <p>書き込みは {@code application/x-ndjson} の {@link InputStreamResource} のみ対象とし、
+ * {@link InputStream#available()} が 0 となる (次の行がまだ読み出せない) たびに flush する. <br>
+ * {@link org.springframework.http.converter.ResourceHttpMessageConverter} は flush せずに書き込むため、
+ * バッチAPIの処理結果がレスポンスのバッファに溜まり、全ての要素の処理が完了するまでクライアントに届かない.
+ * それ以外のレスポンスは {@link org.springframework.http.converter.ResourceHttpMessageConverter} で書き込む.
+ */
+public class StreamingResourceHttpMessageConverter extends AbstractHttpMessageConverter<Resource> {
+
+    /**
+     * {@code application/json} と {@code application/x-ndjson} を対象とする.
+     */
+    public StreamingResourceHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON);
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return Resource.class == clazz;
+    }
+
+    @Override
+    public boolean canWrite(@NonNull Class<?> clazz, MediaType mediaType) {
+
+        return InputStreamResource.class.isAssignableFrom(clazz)
+            && mediaType != null && MediaType.APPLICATION_NDJSON.includes(mediaType);
+    }
+
+    @Override
+    @NonNull
+    protected Resource readInternal(@NonNull Class<? extends Resource> clazz, @NonNull HttpInputMessage inputMessage)
+        throws IOException {
+
+        return new InputStreamResource(inputMessage.getBody());
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Resource resource, @NonNull HttpOutputMessage outputMessage)
+        throws IOException {
+
+        val body = outputMessage.getBody();
+        val buffer = new byte[StreamUtils.BUFFER_SIZE];
+        try (val inputStream = resource.getInputStream()) {
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                body.write(buffer, 0, length);
+                if (inputStream.available() == 0) {
+                    body.flush();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * HttpMessageConverter classes.<br>
+ * リクエスト / レスポンスボディの変換を行うクラスを格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.converter;
@@ -0,0 +1,108 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.idempotency;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import lombok.val;
+import org.springframework.lang.NonNull;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 読み込み済みのリクエストボディを、再度読み込めるようにする {@link HttpServletRequestWrapper}.
+ */
+class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    private ServletInputStream inputStream;
+
+    private BufferedReader reader;
+
+    /**
+     * コンストラクタ.
+     *
+     * @param request リクエスト
+     * @param body    読み込み済みのリクエストボディ
+     */
+    CachedBodyHttpServletRequest(HttpServletRequest request, byte[] body) {
+
+        super(request);
+        this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+
+        if (reader != null) {
+            throw new IllegalStateException("getReader() has already been called for this request");
+        }
+        if (inputStream == null) {
+            inputStream = new CachedBodyServletInputStream(body);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() {
+
+        if (reader == null) {
+            if (inputStream != null) {
+                throw new IllegalStateException("getInputStream() has already been called for this request");
+            }
+            val encoding = getCharacterEncoding();
+            val charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), charset));
+        }
+        return reader;
+    }
+
+    /**
+     * バイト列を読み込む {@link ServletInputStream}. <br>
+     * 非同期の読み込み ({@link #setReadListener(ReadListener)}) には対応しない.
+     */
+    private static final class CachedBodyServletInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream delegate;
+
+        private CachedBodyServletInputStream(byte[] body) {
+            this.delegate = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public int read() {
+            return delegate.read();
+        }
+
+        @Override
+        public int read(@NonNull byte[] b, int off, int len) {
+            return delegate.read(b, off, len);
+        }
+
+        @Override
+        public int available() {
+            return delegate.available();
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("Non-blocking read is not supported for cached request body");
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.idempotency;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.IdempotencyProperties;
+import lombok.val;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 同じリクエストの再送に、保存したレスポンスを返す Filter.
+ *
+ * <p>{@link IdempotencyProperties#getOperationIds()} の API への POST で、{@code Content-Length} が
+ * {@link IdempotencyProperties#getMaxBodySize()} 以下のリクエストが対象. <br>
+ * operationId・リクエストボディ・{@code Content-Type}・{@code Content-Encoding}・{@code Accept}・
+ * {@value #IDEMPOTENCY_KEY_HEADER} ヘッダが全て同じリクエストを同じリクエストとみなし、2xx のレスポンスを保存する.
+ * 保存したレスポンスがある場合は、Deserialize・Bean Validation・Delegate の処理を行わずに
+ * {@value #REPLAYED_HEADER} ヘッダを付与して返す.
+ *
+ * <p>同じリクエストを処理中の場合は、{@link IdempotencyProperties#getCoalesceTimeout()} を上限に処理の完了を待ち、
+ * そのレスポンスを返す. レスポンスを保存できなかった場合 (2xx 以外・例外) や待機がタイムアウトした場合は、
+ * 待っていたリクエストもそれぞれ処理する. <br>
+ * 待機はリクエストを受け付けた Thread で行い、Bulkhead の同時実行数の制限より前に行われるため、
+ * 待機時間の上限は短い時間 (デフォルト 100ms) とし、長い処理の完了は待たない.
+ *
+ * <p>保存には Caffeine (W-TinyLFU) を利用し、リクエストボディとレスポンスボディの合計サイズと保存期間で削除する.
+ * リクエストボディはハッシュ値だけでなく内容も比較するため、異なるリクエストに保存したレスポンスを返すことはない.
+ * 結果は {@value #REQUESTS_METRIC_NAME} に {@value #RESULT_TAG} ({@code hit} / {@code coalesced} / {@code miss}) ごとに記録する.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    /**
+     * 同じリクエストとみなす範囲を指定するヘッダ.
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * 保存したレスポンスを返したことを示すヘッダ.
+     */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    /**
+     * 対象のリクエスト数の Metrics の名前.
+     */
+    public static final String REQUESTS_METRIC_NAME = "sample.idempotency.requests";
+
+    /**
+     * 保存しているレスポンス数の Metrics の名前.
+     */
+    public static final String SIZE_METRIC_NAME = "sample.idempotency.size";
+
+    /**
+     * 保存したレスポンスを返したか ({@code hit} / {@code coalesced} / {@code miss}) の tag.
+     */
+    public static final String RESULT_TAG = "result";
+
+    /**
+     * 処理中の {@link Pending} を保持するリクエストの属性名.
+     */
+    private static final String ATTRIBUTE_NAME = IdempotencyFilter.class.getName() + ".pending";
+
+    /**
+     * {@link Key} の、リクエストボディ以外のサイズの概算値.
+     */
+    private static final int KEY_OVERHEAD = 256;
+
+    private final IdempotencyProperties properties;
+
+    private final Map<String, String> operationIds;
+
+    private final AsyncCache<Key, CachedResponse> cache;
+
+    private final Counter hits;
+
+    private final Counter coalesced;
+
+    private final Counter misses;
+
+    /**
+     * コンストラクタ.
+     *
+     * @param properties    Idempotency に関する設定値
+     * @param operationIds  API のパス (コンテキストパスを除く) と operationId
+     * @param meterRegistry {@link MeterRegistry}
+     */
+    public IdempotencyFilter(
+        IdempotencyProperties properties, Map<String, String> operationIds, MeterRegistry meterRegistry) {
+
+        this.properties = properties;
+        val targets = new HashSet<>(properties.getOperationIds());
+        this.operationIds = operationIds.entrySet().stream()
+            .filter(entry -> targets.contains(entry.getValue()))
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(properties.getTtl())
+            .maximumWeight(properties.getMaxCacheSize().toBytes())
+            .weigher((Key key, CachedResponse response) -> KEY_OVERHEAD + key.body().length + response.body().length)
+            .buildAsync();
+
+        Gauge.builder(SIZE_METRIC_NAME, cache, c -> c.synchronous().estimatedSize())
+            .description("保存しているレスポンス数")
+            .register(meterRegistry);
+        this.hits = counter(meterRegistry, "hit");
+        this.coalesced = counter(meterRegistry, "coalesced");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+
+        return !HttpMethod.POST.matches(request.getMethod())
+            || !operationIds.containsKey(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+        throws ServletException, IOException {
+
+        if (isAsyncDispatch(request)) {
+            filterChain.doFilter(request, response);
+            if (!isAsyncStarted(request) && request.getAttribute(ATTRIBUTE_NAME) instanceof Pending pending) {
+                complete(pending, response);
+            }
+            return;
+        }
+
+        val contentLength = request.getContentLengthLong();
+        if (contentLength < 0 || contentLength > properties.getMaxBodySize().toBytes()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        val body = request.getInputStream().readNBytes((int) contentLength);
+        val key = new Key(
+            operationIds.get(request.getRequestURI().substring(request.getContextPath().length())),
+            request.getContentType(),
+            request.getHeader(HttpHeaders.CONTENT_ENCODING),
+            request.getHeader(HttpHeaders.ACCEPT),
+            request.getHeader(IDEMPOTENCY_KEY_HEADER),
+            body);
+        val cachedBodyRequest = new CachedBodyHttpServletRequest(request, body);
+
+        val future = new CompletableFuture<CachedResponse>();
+        val existing = cache.asMap().putIfAbsent(key, future);
+        if (existing != null) {
+            val done = existing.isDone();
+            val cached = await(existing);
+            if (cached != null) {
+                (done ? hits : coalesced).increment();
+                replay(cached, response);
+                return;
+            }
+            // 保存できないレスポンスの場合や待機がタイムアウトした場合は、保存せずに処理する
+            misses.increment();
+            filterChain.doFilter(cachedBodyRequest, response);
+            return;
+        }
+
+        misses.increment();
+        val pending = new Pending(future, new ContentCachingResponseWrapper(response));
+        request.setAttribute(ATTRIBUTE_NAME, pending);
+        try {
+            filterChain.doFilter(cachedBodyRequest, pending.response());
+        } catch (IOException | ServletException | RuntimeException e) {
+            future.complete(null);
+            throw e;
+        }
+
+        if (isAsyncStarted(request)) {
+            // タイムアウト・エラーの場合は ASYNC の dispatch が行われないため、保存せずに待機を終了する
+            request.getAsyncContext().addListener(new PendingAsyncListener(future));
+        } else {
+            complete(pending, response);
+        }
+    }
+
+    private void complete(Pending pending, HttpServletResponse response) throws IOException {
+
+        val wrapper = Objects.requireNonNullElse(
+            WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class), pending.response());
+        val status = wrapper.getStatus();
+        if (status >= 200 && status < 300) {
+            pending.future().complete(new CachedResponse(status, wrapper.getContentType(), wrapper.getContentAsByteArray()));
+        } else {
+            pending.future().complete(null);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private CachedResponse await(CompletableFuture<CachedResponse> future) throws IOException {
+
+        try {
+            return future.get(properties.getCoalesceTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the same request", e);
+        }
+    }
+
+    private static void replay(CachedResponse cached, HttpServletResponse response) throws IOException {
+
+        response.setStatus(cached.status());
+        if (cached.contentType() != null) {
+            response.setContentType(cached.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+
+        return Counter.builder(REQUESTS_METRIC_NAME)
+            .description("保存したレスポンスを返す対象のリクエスト数")
+            .tag(RESULT_TAG, result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 同じリクエストか判定するキー. <br>
+     * {@link #hashCode()} はリクエストボディを含めて生成時に計算する.
+     *
+     * @param operationId     operationId
+     * @param contentType     {@code Content-Type}
+     * @param contentEncoding {@code Content-Encoding}
+     * @param accept          {@code Accept}
+     * @param idempotencyKey  {@value #IDEMPOTENCY_KEY_HEADER}
+     * @param body            リクエストボディ
+     * @param hash            ハッシュ値
+     */
+    private record Key(
+        String operationId, String contentType, String contentEncoding, String accept, String idempotencyKey,
+        byte[] body, int hash) {
+
+        private Key(
+            String operationId, String contentType, String contentEncoding, String accept, String idempotencyKey,
+            byte[] body) {
+
+            this(operationId, contentType, contentEncoding, accept, idempotencyKey, body,
+                31 * Objects.hash(operationId, contentType, contentEncoding, accept, idempotencyKey)
+                    + Arrays.hashCode(body));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            return o instanceof Key other
+                && hash == other.hash
+                && operationId.equals(other.operationId)
+                && Objects.equals(contentType, other.contentType)
+                && Objects.equals(contentEncoding, other.contentEncoding)
+                && Objects.equals(accept, other.accept)
+                && Objects.equals(idempotencyKey, other.idempotencyKey)
+                && Arrays.equals(body, other.body);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return "Key[operationId=" + operationId + ", length=" + body.length + "]";
+        }
+    }
+
+    /**
+     * 保存したレスポンス.
+     *
+     * @param status      ステータスコード
+     * @param contentType {@code Content-Type}
+     * @param body        レスポンスボディ
+     */
+    private record CachedResponse(int status, String contentType, byte[] body) {
+    }
+
+    /**
+     * 処理中のリクエストの、レスポンスの保存先.
+     *
+     * @param future   レスポンスを待っているリクエストに通知する {@link CompletableFuture}
+     * @param response レスポンスを保持する {@link ContentCachingResponseWrapper}
+     */
+    private record Pending(CompletableFuture<CachedResponse> future, ContentCachingResponseWrapper response) {
+    }
+
+    /**
+     * 非同期処理が ASYNC の dispatch を行わずに終了した場合に、待機を終了する {@link AsyncListener}.
+     */
+    private record PendingAsyncListener(CompletableFuture<CachedResponse> future) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            future.complete(null);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            future.complete(null);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            future.complete(null);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 何もしない
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Idempotency classes.<br>
+ * 同じリクエストの再送に、保存したレスポンスを返すクラスを格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.idempotency;
@@ -0,0 +1,31 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+/**
+ * {@code JsonNullable<Integer>} などのプロパティを、プリミティブ型の値と状態で保持するモデル. <br>
+ * open_api/templates/pojo.mustache で生成したモデルが実装し、{@link PrimitiveJsonNullableModule} が
+ * JSON の値を {@link org.openapitools.jackson.nullable.JsonNullable} を生成せずに設定するために利用する.
+ *
+ * @see PrimitiveJsonNullables
+ */
+public interface PrimitiveJsonNullableBean {
+
+    /**
+     * JSON のプロパティの値を、プリミティブ型のフィールドに設定する.
+     *
+     * <p>値は JSON の値の型ごとに、以下のように {@code long} に変換して渡す.
+     *
+     * <ul>
+     *   <li>{@code int} / {@code long}: 値のまま.
+     *   <li>{@code float}: {@link Float#floatToRawIntBits(float)} の値.
+     *   <li>{@code double}: {@link Double#doubleToRawLongBits(double)} の値.
+     *   <li>{@code boolean}: {@code true} の場合は 1、{@code false} の場合は 0.
+     * </ul>
+     *
+     * @param property JSON のプロパティ名
+     * @param state    {@link PrimitiveJsonNullables#NULL} または {@link PrimitiveJsonNullables#VALUE}
+     * @param bits     値 (状態が {@link PrimitiveJsonNullables#NULL} の場合は 0)
+     * @return 設定した場合は true、プリミティブ型で保持するプロパティでない場合は false
+     */
+    boolean setPrimitive(String property, byte state, long bits);
+}
@@ -0,0 +1,142 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.jackson.nullable.JsonNullableDeserializer;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * {@code JsonNullable<Integer>} / {@code JsonNullable<Long>} / {@code JsonNullable<Boolean>} の
+ * Deserialize 時の Object 生成を抑えた {@link JsonNullableDeserializer}.
+ *
+ * <ul>
+ *   <li>JSON の整数値・真偽値は、値の Deserializer を経由せずに Parser から直接読み込む.
+ *   <li>{@code JsonNullable.of(null)}、真偽値、小さな整数値は、{@link PrimitiveJsonNullables} が
+ *       事前に生成した {@link JsonNullable} を返す.
+ * </ul>
+ *
+ * <p>それ以外の値や、文字列からの変換などは {@link JsonNullableDeserializer} と同様に処理する.
+ * open_api/templates から生成したモデルのプロパティは、{@link PrimitiveJsonNullableProperty} で処理するため、
+ * この Deserializer は {@link JsonNullable} の値を直接 Deserialize する場合などに利用する.
+ */
+public class PrimitiveJsonNullableDeserializer extends JsonNullableDeserializer {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * {@link JsonNullable} が参照する値の型.
+     */
+    private enum ValueKind {
+        INTEGER, LONG, BOOLEAN, OTHER
+    }
+
+    private final ValueKind valueKind;
+
+    /**
+     * {@link JsonNullableDeserializer} と同じ引数で生成する.
+     *
+     * @param fullType  {@link JsonNullable} の型
+     * @param inst      {@link ValueInstantiator}
+     * @param typeDeser 値の {@link TypeDeserializer}
+     * @param deser     値の {@link JsonDeserializer}
+     */
+    public PrimitiveJsonNullableDeserializer(
+        JavaType fullType, ValueInstantiator inst, TypeDeserializer typeDeser, JsonDeserializer<?> deser) {
+
+        super(fullType, inst, typeDeser, deser);
+
+        final var valueType = fullType.getReferencedType();
+        if (valueType == null) {
+            this.valueKind = ValueKind.OTHER;
+        } else if (valueType.hasRawClass(Integer.class)) {
+            this.valueKind = ValueKind.INTEGER;
+        } else if (valueType.hasRawClass(Long.class)) {
+            this.valueKind = ValueKind.LONG;
+        } else if (valueType.hasRawClass(Boolean.class)) {
+            this.valueKind = ValueKind.BOOLEAN;
+        } else {
+            this.valueKind = ValueKind.OTHER;
+        }
+    }
+
+    @Override
+    public PrimitiveJsonNullableDeserializer withResolved(TypeDeserializer typeDeser, JsonDeserializer<?> valueDeser) {
+        return new PrimitiveJsonNullableDeserializer(_fullType, _valueInstantiator, typeDeser, valueDeser);
+    }
+
+    @Override
+    public JsonNullable<Object> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+
+        if (_valueTypeDeserializer == null) {
+            final var token = p.currentToken();
+            switch (valueKind) {
+                case INTEGER -> {
+                    if (token == JsonToken.VALUE_NUMBER_INT && p.getNumberType() == JsonParser.NumberType.INT) {
+                        return ofInt(p.getIntValue());
+                    }
+                }
+                case LONG -> {
+                    if (token == JsonToken.VALUE_NUMBER_INT && p.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                        return ofLong(p.getLongValue());
+                    }
+                }
+                case BOOLEAN -> {
+                    if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+                        return cast(PrimitiveJsonNullables.of(PrimitiveJsonNullables.VALUE, token == JsonToken.VALUE_TRUE));
+                    }
+                }
+                default -> {
+                    // 値の Deserializer で処理する
+                }
+            }
+        }
+
+        return super.deserialize(p, ctxt);
+    }
+
+    @Override
+    public JsonNullable<Object> getNullValue(DeserializationContext ctxt) {
+        return cast(PrimitiveJsonNullables.of(PrimitiveJsonNullables.NULL, 0));
+    }
+
+    @Override
+    public JsonNullable<Object> referenceValue(Object contents) {
+
+        if (contents == null) {
+            return getNullValue(null);
+        }
+        if (contents instanceof Boolean b) {
+            return cast(PrimitiveJsonNullables.of(PrimitiveJsonNullables.VALUE, (boolean) b));
+        }
+        if (contents instanceof Integer i) {
+            return ofInt(i);
+        }
+        if (contents instanceof Long l) {
+            return ofLong(l);
+        }
+        return JsonNullable.of(contents);
+    }
+
+    private static JsonNullable<Object> ofInt(int value) {
+        return cast(PrimitiveJsonNullables.of(PrimitiveJsonNullables.VALUE, value));
+    }
+
+    private static JsonNullable<Object> ofLong(long value) {
+        return cast(PrimitiveJsonNullables.of(PrimitiveJsonNullables.VALUE, value));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JsonNullable<Object> cast(JsonNullable<?> nullable) {
+        return (JsonNullable<Object>) nullable;
+    }
+}
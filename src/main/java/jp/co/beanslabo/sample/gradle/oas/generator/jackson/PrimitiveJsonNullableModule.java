@@ -0,0 +1,79 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.ReferenceType;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import java.io.Serial;
+import java.util.ArrayList;
+
+/**
+ * {@code JsonNullable<Integer>} などのプロパティを、{@link JsonNullable} を生成せずに Deserialize する Module. <br>
+ * {@link org.openapitools.jackson.nullable.JsonNullableModule} の後に登録すること.
+ * Serialize と型の判定は {@link org.openapitools.jackson.nullable.JsonNullableModule} で行う.
+ *
+ * <ul>
+ *   <li>{@link PrimitiveJsonNullableBean} を実装したモデル (open_api/templates から生成したモデル) の
+ *       プロパティは、{@link PrimitiveJsonNullableProperty} でプリミティブ型のフィールドに直接設定する.
+ *   <li>それ以外の {@link JsonNullable} は {@link PrimitiveJsonNullableDeserializer} で Deserialize する.
+ * </ul>
+ */
+public class PrimitiveJsonNullableModule extends SimpleModule {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Module を生成する.
+     */
+    public PrimitiveJsonNullableModule() {
+        super(PrimitiveJsonNullableModule.class.getSimpleName());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+
+        super.setupModule(context);
+        // 後から登録した Deserializers が優先される
+        context.addDeserializers(new Deserializers.Base() {
+            @Override
+            public JsonDeserializer<?> findReferenceDeserializer(
+                ReferenceType refType, DeserializationConfig config, BeanDescription beanDesc,
+                TypeDeserializer contentTypeDeserializer, JsonDeserializer<?> contentDeserializer) {
+
+                if (!refType.hasRawClass(JsonNullable.class)) {
+                    return null;
+                }
+                return new PrimitiveJsonNullableDeserializer(refType, null, contentTypeDeserializer, contentDeserializer);
+            }
+        });
+        context.addBeanDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public BeanDeserializerBuilder updateBuilder(
+                DeserializationConfig config, BeanDescription beanDesc, BeanDeserializerBuilder builder) {
+
+                if (!PrimitiveJsonNullableBean.class.isAssignableFrom(beanDesc.getBeanClass())) {
+                    return builder;
+                }
+                final var properties = new ArrayList<SettableBeanProperty>();
+                builder.getProperties().forEachRemaining(properties::add);
+                for (final var property : properties) {
+                    final var valueKind = PrimitiveJsonNullableProperty.ValueKind.of(property.getType());
+                    if (valueKind != null) {
+                        builder.addOrReplaceProperty(new PrimitiveJsonNullableProperty(property, valueKind), true);
+                    }
+                }
+                return builder;
+            }
+        });
+    }
+}
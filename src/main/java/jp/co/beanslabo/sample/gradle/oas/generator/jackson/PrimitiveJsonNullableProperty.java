@@ -0,0 +1,155 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * {@link PrimitiveJsonNullableBean} の {@code JsonNullable<Integer>} などのプロパティに、
+ * JSON の null・数値・真偽値を {@link JsonNullable} を生成せずに設定する {@link SettableBeanProperty}.
+ *
+ * <p>Parser から直接読み込めない値 (文字列からの変換、範囲外の整数値など) は、
+ * 元のプロパティ ({@link JsonNullable} の setter) で処理する.
+ */
+class PrimitiveJsonNullableProperty extends SettableBeanProperty.Delegating {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * {@link JsonNullable} が参照する値の型.
+     */
+    enum ValueKind {
+        INT, LONG, FLOAT, DOUBLE, BOOLEAN;
+
+        /**
+         * プロパティの型から、値の型を返す.
+         *
+         * @param type プロパティの型
+         * @return 値の型 (プリミティブ型で保持しない型の場合は null)
+         */
+        static ValueKind of(JavaType type) {
+
+            if (!type.hasRawClass(JsonNullable.class)) {
+                return null;
+            }
+            final var valueType = type.getReferencedType();
+            if (valueType == null) {
+                return null;
+            }
+            if (valueType.hasRawClass(Integer.class)) {
+                return INT;
+            }
+            if (valueType.hasRawClass(Long.class)) {
+                return LONG;
+            }
+            if (valueType.hasRawClass(Float.class)) {
+                return FLOAT;
+            }
+            if (valueType.hasRawClass(Double.class)) {
+                return DOUBLE;
+            }
+            if (valueType.hasRawClass(Boolean.class)) {
+                return BOOLEAN;
+            }
+            return null;
+        }
+    }
+
+    private final ValueKind valueKind;
+
+    /**
+     * プロパティを生成する.
+     *
+     * @param delegate  元のプロパティ
+     * @param valueKind {@link JsonNullable} が参照する値の型
+     */
+    PrimitiveJsonNullableProperty(SettableBeanProperty delegate, ValueKind valueKind) {
+
+        super(delegate);
+        this.valueKind = valueKind;
+    }
+
+    @Override
+    protected SettableBeanProperty withDelegate(SettableBeanProperty d) {
+        return new PrimitiveJsonNullableProperty(d, valueKind);
+    }
+
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt, Object instance) throws IOException {
+
+        if (!setPrimitive(p, instance)) {
+            delegate.deserializeAndSet(p, ctxt, instance);
+        }
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p, DeserializationContext ctxt, Object instance) throws IOException {
+
+        if (setPrimitive(p, instance)) {
+            return instance;
+        }
+        return delegate.deserializeSetAndReturn(p, ctxt, instance);
+    }
+
+    /**
+     * Parser の現在の値を、プリミティブ型のフィールドに設定する.
+     *
+     * @return 設定した場合は true、元のプロパティで処理する場合は false
+     */
+    private boolean setPrimitive(JsonParser p, Object instance) throws IOException {
+
+        if (!(instance instanceof PrimitiveJsonNullableBean bean)) {
+            return false;
+        }
+
+        final var token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return bean.setPrimitive(getName(), PrimitiveJsonNullables.NULL, 0L);
+        }
+        final long bits;
+        switch (valueKind) {
+            case INT -> {
+                if (token != JsonToken.VALUE_NUMBER_INT || p.getNumberType() != JsonParser.NumberType.INT) {
+                    return false;
+                }
+                bits = p.getIntValue();
+            }
+            case LONG -> {
+                if (token != JsonToken.VALUE_NUMBER_INT || p.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                    return false;
+                }
+                bits = p.getLongValue();
+            }
+            case FLOAT -> {
+                if (token != JsonToken.VALUE_NUMBER_FLOAT) {
+                    return false;
+                }
+                bits = Float.floatToRawIntBits(p.getFloatValue());
+            }
+            case DOUBLE -> {
+                if (token != JsonToken.VALUE_NUMBER_FLOAT) {
+                    return false;
+                }
+                bits = Double.doubleToRawLongBits(p.getDoubleValue());
+            }
+            case BOOLEAN -> {
+                if (token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_FALSE) {
+                    return false;
+                }
+                bits = token == JsonToken.VALUE_TRUE ? 1L : 0L;
+            }
+            default -> {
+                return false;
+            }
+        }
+        return bean.setPrimitive(getName(), PrimitiveJsonNullables.VALUE, bits);
+    }
+}
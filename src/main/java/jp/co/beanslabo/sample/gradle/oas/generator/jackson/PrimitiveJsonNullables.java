@@ -0,0 +1,371 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+import org.openapitools.jackson.nullable.JsonNullable;
+
+/**
+ * {@code JsonNullable<Integer>} / {@code JsonNullable<Long>} / {@code JsonNullable<Float>} / {@code JsonNullable<Double>} /
+ * {@code JsonNullable<Boolean>} を、プリミティブ型の値と状態の組み合わせで保持するための Utility.
+ *
+ * <p>open_api/templates/pojo.mustache で生成したモデルは、これらの型のプロパティを
+ * プリミティブ型のフィールドと状態 ({@link #UNDEFINED} / {@link #NULL} / {@link #VALUE} / {@link #NONE}) の
+ * フィールドで保持し、getter で {@link JsonNullable} に変換する.
+ * 状態が {@link #VALUE} 以外の場合、値のフィールドは 0 ({@code false}) とする.
+ *
+ * <p>変換後の {@link JsonNullable} は、{@code JsonNullable.of(null)}、真偽値、
+ * {@value #CACHE_LOW} ～ {@value #CACHE_HIGH} の整数値は事前に生成したインスタンスを返す
+ * ({@link JsonNullable} は不変のため共有できる).
+ */
+public final class PrimitiveJsonNullables {
+
+    /**
+     * {@code JsonNullable.undefined()} (JSON にプロパティがない).
+     */
+    public static final byte UNDEFINED = 0;
+
+    /**
+     * {@code JsonNullable.of(null)} (JSON の値が null).
+     */
+    public static final byte NULL = 1;
+
+    /**
+     * {@code JsonNullable.of(値)}.
+     */
+    public static final byte VALUE = 2;
+
+    /**
+     * {@link JsonNullable} 自体が null (setter に null を指定した場合).
+     */
+    public static final byte NONE = 3;
+
+    private static final int CACHE_LOW = -128;
+
+    private static final int CACHE_HIGH = 1023;
+
+    private static final JsonNullable<Object> NULL_VALUE = JsonNullable.of(null);
+
+    private static final JsonNullable<Boolean> TRUE = JsonNullable.of(Boolean.TRUE);
+
+    private static final JsonNullable<Boolean> FALSE = JsonNullable.of(Boolean.FALSE);
+
+    private static final JsonNullable<?>[] INTEGERS = new JsonNullable<?>[CACHE_HIGH - CACHE_LOW + 1];
+
+    private static final JsonNullable<?>[] LONGS = new JsonNullable<?>[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = CACHE_LOW; i <= CACHE_HIGH; i++) {
+            INTEGERS[i - CACHE_LOW] = JsonNullable.of(i);
+            LONGS[i - CACHE_LOW] = JsonNullable.of((long) i);
+        }
+    }
+
+    private PrimitiveJsonNullables() {
+    }
+
+    /**
+     * {@link JsonNullable} の状態を返す.
+     *
+     * @param nullable {@link JsonNullable} (null 可)
+     * @return 状態
+     */
+    public static byte stateOf(JsonNullable<?> nullable) {
+
+        if (nullable == null) {
+            return NONE;
+        }
+        if (!nullable.isPresent()) {
+            return UNDEFINED;
+        }
+        return nullable.get() == null ? NULL : VALUE;
+    }
+
+    /**
+     * {@code JsonNullable.of(value)} の状態を返す.
+     *
+     * @param value 値 (null 可)
+     * @return {@link #NULL} または {@link #VALUE}
+     */
+    public static byte stateOfValue(Object value) {
+        return value == null ? NULL : VALUE;
+    }
+
+    /**
+     * {@link JsonNullable} の値を返す.
+     *
+     * @param nullable {@link JsonNullable} (null 可)
+     * @param <T>      値の型
+     * @return 値 (値がない場合は null)
+     */
+    public static <T> T unwrap(JsonNullable<T> nullable) {
+        return nullable == null ? null : nullable.orElse(null);
+    }
+
+    /**
+     * 値をフィールドに保持するプリミティブ型の値に変換する.
+     *
+     * @param value 値 (null 可)
+     * @return プリミティブ型の値 (null の場合は 0)
+     */
+    public static int valueOf(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * 値をフィールドに保持するプリミティブ型の値に変換する.
+     *
+     * @param value 値 (null 可)
+     * @return プリミティブ型の値 (null の場合は 0)
+     */
+    public static long valueOf(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    /**
+     * 値をフィールドに保持するプリミティブ型の値に変換する.
+     *
+     * @param value 値 (null 可)
+     * @return プリミティブ型の値 (null の場合は 0)
+     */
+    public static float valueOf(Float value) {
+        return value == null ? 0.0f : value;
+    }
+
+    /**
+     * 値をフィールドに保持するプリミティブ型の値に変換する.
+     *
+     * @param value 値 (null 可)
+     * @return プリミティブ型の値 (null の場合は 0)
+     */
+    public static double valueOf(Double value) {
+        return value == null ? 0.0d : value;
+    }
+
+    /**
+     * 値をフィールドに保持するプリミティブ型の値に変換する.
+     *
+     * @param value 値 (null 可)
+     * @return プリミティブ型の値 (null の場合は false)
+     */
+    public static boolean valueOf(Boolean value) {
+        return value != null && value;
+    }
+
+    /**
+     * 状態と値から {@link JsonNullable} を返す.
+     *
+     * @param state 状態
+     * @param value 値
+     * @return {@link JsonNullable} (状態が {@link #NONE} の場合は null)
+     */
+    public static JsonNullable<Integer> of(byte state, int value) {
+
+        if (state != VALUE) {
+            return ofState(state);
+        }
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return cast(INTEGERS[value - CACHE_LOW]);
+        }
+        return JsonNullable.of(value);
+    }
+
+    /**
+     * 状態と値から {@link JsonNullable} を返す.
+     *
+     * @param state 状態
+     * @param value 値
+     * @return {@link JsonNullable} (状態が {@link #NONE} の場合は null)
+     */
+    public static JsonNullable<Long> of(byte state, long value) {
+
+        if (state != VALUE) {
+            return ofState(state);
+        }
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return cast(LONGS[(int) value - CACHE_LOW]);
+        }
+        return JsonNullable.of(value);
+    }
+
+    /**
+     * 状態と値から {@link JsonNullable} を返す.
+     *
+     * @param state 状態
+     * @param value 値
+     * @return {@link JsonNullable} (状態が {@link #NONE} の場合は null)
+     */
+    public static JsonNullable<Float> of(byte state, float value) {
+        return state == VALUE ? JsonNullable.of(value) : ofState(state);
+    }
+
+    /**
+     * 状態と値から {@link JsonNullable} を返す.
+     *
+     * @param state 状態
+     * @param value 値
+     * @return {@link JsonNullable} (状態が {@link #NONE} の場合は null)
+     */
+    public static JsonNullable<Double> of(byte state, double value) {
+        return state == VALUE ? JsonNullable.of(value) : ofState(state);
+    }
+
+    /**
+     * 状態と値から {@link JsonNullable} を返す.
+     *
+     * @param state 状態
+     * @param value 値
+     * @return {@link JsonNullable} (状態が {@link #NONE} の場合は null)
+     */
+    public static JsonNullable<Boolean> of(byte state, boolean value) {
+
+        if (state != VALUE) {
+            return ofState(state);
+        }
+        return value ? TRUE : FALSE;
+    }
+
+    /**
+     * 状態と値を比較する. {@code JsonNullable} の2つのフィールドを equalsNullable で比較した場合と同じ結果となる.
+     *
+     * @param state      状態
+     * @param value      値
+     * @param otherState 比較対象の状態
+     * @param otherValue 比較対象の値
+     * @return 等しい場合は true
+     */
+    public static boolean equals(byte state, int value, byte otherState, int otherValue) {
+        return state == otherState && value == otherValue;
+    }
+
+    /**
+     * 状態と値を比較する. {@code JsonNullable} の2つのフィールドを equalsNullable で比較した場合と同じ結果となる.
+     *
+     * @param state      状態
+     * @param value      値
+     * @param otherState 比較対象の状態
+     * @param otherValue 比較対象の値
+     * @return 等しい場合は true
+     */
+    public static boolean equals(byte state, long value, byte otherState, long otherValue) {
+        return state == otherState && value == otherValue;
+    }
+
+    /**
+     * 状態と値を比較する. {@code JsonNullable} の2つのフィールドを equalsNullable で比較した場合と同じ結果となる.
+     * ({@link Float#equals(Object)} と同じく、NaN 同士は等しく、0.0 と -0.0 は異なる値とする)
+     *
+     * @param state      状態
+     * @param value      値
+     * @param otherState 比較対象の状態
+     * @param otherValue 比較対象の値
+     * @return 等しい場合は true
+     */
+    public static boolean equals(byte state, float value, byte otherState, float otherValue) {
+        return state == otherState && Float.compare(value, otherValue) == 0;
+    }
+
+    /**
+     * 状態と値を比較する. {@code JsonNullable} の2つのフィールドを equalsNullable で比較した場合と同じ結果となる.
+     * ({@link Double#equals(Object)} と同じく、NaN 同士は等しく、0.0 と -0.0 は異なる値とする)
+     *
+     * @param state      状態
+     * @param value      値
+     * @param otherState 比較対象の状態
+     * @param otherValue 比較対象の値
+     * @return 等しい場合は true
+     */
+    public static boolean equals(byte state, double value, byte otherState, double otherValue) {
+        return state == otherState && Double.compare(value, otherValue) == 0;
+    }
+
+    /**
+     * 状態と値を比較する. {@code JsonNullable} の2つのフィールドを equalsNullable で比較した場合と同じ結果となる.
+     *
+     * @param state      状態
+     * @param value      値
+     * @param otherState 比較対象の状態
+     * @param otherValue 比較対象の値
+     * @return 等しい場合は true
+     */
+    public static boolean equals(byte state, boolean value, byte otherState, boolean otherValue) {
+        return state == otherState && value == otherValue;
+    }
+
+    /**
+     * 状態と値の hashCode を返す. {@code JsonNullable} のフィールドの hashCodeNullable と同じ値となる.
+     *
+     * @param state 状態
+     * @param value 値
+     * @return hashCode
+     */
+    public static int hashCode(byte state, int value) {
+        return hashCodeOf(state, Integer.hashCode(value));
+    }
+
+    /**
+     * 状態と値の hashCode を返す. {@code JsonNullable} のフィールドの hashCodeNullable と同じ値となる.
+     *
+     * @param state 状態
+     * @param value 値
+     * @return hashCode
+     */
+    public static int hashCode(byte state, long value) {
+        return hashCodeOf(state, Long.hashCode(value));
+    }
+
+    /**
+     * 状態と値の hashCode を返す. {@code JsonNullable} のフィールドの hashCodeNullable と同じ値となる.
+     *
+     * @param state 状態
+     * @param value 値
+     * @return hashCode
+     */
+    public static int hashCode(byte state, float value) {
+        return hashCodeOf(state, Float.hashCode(value));
+    }
+
+    /**
+     * 状態と値の hashCode を返す. {@code JsonNullable} のフィールドの hashCodeNullable と同じ値となる.
+     *
+     * @param state 状態
+     * @param value 値
+     * @return hashCode
+     */
+    public static int hashCode(byte state, double value) {
+        return hashCodeOf(state, Double.hashCode(value));
+    }
+
+    /**
+     * 状態と値の hashCode を返す. {@code JsonNullable} のフィールドの hashCodeNullable と同じ値となる.
+     *
+     * @param state 状態
+     * @param value 値
+     * @return hashCode
+     */
+    public static int hashCode(byte state, boolean value) {
+        return hashCodeOf(state, Boolean.hashCode(value));
+    }
+
+    private static int hashCodeOf(byte state, int valueHashCode) {
+
+        return switch (state) {
+            case NONE -> 1;
+            case VALUE -> 31 + valueHashCode;
+            default -> 31;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> JsonNullable<T> ofState(byte state) {
+
+        return switch (state) {
+            case UNDEFINED -> JsonNullable.undefined();
+            case NULL -> (JsonNullable<T>) NULL_VALUE;
+            default -> null;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> JsonNullable<T> cast(JsonNullable<?> nullable) {
+        return (JsonNullable<T>) nullable;
+    }
+}
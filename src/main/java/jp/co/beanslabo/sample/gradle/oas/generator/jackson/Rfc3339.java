@@ -0,0 +1,243 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+import lombok.val;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * OpenAPI の {@code format: date} / {@code format: date-time} が利用する RFC 3339 の固定の形式の日付文字列の変換処理.
+ *
+ * <ul>
+ *   <li>{@code format: date}: {@code yyyy-MM-dd}
+ *   <li>{@code format: date-time}: {@code yyyy-MM-ddTHH:mm:ss[.SSSSSSSSS](Z|+HH:MM|-HH:MM)}
+ * </ul>
+ *
+ * <p>{@link DateTimeFormatter} を利用せずに文字の配列から直接変換する.
+ * 解析はこの形式に一致し、{@link DateTimeFormatter#ISO_LOCAL_DATE} / {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} でも
+ * 同じ値となる文字列のみを対象とし、それ以外 (小文字の {@code t}・秒の省略・不正な日付など) は {@code null} を返す.
+ * 出力は {@link DateTimeFormatter#ISO_LOCAL_DATE} / {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} と同じ文字列となる.
+ */
+final class Rfc3339 {
+
+    /**
+     * {@code yyyy-MM-dd} の文字数.
+     */
+    static final int DATE_LENGTH = 10;
+
+    /**
+     * {@link #formatDateTime(LocalDateTime, ZoneOffset, char[])} の出力の最大の文字数.
+     */
+    static final int MAX_DATE_TIME_LENGTH = 38;
+
+    private static final int[] POWERS_OF_TEN = {
+        1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000};
+
+    private Rfc3339() {
+    }
+
+    /**
+     * {@code yyyy-MM-dd} 形式の文字列を {@link LocalDate} に変換する.
+     *
+     * @param text   文字の配列
+     * @param offset 文字列の開始位置
+     * @param length 文字列の長さ
+     * @return 変換した {@link LocalDate}. 形式が異なる場合や不正な日付の場合は {@code null}
+     */
+    static LocalDate parseDate(char[] text, int offset, int length) {
+
+        if (length != DATE_LENGTH) {
+            return null;
+        }
+        try {
+            return parseDate(text, offset);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * {@code yyyy-MM-ddTHH:mm:ss[.SSSSSSSSS](Z|+HH:MM|-HH:MM)} 形式の文字列を {@link OffsetDateTime} に変換する.
+     *
+     * @param text   文字の配列
+     * @param offset 文字列の開始位置
+     * @param length 文字列の長さ
+     * @return 変換した {@link OffsetDateTime}. 形式が異なる場合や不正な日時の場合は {@code null}
+     */
+    static OffsetDateTime parseDateTime(char[] text, int offset, int length) {
+
+        // yyyy-MM-ddTHH:mm:ssZ
+        if (length < 20 || text[offset + 10] != 'T' || text[offset + 13] != ':' || text[offset + 16] != ':') {
+            return null;
+        }
+        val end = offset + length;
+        var i = offset + 19;
+        var nano = 0;
+        if (text[i] == '.') {
+            val start = ++i;
+            while (i < end && i - start < 9 && isDigit(text[i])) {
+                nano = nano * 10 + (text[i++] - '0');
+            }
+            if (i == start) {
+                return null;
+            }
+            nano *= POWERS_OF_TEN[9 - (i - start)];
+        }
+
+        try {
+            final ZoneOffset zoneOffset;
+            if (i == end - 1 && text[i] == 'Z') {
+                zoneOffset = ZoneOffset.UTC;
+            } else if (i == end - 6 && (text[i] == '+' || text[i] == '-') && text[i + 3] == ':') {
+                val hours = digits(text, i + 1, 2);
+                val minutes = digits(text, i + 4, 2);
+                if ((hours | minutes) < 0 || minutes > 59) {
+                    return null;
+                }
+                // ZoneOffset.ofTotalSeconds は15分単位の Offset を Cache している
+                val totalSeconds = hours * 3600 + minutes * 60;
+                zoneOffset = ZoneOffset.ofTotalSeconds(text[i] == '-' ? -totalSeconds : totalSeconds);
+            } else {
+                return null;
+            }
+
+            val date = parseDate(text, offset);
+            val hour = digits(text, offset + 11, 2);
+            val minute = digits(text, offset + 14, 2);
+            val second = digits(text, offset + 17, 2);
+            if (date == null || (hour | minute | second) < 0) {
+                return null;
+            }
+            return OffsetDateTime.of(date, LocalTime.of(hour, minute, second, nano), zoneOffset);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * {@link LocalDate} を {@code yyyy-MM-dd} 形式で出力する.
+     *
+     * @param date   出力する日付
+     * @param buffer {@value #DATE_LENGTH} 文字以上の出力先
+     * @return 出力した文字数. 年が4桁でない場合は出力せずに {@code -1}
+     */
+    static int formatDate(LocalDate date, char[] buffer) {
+
+        val year = date.getYear();
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        putDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        putDigits(buffer, 5, date.getMonthValue(), 2);
+        buffer[7] = '-';
+        putDigits(buffer, 8, date.getDayOfMonth(), 2);
+        return DATE_LENGTH;
+    }
+
+    /**
+     * 日時を {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} と同じ形式で出力する. <br>
+     * 秒は常に出力し、秒未満は末尾の0を除いた桁数、Offset は {@code Z} または {@code +HH:MM[:ss]} で出力する.
+     *
+     * @param dateTime   出力する日時
+     * @param zoneOffset 出力する Offset
+     * @param buffer     {@value #MAX_DATE_TIME_LENGTH} 文字以上の出力先
+     * @return 出力した文字数. 年が4桁でない場合は出力せずに {@code -1}
+     */
+    static int formatDateTime(LocalDateTime dateTime, ZoneOffset zoneOffset, char[] buffer) {
+
+        if (formatDate(dateTime.toLocalDate(), buffer) < 0) {
+            return -1;
+        }
+        buffer[10] = 'T';
+        putDigits(buffer, 11, dateTime.getHour(), 2);
+        buffer[13] = ':';
+        putDigits(buffer, 14, dateTime.getMinute(), 2);
+        buffer[16] = ':';
+        putDigits(buffer, 17, dateTime.getSecond(), 2);
+        var i = 19;
+
+        var nano = dateTime.getNano();
+        if (nano > 0) {
+            var digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buffer[i++] = '.';
+            putDigits(buffer, i, nano, digits);
+            i += digits;
+        }
+
+        val totalSeconds = zoneOffset.getTotalSeconds();
+        if (totalSeconds == 0) {
+            buffer[i++] = 'Z';
+            return i;
+        }
+        val absSeconds = Math.abs(totalSeconds);
+        buffer[i++] = totalSeconds < 0 ? '-' : '+';
+        putDigits(buffer, i, absSeconds / 3600, 2);
+        buffer[i + 2] = ':';
+        putDigits(buffer, i + 3, absSeconds / 60 % 60, 2);
+        i += 5;
+        if (absSeconds % 60 != 0) {
+            buffer[i] = ':';
+            putDigits(buffer, i + 1, absSeconds % 60, 2);
+            i += 3;
+        }
+        return i;
+    }
+
+    /**
+     * {@code yyyy-MM-dd} を変換する. 形式が異なる場合は {@code null}.
+     */
+    private static LocalDate parseDate(char[] text, int offset) {
+
+        if (text[offset + 4] != '-' || text[offset + 7] != '-') {
+            return null;
+        }
+        val year = digits(text, offset, 4);
+        val month = digits(text, offset + 5, 2);
+        val day = digits(text, offset + 8, 2);
+        if ((year | month | day) < 0) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * 10進数の数字の列を変換する. 数字以外を含む場合は {@code -1}.
+     */
+    private static int digits(char[] text, int offset, int count) {
+
+        var value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            if (!isDigit(text[i])) {
+                return -1;
+            }
+            value = value * 10 + (text[i] - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * 0以上の整数値を、先頭を0で埋めた指定の桁数で出力する.
+     */
+    private static void putDigits(char[] buffer, int offset, int value, int count) {
+
+        for (int i = offset + count - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import lombok.val;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * RFC 3339 の固定の形式の日付文字列を {@link Rfc3339} で変換する Deserializer.
+ *
+ * <p>{@link #OFFSET_DATE_TIME} / {@link #LOCAL_DATE} は、形式が一致する JSON の文字列を Parser の文字の配列から直接変換し、
+ * それ以外の値 (数値・空文字列・形式の異なる文字列など) は {@code JavaTimeModule} の Deserializer で処理する.
+ * {@link JsonFormat} などで書式が指定されたプロパティも {@code JavaTimeModule} の Deserializer で処理する.
+ *
+ * @param <T> 日付の型
+ */
+public abstract class Rfc3339DateTimeDeserializer<T> extends StdScalarDeserializer<T> implements ContextualDeserializer {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * {@link OffsetDateTime} の Deserializer. <br>
+     * {@link InstantDeserializer#OFFSET_DATE_TIME} と同じく、
+     * {@link DeserializationFeature#ADJUST_DATES_TO_CONTEXT_TIME_ZONE} が有効な場合は Context の Time Zone の Offset に変換する.
+     */
+    public static final Rfc3339DateTimeDeserializer<OffsetDateTime> OFFSET_DATE_TIME = new ForOffsetDateTime();
+
+    /**
+     * {@link LocalDate} の Deserializer.
+     */
+    public static final Rfc3339DateTimeDeserializer<LocalDate> LOCAL_DATE = new ForLocalDate();
+
+    /**
+     * 形式が一致しない値を処理する {@code JavaTimeModule} の Deserializer.
+     */
+    private final JsonDeserializer<T> delegate;
+
+    private Rfc3339DateTimeDeserializer(Class<T> type, JsonDeserializer<T> delegate) {
+
+        super(type);
+        this.delegate = delegate;
+    }
+
+    /**
+     * 文字の配列を変換する.
+     *
+     * @param text   文字の配列
+     * @param offset 文字列の開始位置
+     * @param length 文字列の長さ
+     * @param ctxt   {@link DeserializationContext}
+     * @return 変換した値. 形式が一致しない場合は {@code null}
+     */
+    protected abstract T parse(char[] text, int offset, int length, DeserializationContext ctxt);
+
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            val value = parse(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), ctxt);
+            if (value != null) {
+                return value;
+            }
+        }
+        return delegate.deserialize(p, ctxt);
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer)
+        throws IOException {
+
+        return delegate.deserializeWithType(p, ctxt, typeDeserializer);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+        throws JsonMappingException {
+
+        val format = findFormatOverrides(ctxt, property, handledType());
+        if (!JsonFormat.Value.empty().equals(format)) {
+            // 書式が指定されている場合は JavaTimeModule の Deserializer で処理する
+            return ((ContextualDeserializer) delegate).createContextual(ctxt, property);
+        }
+        return this;
+    }
+
+    @Override
+    public LogicalType logicalType() {
+        return LogicalType.DateTime;
+    }
+
+    private static final class ForOffsetDateTime extends Rfc3339DateTimeDeserializer<OffsetDateTime> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private static final ZoneOffsetCache ZONE_OFFSET_CACHE = new ZoneOffsetCache();
+
+        private ForOffsetDateTime() {
+            super(OffsetDateTime.class, InstantDeserializer.OFFSET_DATE_TIME);
+        }
+
+        @Override
+        protected OffsetDateTime parse(char[] text, int offset, int length, DeserializationContext ctxt) {
+
+            val value = Rfc3339.parseDateTime(text, offset, length);
+            if (value == null || !ctxt.isEnabled(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)) {
+                return value;
+            }
+            // InstantDeserializer と同じく、変換前のローカル日時で Context の Time Zone の Offset を求める
+            return value.withOffsetSameInstant(ZONE_OFFSET_CACHE.getOffset(ctxt.getTimeZone(), value.toLocalDateTime()));
+        }
+    }
+
+    private static final class ForLocalDate extends Rfc3339DateTimeDeserializer<LocalDate> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private ForLocalDate() {
+            super(LocalDate.class, LocalDateDeserializer.INSTANCE);
+        }
+
+        @Override
+        protected LocalDate parse(char[] text, int offset, int length, DeserializationContext ctxt) {
+            return Rfc3339.parseDate(text, offset, length);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.Serial;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * {@code format: date-time} の {@link OffsetDateTime} と {@code format: date} の {@link LocalDate} の変換に
+ * {@link Rfc3339DateTimeDeserializer} / {@link Rfc3339DateTimeSerializer} を利用する Module. <br>
+ * {@code JavaTimeModule} の後に登録すること (後から登録した Module が優先される).
+ * 固定の形式以外の値は {@code JavaTimeModule} の Deserializer / Serializer で処理する.
+ */
+public class Rfc3339DateTimeModule extends SimpleModule {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Module を生成する.
+     */
+    public Rfc3339DateTimeModule() {
+
+        super(Rfc3339DateTimeModule.class.getSimpleName());
+        addDeserializer(OffsetDateTime.class, Rfc3339DateTimeDeserializer.OFFSET_DATE_TIME);
+        addDeserializer(LocalDate.class, Rfc3339DateTimeDeserializer.LOCAL_DATE);
+        addSerializer(OffsetDateTime.class, Rfc3339DateTimeSerializer.OFFSET_DATE_TIME);
+        addSerializer(LocalDate.class, Rfc3339DateTimeSerializer.LOCAL_DATE);
+    }
+}
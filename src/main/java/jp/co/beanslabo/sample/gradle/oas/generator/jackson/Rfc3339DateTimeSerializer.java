@@ -0,0 +1,152 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.OffsetDateTimeSerializer;
+import lombok.val;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * 日付を RFC 3339 の固定の形式の文字列として {@link Rfc3339} で出力する Serializer.
+ *
+ * <p>{@link #OFFSET_DATE_TIME} / {@link #LOCAL_DATE} は、{@code JavaTimeModule} の Serializer と同じ文字列を
+ * {@link java.time.format.DateTimeFormatter} を利用せずに出力する.
+ * {@link SerializationFeature#WRITE_DATES_AS_TIMESTAMPS} が有効な場合、年が4桁でない場合、
+ * {@link JsonFormat} などで書式が指定されたプロパティは {@code JavaTimeModule} の Serializer で処理する.
+ *
+ * @param <T> 日付の型
+ */
+public abstract class Rfc3339DateTimeSerializer<T> extends StdSerializer<T> implements ContextualSerializer {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * {@link OffsetDateTime} の Serializer. <br>
+     * {@link OffsetDateTimeSerializer} と同じく、Time Zone が明示的に設定され
+     * {@link SerializationFeature#WRITE_DATES_WITH_CONTEXT_TIME_ZONE} が有効な場合は Context の Time Zone の Offset に変換して出力する.
+     */
+    public static final Rfc3339DateTimeSerializer<OffsetDateTime> OFFSET_DATE_TIME = new ForOffsetDateTime();
+
+    /**
+     * {@link LocalDate} の Serializer.
+     */
+    public static final Rfc3339DateTimeSerializer<LocalDate> LOCAL_DATE = new ForLocalDate();
+
+    /**
+     * 固定の形式で出力しない値を処理する {@code JavaTimeModule} の Serializer.
+     */
+    private final JsonSerializer<T> delegate;
+
+    private Rfc3339DateTimeSerializer(Class<T> type, JsonSerializer<T> delegate) {
+
+        super(type);
+        this.delegate = delegate;
+    }
+
+    /**
+     * 値を文字の配列に出力する.
+     *
+     * @param value    出力する値
+     * @param buffer   {@value Rfc3339#MAX_DATE_TIME_LENGTH} 文字以上の出力先
+     * @param provider {@link SerializerProvider}
+     * @return 出力した文字数. 固定の形式で出力できない場合は {@code -1}
+     */
+    protected abstract int format(T value, char[] buffer, SerializerProvider provider);
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+
+        if (!provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            val buffer = new char[Rfc3339.MAX_DATE_TIME_LENGTH];
+            val length = format(value, buffer, provider);
+            if (length >= 0) {
+                gen.writeString(buffer, 0, length);
+                return;
+            }
+        }
+        delegate.serialize(value, gen, provider);
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+        throws IOException {
+
+        delegate.serializeWithType(value, gen, provider, typeSer);
+    }
+
+    @Override
+    public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint) throws JsonMappingException {
+        delegate.acceptJsonFormatVisitor(visitor, typeHint);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+        throws JsonMappingException {
+
+        val format = findFormatOverrides(provider, property, handledType());
+        if (!JsonFormat.Value.empty().equals(format)) {
+            // 書式が指定されている場合は JavaTimeModule の Serializer で処理する
+            return ((ContextualSerializer) delegate).createContextual(provider, property);
+        }
+        return this;
+    }
+
+    private static final class ForOffsetDateTime extends Rfc3339DateTimeSerializer<OffsetDateTime> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private static final ZoneOffsetCache ZONE_OFFSET_CACHE = new ZoneOffsetCache();
+
+        private ForOffsetDateTime() {
+            super(OffsetDateTime.class, OffsetDateTimeSerializer.INSTANCE);
+        }
+
+        @Override
+        protected int format(OffsetDateTime value, char[] buffer, SerializerProvider provider) {
+
+            // Offset の変換で年が変わっても Epoch 秒の範囲を超えないよう、前後の年は固定の形式で出力しない
+            if (value.getYear() < 1 || value.getYear() > 9998) {
+                return -1;
+            }
+            if (provider.getConfig().hasExplicitTimeZone()
+                && provider.isEnabled(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE)) {
+                val zoneOffset = ZONE_OFFSET_CACHE.getOffset(provider.getTimeZone(), value.toEpochSecond());
+                return Rfc3339.formatDateTime(value.withOffsetSameInstant(zoneOffset).toLocalDateTime(), zoneOffset, buffer);
+            }
+            return Rfc3339.formatDateTime(value.toLocalDateTime(), value.getOffset(), buffer);
+        }
+    }
+
+    private static final class ForLocalDate extends Rfc3339DateTimeSerializer<LocalDate> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private ForLocalDate() {
+            super(LocalDate.class, LocalDateSerializer.INSTANCE);
+        }
+
+        @Override
+        protected int format(LocalDate value, char[] buffer, SerializerProvider provider) {
+            return Rfc3339.formatDate(value, buffer);
+        }
+    }
+}
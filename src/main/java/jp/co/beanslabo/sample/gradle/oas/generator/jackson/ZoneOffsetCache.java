@@ -0,0 +1,129 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+import lombok.val;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.TimeZone;
+
+/**
+ * {@link TimeZone} の日時ごとの {@link ZoneOffset} を、前回の検索結果が有効な範囲の分だけ保持する Cache.
+ *
+ * <p>{@link ZoneRules#getOffset(LocalDateTime)} / {@link ZoneRules#getOffset(Instant)} は Offset の切り替わり
+ * (夏時間など) の一覧から検索するため、前後の切り替わりの間の日時は同じ Offset となることを利用して、
+ * 検索した Offset とそれが有効な範囲を保持する. 範囲内の日時は切り替わりの一覧を検索せずに Offset を返す.
+ * {@code Asia/Tokyo} など現在は切り替わりのない Time Zone では、最後の切り替わり以降の全ての日時が1つの範囲となる.
+ *
+ * <p>範囲はスレッド間で共有し、範囲外の日時を検索した場合は置き換える.
+ */
+class ZoneOffsetCache {
+
+    /**
+     * ローカル日時から検索した Offset の有効な範囲.
+     */
+    private volatile Range localRange;
+
+    /**
+     * Instant から検索した Offset の有効な範囲.
+     */
+    private volatile Range instantRange;
+
+    /**
+     * ローカル日時の Offset を返す. {@link ZoneRules#getOffset(LocalDateTime)} と同じ値となる.
+     *
+     * @param timeZone Time Zone
+     * @param dateTime ローカル日時
+     * @return Offset
+     */
+    ZoneOffset getOffset(TimeZone timeZone, LocalDateTime dateTime) {
+
+        val localSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+        val range = localRange;
+        if (range != null && range.contains(timeZone, localSecond)) {
+            return range.offset();
+        }
+
+        val rules = timeZone.toZoneId().getRules();
+        val offset = rules.getOffset(dateTime);
+        // 切り替わりの前後の重複・欠落するローカル日時は、切り替わり前の Offset となる.
+        // そのため、ローカル日時の範囲は切り替わり前後の Offset のうち大きい方で求める
+        val instant = dateTime.toEpochSecond(offset);
+        val previous = rules.previousTransition(Instant.ofEpochSecond(instant + 1));
+        val next = rules.nextTransition(Instant.ofEpochSecond(instant));
+        val newRange = new Range(
+            timeZone,
+            previous == null ? Long.MIN_VALUE : previous.toEpochSecond() + maxOffsetSeconds(previous),
+            next == null ? Long.MAX_VALUE : next.toEpochSecond() + maxOffsetSeconds(next),
+            offset);
+        if (isValid(newRange, previous, next, localSecond)) {
+            localRange = newRange;
+        }
+        return offset;
+    }
+
+    /**
+     * Instant の Offset を返す. {@link ZoneRules#getOffset(Instant)} と同じ値となる.
+     *
+     * @param timeZone    Time Zone
+     * @param epochSecond Instant の Epoch 秒
+     * @return Offset
+     */
+    ZoneOffset getOffset(TimeZone timeZone, long epochSecond) {
+
+        val range = instantRange;
+        if (range != null && range.contains(timeZone, epochSecond)) {
+            return range.offset();
+        }
+
+        val rules = timeZone.toZoneId().getRules();
+        val instant = Instant.ofEpochSecond(epochSecond);
+        val offset = rules.getOffset(instant);
+        val previous = rules.previousTransition(instant.plusSeconds(1));
+        val next = rules.nextTransition(instant);
+        val newRange = new Range(
+            timeZone,
+            previous == null ? Long.MIN_VALUE : previous.toEpochSecond(),
+            next == null ? Long.MAX_VALUE : next.toEpochSecond(),
+            offset);
+        if (isValid(newRange, previous, next, epochSecond)) {
+            instantRange = newRange;
+        }
+        return offset;
+    }
+
+    private static int maxOffsetSeconds(ZoneOffsetTransition transition) {
+        return Math.max(transition.getOffsetBefore().getTotalSeconds(), transition.getOffsetAfter().getTotalSeconds());
+    }
+
+    /**
+     * 検索した日時が範囲に含まれ、範囲の Offset が前後の切り替わりと一致する場合のみ Cache する.
+     * (切り替わりで欠落したローカル日時を検索した場合などは Cache しない)
+     */
+    private static boolean isValid(Range range, ZoneOffsetTransition previous, ZoneOffsetTransition next, long second) {
+
+        if (second < range.from() || second >= range.to()) {
+            return false;
+        }
+        return (previous == null || previous.getOffsetAfter().equals(range.offset()))
+            && (next == null || next.getOffsetBefore().equals(range.offset()));
+    }
+
+    /**
+     * Offset が有効な範囲.
+     *
+     * @param timeZone Time Zone
+     * @param from     範囲の開始 (この値を含む)
+     * @param to       範囲の終了 (この値を含まない)
+     * @param offset   範囲内の Offset
+     */
+    private record Range(TimeZone timeZone, long from, long to, ZoneOffset offset) {
+
+        boolean contains(TimeZone timeZone, long second) {
+            return this.timeZone == timeZone && second >= from && second < to;
+        }
+    }
+}
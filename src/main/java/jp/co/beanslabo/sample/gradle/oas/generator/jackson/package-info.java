@@ -0,0 +1,5 @@
+/**
+ * Jackson extension classes.<br>
+ * JSON の Serialize / Deserialize を拡張する Jackson の Module などを格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
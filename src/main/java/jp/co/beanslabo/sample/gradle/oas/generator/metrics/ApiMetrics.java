@@ -0,0 +1,74 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * APIの処理時間をフェーズごとに記録するクラス.
+ *
+ * <p>operationId とフェーズごとの {@link Timer} ({@value #METRIC_NAME}) に記録する.
+ * パーセンタイルは {@code management.metrics.distribution.percentiles} の設定に従って公開される.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiMetrics {
+
+    /**
+     * Metrics の名前.
+     */
+    public static final String METRIC_NAME = "sample.api.phase";
+
+    /**
+     * operationId の tag.
+     */
+    public static final String OPERATION_TAG = "operation";
+
+    /**
+     * フェーズの tag.
+     */
+    public static final String PHASE_TAG = "phase";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * 処理時間を記録する.
+     *
+     * @param operationId APIの operationId
+     * @param phase       フェーズ
+     * @param nanos       処理時間 (ナノ秒)
+     */
+    public void record(String operationId, ApiPhase phase, long nanos) {
+        timers.computeIfAbsent(new TimerKey(operationId, phase), this::timer).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * リクエストの処理時間を記録する {@link ApiPhaseRecorder} を生成する.
+     *
+     * @param operationId APIの operationId
+     * @return {@link ApiPhaseRecorder}
+     */
+    public ApiPhaseRecorder recorder(String operationId) {
+        return new ApiPhaseRecorder(this, operationId);
+    }
+
+    private Timer timer(TimerKey key) {
+
+        return Timer.builder(METRIC_NAME)
+            .description("APIのフェーズごとの処理時間")
+            .tag(OPERATION_TAG, key.operationId())
+            .tag(PHASE_TAG, key.phase().getTagValue())
+            .register(meterRegistry);
+    }
+
+    private record TimerKey(String operationId, ApiPhase phase) {
+    }
+}
@@ -0,0 +1,44 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * APIの処理時間を計測するフェーズ. <br>
+ * 1リクエストの処理は、以下の順に各フェーズを経由する.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ApiPhase {
+
+    /**
+     * リクエストボディの読み込み (InputStream からの読み込みで待機した時間).
+     */
+    READ("read"),
+
+    /**
+     * リクエストボディから Object への変換 (読み込みの待機時間を除く).
+     */
+    BIND("bind"),
+
+    /**
+     * リクエストボディの Bean Validation.
+     */
+    VALIDATION("validation"),
+
+    /**
+     * Controller (Delegate) の処理.
+     */
+    DELEGATE("delegate"),
+
+    /**
+     * レスポンスボディの変換と書き込み.
+     */
+    SERIALIZATION("serialization");
+
+    /**
+     * Metrics の tag の値.
+     */
+    private final String tagValue;
+}
@@ -0,0 +1,156 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.metrics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+
+/**
+ * リクエストボディの読み込み・変換 ({@link ApiPhase#READ} / {@link ApiPhase#BIND}) と、
+ * Controller の処理 ({@link ApiPhase#DELEGATE}) の終了を記録する Advice.
+ *
+ * <p>リクエストボディを {@link Resource} で受け取る API は、Controller の処理中にリクエストボディを読み込むため、
+ * 読み込み・変換を記録しない.
+ */
+@ControllerAdvice
+public class ApiPhaseAdvice implements RequestBodyAdvice, ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(
+        @NonNull MethodParameter methodParameter, @NonNull Type targetType,
+        @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+
+        return !(targetType instanceof Class<?> type && Resource.class.isAssignableFrom(type));
+    }
+
+    @Override
+    @NonNull
+    public HttpInputMessage beforeBodyRead(
+        @NonNull HttpInputMessage inputMessage, @NonNull MethodParameter parameter, @NonNull Type targetType,
+        @NonNull Class<? extends HttpMessageConverter<?>> converterType) throws IOException {
+
+        final var recorder = ApiPhaseRecorder.current();
+        if (recorder.isEmpty()) {
+            return inputMessage;
+        }
+
+        recorder.get().startRead();
+        return new TimedHttpInputMessage(inputMessage, recorder.get());
+    }
+
+    @Override
+    @NonNull
+    public Object afterBodyRead(
+        @NonNull Object body, @NonNull HttpInputMessage inputMessage, @NonNull MethodParameter parameter,
+        @NonNull Type targetType, @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+
+        ApiPhaseRecorder.current().ifPresent(ApiPhaseRecorder::markBody);
+        return body;
+    }
+
+    @Override
+    public Object handleEmptyBody(
+        Object body, @NonNull HttpInputMessage inputMessage, @NonNull MethodParameter parameter,
+        @NonNull Type targetType, @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+
+        ApiPhaseRecorder.current().ifPresent(ApiPhaseRecorder::markBody);
+        return body;
+    }
+
+    @Override
+    public boolean supports(
+        @NonNull MethodParameter returnType, @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+        Object body, @NonNull MethodParameter returnType, @NonNull MediaType selectedContentType,
+        @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            ApiPhaseRecorder.of(servletRequest.getServletRequest())
+                .filter(recorder -> !recorder.isDelegated())
+                .ifPresent(recorder -> recorder.mark(ApiPhase.DELEGATE));
+        }
+        return body;
+    }
+
+    /**
+     * 読み込みで待機した時間を {@link ApiPhaseRecorder} に加算する {@link HttpInputMessage}.
+     */
+    private static final class TimedHttpInputMessage implements HttpInputMessage {
+
+        private final HttpInputMessage delegate;
+
+        private final InputStream body;
+
+        private TimedHttpInputMessage(HttpInputMessage delegate, ApiPhaseRecorder recorder) throws IOException {
+            this.delegate = delegate;
+            this.body = new TimedInputStream(delegate.getBody(), recorder);
+        }
+
+        @Override
+        @NonNull
+        public InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        @NonNull
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+
+    /**
+     * 読み込みで待機した時間を {@link ApiPhaseRecorder} に加算する {@link InputStream}.
+     */
+    private static final class TimedInputStream extends FilterInputStream {
+
+        private final ApiPhaseRecorder recorder;
+
+        private TimedInputStream(InputStream in, ApiPhaseRecorder recorder) {
+            super(in);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public int read() throws IOException {
+
+            final var start = System.nanoTime();
+            try {
+                return super.read();
+            } finally {
+                recorder.addReadNanos(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public int read(@NonNull byte[] b, int off, int len) throws IOException {
+
+            final var start = System.nanoTime();
+            try {
+                return super.read(b, off, len);
+            } finally {
+                recorder.addReadNanos(System.nanoTime() - start);
+            }
+        }
+    }
+}
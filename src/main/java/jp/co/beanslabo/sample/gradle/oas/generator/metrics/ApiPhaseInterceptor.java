@@ -0,0 +1,46 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jp.co.beanslabo.sample.gradle.oas.generator.controller.ApiOperations;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * OpenAPI の operationId を持つ API のリクエストに {@link ApiPhaseRecorder} を設定し、
+ * レスポンスの書き込み完了時に {@link ApiPhase#SERIALIZATION} を記録する {@link HandlerInterceptor}.
+ * 非同期処理のリクエストは、最初の dispatch で設定した {@link ApiPhaseRecorder} を ASYNC の dispatch でも利用する.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiPhaseInterceptor implements HandlerInterceptor {
+
+    private final ApiMetrics apiMetrics;
+
+    @Override
+    public boolean preHandle(
+        @NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+
+        if (handler instanceof HandlerMethod handlerMethod
+            && request.getAttribute(ApiPhaseRecorder.ATTRIBUTE_NAME) == null) {
+            ApiOperations.operationId(handlerMethod)
+                .ifPresent(operationId ->
+                    request.setAttribute(ApiPhaseRecorder.ATTRIBUTE_NAME, apiMetrics.recorder(operationId)));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+        @NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler,
+        Exception ex) {
+
+        ApiPhaseRecorder.of(request)
+            .filter(ApiPhaseRecorder::isDelegated)
+            .ifPresent(recorder -> recorder.mark(ApiPhase.SERIALIZATION));
+    }
+}
@@ -0,0 +1,139 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 1リクエストの処理時間をフェーズごとに記録するクラス. <br>
+ * {@link ApiPhaseInterceptor} がリクエストの属性に設定し、各フェーズの終了時に {@link #mark(ApiPhase)} を呼び出す.
+ *
+ * <p>各フェーズの処理時間は、前のフェーズの終了 (またはリクエストボディの読み込み開始) からの経過時間とする.
+ * 検証の時間以外は、Servlet コンテナの Thread (dispatch ごとに1つ) からのみ呼び出す. <br>
+ * {@link #addValidationNanos(long)} は Delegate の Thread から呼び出され、非同期処理がタイムアウトした場合は
+ * ASYNC の dispatch の {@link #mark(ApiPhase)} と同時に呼び出される場合があるため、{@link LongAdder} で加算する.
+ * {@link ApiPhase#DELEGATE} の終了後に加算した時間は記録しない. <br>
+ * {@link RequestContextHolder} は Servlet コンテナの Thread にのみ設定されるため、
+ * Delegate の Thread で記録する場合は、Servlet コンテナの Thread で {@link #current()} を取得して渡す.
+ */
+public class ApiPhaseRecorder {
+
+    /**
+     * リクエストの属性名.
+     */
+    static final String ATTRIBUTE_NAME = ApiPhaseRecorder.class.getName();
+
+    private final ApiMetrics apiMetrics;
+
+    private final String operationId;
+
+    private long lastNanos = System.nanoTime();
+
+    private long readNanos;
+
+    private volatile boolean delegated;
+
+    private final LongAdder validationNanos = new LongAdder();
+
+    private volatile boolean validated;
+
+    ApiPhaseRecorder(ApiMetrics apiMetrics, String operationId) {
+        this.apiMetrics = apiMetrics;
+        this.operationId = operationId;
+    }
+
+    /**
+     * リクエストに設定された {@link ApiPhaseRecorder} を取得する.
+     *
+     * @param request リクエスト
+     * @return {@link ApiPhaseRecorder} (計測対象外のリクエストの場合は empty)
+     */
+    public static Optional<ApiPhaseRecorder> of(HttpServletRequest request) {
+        return Optional.ofNullable((ApiPhaseRecorder) request.getAttribute(ATTRIBUTE_NAME));
+    }
+
+    /**
+     * 処理中のリクエストに設定された {@link ApiPhaseRecorder} を取得する.
+     *
+     * @return {@link ApiPhaseRecorder} (リクエストの処理中でない場合や、計測対象外のリクエストの場合は empty)
+     */
+    public static Optional<ApiPhaseRecorder> current() {
+
+        return Optional.ofNullable(RequestContextHolder.getRequestAttributes())
+            .map(attributes -> (ApiPhaseRecorder) attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    /**
+     * リクエストボディの読み込みを開始する.
+     */
+    public void startRead() {
+        lastNanos = System.nanoTime();
+        readNanos = 0;
+    }
+
+    /**
+     * リクエストボディの読み込みで待機した時間を加算する.
+     *
+     * @param nanos 待機した時間 (ナノ秒)
+     */
+    public void addReadNanos(long nanos) {
+        readNanos += nanos;
+    }
+
+    /**
+     * リクエストボディの変換の終了を記録する. <br>
+     * 読み込み開始からの経過時間を、{@link ApiPhase#READ} と {@link ApiPhase#BIND} に分けて記録する.
+     */
+    public void markBody() {
+
+        final var now = System.nanoTime();
+        apiMetrics.record(operationId, ApiPhase.READ, readNanos);
+        apiMetrics.record(operationId, ApiPhase.BIND, Math.max(now - lastNanos - readNanos, 0));
+        lastNanos = now;
+    }
+
+    /**
+     * Delegate の処理の中で行った検証の時間を加算する. <br>
+     * 加算した時間は {@link ApiPhase#DELEGATE} の終了時に {@link ApiPhase#VALIDATION} として記録し、
+     * {@link ApiPhase#DELEGATE} の処理時間から除く. Delegate の Thread から呼び出すことができる.
+     *
+     * @param nanos 検証の時間 (ナノ秒)
+     */
+    public void addValidationNanos(long nanos) {
+        validationNanos.add(nanos);
+        validated = true;
+    }
+
+    /**
+     * フェーズの終了を記録する.
+     *
+     * @param phase 終了したフェーズ
+     */
+    public void mark(ApiPhase phase) {
+
+        final var now = System.nanoTime();
+        if (phase == ApiPhase.DELEGATE && validated) {
+            final var nanos = validationNanos.sum();
+            apiMetrics.record(operationId, ApiPhase.VALIDATION, nanos);
+            lastNanos += Math.min(nanos, now - lastNanos);
+        }
+        apiMetrics.record(operationId, phase, now - lastNanos);
+        lastNanos = now;
+        if (phase == ApiPhase.DELEGATE) {
+            delegated = true;
+        }
+    }
+
+    /**
+     * {@link ApiPhase#DELEGATE} が終了しているか.
+     *
+     * @return 終了している場合は true
+     */
+    public boolean isDelegated() {
+        return delegated;
+    }
+}
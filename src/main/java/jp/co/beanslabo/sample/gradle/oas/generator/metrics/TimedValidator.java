@@ -0,0 +1,58 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.NonNull;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * 検証の終了時に {@link ApiPhase#VALIDATION} を記録する {@link SmartValidator}. <br>
+ * 検証は引数の {@link SmartValidator} で行う.
+ *
+ * <p>{@link Resource} のリクエストボディは Delegate の処理の中で読み込み・検証を行うため、ここでは記録しない
+ * ({@link ApiPhaseRecorder#addValidationNanos(long)} で記録する).
+ */
+@RequiredArgsConstructor
+public class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+
+    @Override
+    public boolean supports(@NonNull Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(@NonNull Object target, @NonNull Errors errors) {
+
+        try {
+            delegate.validate(target, errors);
+        } finally {
+            mark(target);
+        }
+    }
+
+    @Override
+    public void validate(@NonNull Object target, @NonNull Errors errors, @NonNull Object... validationHints) {
+
+        try {
+            delegate.validate(target, errors, validationHints);
+        } finally {
+            mark(target);
+        }
+    }
+
+    /**
+     * {@link ApiPhase#VALIDATION} の終了を記録する.
+     *
+     * @param target 検証対象
+     */
+    private static void mark(Object target) {
+
+        if (!(target instanceof Resource)) {
+            ApiPhaseRecorder.current().ifPresent(recorder -> recorder.mark(ApiPhase.VALIDATION));
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * API metrics classes.<br>
+ * APIの処理時間をフェーズごとに計測するクラスを格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.metrics;
@@ -0,0 +1,171 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.stream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequestObjectArrayFieldInner;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link PostV1SampleGradleOasGeneratorRequest} 形式の JSON を逐次読み込むクラス.
+ *
+ * <p>{@code object_array_field} と {@code string_array_field} は要素を1件ずつ読み込む {@link Stream} として
+ * Consumer に渡すため、配列の要素数に関わらずメモリ使用量は一定となる. <br>
+ * それ以外のフィールドは {@link ObjectMapper} と同じプロパティの Deserializer で Parser から直接バインドし、戻り値として返す.
+ * 戻り値の {@code object_array_field} と {@code string_array_field} は、JSON の値が null の場合のみ設定される.
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamingRequestReader {
+
+    private static final String OBJECT_ARRAY_FIELD = "object_array_field";
+
+    private static final String STRING_ARRAY_FIELD = "string_array_field";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * JSON を読み込む. <br>
+     * 各 Consumer は対応するフィールドが配列の場合に、JSON 上の出現順に呼び出される.
+     * Consumer が読み込まなかった要素は読み飛ばされる.
+     *
+     * @param inputStream              JSON の {@link InputStream}
+     * @param objectArrayFieldConsumer {@code object_array_field} の要素を処理する Consumer
+     * @param stringArrayFieldConsumer {@code string_array_field} の要素を処理する Consumer
+     * @return 配列以外のフィールドをバインドした {@link PostV1SampleGradleOasGeneratorRequest}
+     * @throws IOException JSON の読み込みに失敗した場合
+     */
+    public PostV1SampleGradleOasGeneratorRequest read(
+        InputStream inputStream,
+        Consumer<Stream<PostV1SampleGradleOasGeneratorRequestObjectArrayFieldInner>> objectArrayFieldConsumer,
+        Consumer<Stream<String>> stringArrayFieldConsumer) throws IOException {
+
+        try (val parser = objectMapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw MismatchedInputException.from(
+                    parser, PostV1SampleGradleOasGeneratorRequest.class, "JSON Object ではありません");
+            }
+
+            val context = ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                .createInstance(objectMapper.getDeserializationConfig(), parser, objectMapper.getInjectableValues());
+            val deserializer = beanDeserializer(context);
+            val request = (PostV1SampleGradleOasGeneratorRequest) deserializer.getValueInstantiator()
+                .createUsingDefault(context);
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                val fieldName = parser.currentName();
+                val token = parser.nextToken();
+
+                if (token == JsonToken.START_ARRAY && OBJECT_ARRAY_FIELD.equals(fieldName)) {
+                    readArray(parser, PostV1SampleGradleOasGeneratorRequestObjectArrayFieldInner.class,
+                        objectArrayFieldConsumer);
+                } else if (token == JsonToken.START_ARRAY && STRING_ARRAY_FIELD.equals(fieldName)) {
+                    readArray(parser, String.class, stringArrayFieldConsumer);
+                } else {
+                    // 中間の JsonNode を経由せず、ObjectMapper と同じプロパティの Deserializer で直接バインドする
+                    val property = deserializer.findProperty(fieldName);
+                    if (property != null) {
+                        property.deserializeAndSet(parser, context, request);
+                    } else {
+                        context.handleUnknownProperty(parser, deserializer, request, fieldName);
+                    }
+                }
+            }
+
+            return request;
+        }
+    }
+
+    private BeanDeserializerBase beanDeserializer(DeserializationContext context) throws JsonMappingException {
+
+        val type = objectMapper.constructType(PostV1SampleGradleOasGeneratorRequest.class);
+        if (!(context.findRootValueDeserializer(type) instanceof BeanDeserializerBase deserializer)
+            || !deserializer.getValueInstantiator().canCreateUsingDefault()) {
+            throw InvalidDefinitionException.from(context.getParser(), "Bean の Deserializer ではありません", type);
+        }
+        return deserializer;
+    }
+
+    private <T> void readArray(JsonParser parser, Class<T> itemType, Consumer<Stream<T>> consumer)
+        throws IOException {
+
+        val iterator = new ArrayItemIterator<T>(parser, objectMapper.readerFor(itemType));
+        try {
+            consumer.accept(StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false));
+            iterator.skipRemaining();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * JSON 配列の要素を1件ずつ読み込む {@link Iterator}.
+     */
+    @RequiredArgsConstructor
+    private static final class ArrayItemIterator<T> implements Iterator<T> {
+
+        private final JsonParser parser;
+
+        private final ObjectReader reader;
+
+        private boolean fetched;
+
+        private boolean finished;
+
+        @Override
+        public boolean hasNext() {
+            if (!fetched && !finished) {
+                try {
+                    finished = parser.nextToken() == JsonToken.END_ARRAY;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                fetched = true;
+            }
+            return !finished;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            fetched = false;
+            try {
+                return reader.readValue(parser);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void skipRemaining() throws IOException {
+            while (hasNext()) {
+                parser.skipChildren();
+                fetched = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Streaming classes.<br>
+ * リクエストボディを全て展開せずに、逐次読み込みながら処理するクラスを格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.stream;
@@ -0,0 +1,284 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.type;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import lombok.val;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * OpenAPI の {@code format: byte} (Base64 文字列) のバイト列.
+ *
+ * <p>不変のクラスとし、{@link #of(byte[])} と {@link #getBytes()} は配列をコピーする.
+ * コピーせずに参照する場合は {@link #asReadOnlyBuffer()} を利用する. <br>
+ * JSON から読み込んだ場合は、Parser の入力のバイト列から直接 Base64 を展開して保持する.
+ * JSON に書き込む場合は、一度変換した Base64 文字列を ASCII のバイト列のまま保持して再利用する.
+ * {@link #ofEncoded(String)} で生成した場合は、{@link #getBytes()} などで初めて参照した時点で
+ * {@link Base64.Decoder} (HotSpot の intrinsic で SIMD 化される) により展開する.
+ * CBOR など、バイト列をそのまま扱える形式では展開済みのバイト列として読み書きする.
+ */
+@JsonSerialize(using = Base64Bytes.Serializer.class)
+@JsonDeserialize(using = Base64Bytes.Deserializer.class)
+public final class Base64Bytes implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Base64 の文字 (パディングを除く) か判定するテーブル.
+     */
+    private static final boolean[] ALPHABET = new boolean[128];
+
+    static {
+        for (val c : "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray()) {
+            ALPHABET[c] = true;
+        }
+    }
+
+    /**
+     * Base64 文字列の ASCII のバイト列 (未生成の場合は null).
+     */
+    private volatile byte[] encoded;
+
+    /**
+     * 展開したバイト列 (未展開の場合は null).
+     */
+    private volatile byte[] bytes;
+
+    private Base64Bytes(byte[] encoded, byte[] bytes) {
+        this.encoded = encoded;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Base64 文字列から生成する. 展開は {@link #getBytes()} の呼び出し時に行う.
+     *
+     * @param encoded Base64 文字列
+     * @return {@link Base64Bytes}
+     * @throws IllegalArgumentException Base64 として正しくない場合
+     */
+    public static Base64Bytes ofEncoded(String encoded) {
+
+        if (!isValid(encoded)) {
+            throw new IllegalArgumentException("Illegal base64 string");
+        }
+        return new Base64Bytes(encoded.getBytes(StandardCharsets.ISO_8859_1), null);
+    }
+
+    /**
+     * バイト列から生成する.
+     *
+     * @param bytes バイト列 (コピーして保持する)
+     * @return {@link Base64Bytes}
+     */
+    public static Base64Bytes of(byte[] bytes) {
+        return new Base64Bytes(null, bytes.clone());
+    }
+
+    /**
+     * Base64 として正しい形式か判定する. <br>
+     * 展開は行わず、文字と長さ・パディングの位置のみを判定する.
+     *
+     * @param value 判定対象
+     * @return 正しい形式の場合は true
+     */
+    public static boolean isValid(CharSequence value) {
+
+        val length = value.length();
+        if (length == 0) {
+            return true;
+        }
+        if (length % 4 != 0) {
+            return false;
+        }
+        val padding = padding(value.charAt(length - 1), value.charAt(length - 2));
+        for (int i = 0; i < length - padding; i++) {
+            if (!isAlphabet(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAlphabet(int c) {
+        return c < ALPHABET.length && ALPHABET[c];
+    }
+
+    private static int padding(int last, int secondLast) {
+
+        if (last != '=') {
+            return 0;
+        }
+        return secondLast == '=' ? 2 : 1;
+    }
+
+    /**
+     * バイト列を取得する. <br>
+     * 未展開の場合は Base64 文字列を展開する.
+     *
+     * @return バイト列のコピー
+     */
+    public byte[] getBytes() {
+        return decoded().clone();
+    }
+
+    /**
+     * バイト列をコピーせずに、読み込み専用の {@link ByteBuffer} として取得する. <br>
+     * 未展開の場合は Base64 文字列を展開する.
+     *
+     * @return 読み込み専用の {@link ByteBuffer}
+     */
+    public ByteBuffer asReadOnlyBuffer() {
+        return ByteBuffer.wrap(decoded()).asReadOnlyBuffer();
+    }
+
+    /**
+     * 展開したバイト列を取得する. 最初の呼び出しで展開し、以降は同じ配列を返す (外部に公開しない).
+     */
+    private byte[] decoded() {
+
+        var result = bytes;
+        if (result == null) {
+            result = Base64.getDecoder().decode(encoded);
+            bytes = result;
+        }
+        return result;
+    }
+
+    /**
+     * Base64 文字列を取得する.
+     *
+     * @return Base64 文字列
+     */
+    public String getEncoded() {
+
+        var result = encoded;
+        if (result == null) {
+            result = Base64.getEncoder().encode(decoded());
+            encoded = result;
+        }
+        return new String(result, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 展開せずにバイト列の長さを取得する.
+     *
+     * @return バイト列の長さ
+     */
+    public int length() {
+
+        val decoded = bytes;
+        if (decoded != null) {
+            return decoded.length;
+        }
+        val length = encoded.length;
+        return length == 0 ? 0 : length / 4 * 3 - padding(encoded[length - 1], encoded[length - 2]);
+    }
+
+    /**
+     * 展開済みか判定する.
+     *
+     * @return 展開済みの場合は true
+     */
+    public boolean isDecoded() {
+        return bytes != null;
+    }
+
+    /**
+     * バイト列が等しいか判定する. 未展開の場合は展開する.
+     */
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Base64Bytes other && Arrays.equals(decoded(), other.decoded());
+    }
+
+    /**
+     * バイト列の hashCode を返す. 未展開の場合は展開する.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(decoded());
+    }
+
+    /**
+     * 長さのみを出力する (バイト列は出力しない).
+     */
+    @Override
+    public String toString() {
+        return "Base64Bytes[length=" + length() + "]";
+    }
+
+    /**
+     * {@link Base64Bytes} の Serializer. <br>
+     * JSON などのテキスト形式では Base64 文字列を、バイト列を扱える形式ではバイト列を書き込む.
+     */
+    static final class Serializer extends StdSerializer<Base64Bytes> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        Serializer() {
+            super(Base64Bytes.class);
+        }
+
+        @Override
+        public void serialize(Base64Bytes value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+
+            val encoded = value.encoded;
+            if (gen.canWriteBinaryNatively() || encoded == null) {
+                gen.writeBinary(value.decoded());
+            } else if (gen instanceof UTF8JsonGenerator) {
+                // Base64 の文字はエスケープが不要なため、バイト列をそのまま書き込む
+                gen.writeRawUTF8String(encoded, 0, encoded.length);
+            } else {
+                gen.writeString(value.getEncoded());
+            }
+        }
+    }
+
+    /**
+     * {@link Base64Bytes} の Deserializer. <br>
+     * 文字列は Parser で Base64 を展開し、バイト列はそのまま保持する.
+     * いずれも Parser が生成した配列のため、コピーせずに保持する.
+     */
+    static final class Deserializer extends StdDeserializer<Base64Bytes> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        Deserializer() {
+            super(Base64Bytes.class);
+        }
+
+        @Override
+        public Base64Bytes deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+
+            if (p.hasToken(JsonToken.VALUE_STRING)) {
+                return new Base64Bytes(null, p.getBinaryValue(ctxt.getBase64Variant()));
+            }
+            if (p.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT) && p.getEmbeddedObject() instanceof byte[] binary) {
+                return new Base64Bytes(null, binary);
+            }
+            return (Base64Bytes) ctxt.handleUnexpectedToken(Base64Bytes.class, p);
+        }
+    }
+}
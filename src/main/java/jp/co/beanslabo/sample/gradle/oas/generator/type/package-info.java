@@ -0,0 +1,5 @@
+/**
+ * Model type classes.<br>
+ * OpenAPI で生成するモデルのフィールドで利用する型を格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.type;
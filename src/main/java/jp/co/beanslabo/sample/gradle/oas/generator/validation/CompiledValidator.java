@@ -0,0 +1,181 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.validation;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.ValidationException;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jp.co.beanslabo.sample.gradle.oas.generator.invoker.ModelValidators;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OpenAPI の定義から生成した {@link ModelValidators} で Bean Validation を行う Validator.
+ *
+ * <p>生成したモデルは Reflection を利用せずに検証し、Hibernate Validator と同じ制約違反を返す.
+ * それ以外のオブジェクトや、検証グループを指定した場合は Hibernate Validator で検証する. <br>
+ * エラーメッセージは Hibernate Validator の制約のメタデータから生成し、
+ * モデル・プロパティ・制約・Locale ごとにキャッシュする.
+ */
+@Component
+@RequiredArgsConstructor
+@RegisterReflectionForBinding(CompiledValidator.EmailValue.class)
+public class CompiledValidator implements SmartValidator {
+
+    private final LocalValidatorFactoryBean beanValidator;
+
+    private final Map<MessageKey, String> messages = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(@NonNull Class<?> clazz) {
+        return beanValidator.supports(clazz);
+    }
+
+    /**
+     * {@code @Valid} を付与した場合と同様に Bean Validation を行う.
+     *
+     * @param target 検証対象
+     * @return 制約違反 (違反がない場合は空)
+     */
+    public List<Violation> validate(Object target) {
+
+        if (!ModelValidators.supports(target.getClass())) {
+            return beanValidator.validate(target).stream()
+                .map(violation -> new Violation(violation.getPropertyPath().toString(), violation.getMessage()))
+                .toList();
+        }
+
+        val violations = new ArrayList<Violation>();
+        ModelValidators.validate(target, new Context() {
+            @Override
+            public void addViolation(
+                Class<?> beanType, String property, String constraint, String propertyPath, Object invalidValue) {
+
+                violations.add(new Violation(propertyPath, message(beanType, property, constraint)));
+            }
+        });
+
+        return violations;
+    }
+
+    @Override
+    public void validate(@NonNull Object target, @NonNull Errors errors) {
+        validate(target, errors, new Object[0]);
+    }
+
+    @Override
+    public void validate(@NonNull Object target, @NonNull Errors errors, @NonNull Object... validationHints) {
+
+        if (validationHints.length > 0 || !ModelValidators.supports(target.getClass())) {
+            beanValidator.validate(target, errors, validationHints);
+            return;
+        }
+
+        ModelValidators.validate(target, new Context() {
+            @Override
+            public void addViolation(
+                Class<?> beanType, String property, String constraint, String propertyPath, Object invalidValue) {
+
+                val message = message(beanType, property, constraint);
+                if (errors instanceof BindingResult bindingResult) {
+                    // SpringValidatorAdapter と同様に、プロパティとして読み込めないパスも FieldError とする
+                    val field = errors.getObjectName() + "." + propertyPath;
+                    bindingResult.addError(new FieldError(
+                        errors.getObjectName(), propertyPath, invalidValue, false,
+                        bindingResult.resolveMessageCodes(constraint, propertyPath),
+                        new Object[] {new DefaultMessageSourceResolvable(new String[] {field, propertyPath}, propertyPath)},
+                        message));
+                } else {
+                    errors.reject(constraint, message);
+                }
+            }
+        });
+    }
+
+    /**
+     * 制約のエラーメッセージを Hibernate Validator と同様に生成する.
+     */
+    private String message(Class<?> beanType, String property, String constraint) {
+
+        return messages.computeIfAbsent(
+            new MessageKey(beanType, property, constraint, LocaleContextHolder.getLocale()),
+            key -> {
+                val descriptor = beanValidator.getConstraintsForClass(key.beanType())
+                    .getConstraintsForProperty(key.property())
+                    .getConstraintDescriptors().stream()
+                    .filter(d -> d.getAnnotation().annotationType().getSimpleName().equals(key.constraint()))
+                    .findFirst()
+                    .orElseThrow(() -> new ValidationException(
+                        "制約が見つかりません: " + key.beanType().getName() + "." + key.property() + " @" + key.constraint()));
+
+                return beanValidator.getMessageInterpolator()
+                    .interpolate(descriptor.getMessageTemplate(), new InterpolatorContext(descriptor), key.locale());
+            });
+    }
+
+    /**
+     * 制約違反を受け取る {@link ModelValidators.Context}.
+     */
+    private abstract class Context implements ModelValidators.Context {
+
+        @Override
+        public boolean isValidEmail(CharSequence value) {
+            return beanValidator.validateValue(EmailValue.class, EmailValue.PROPERTY, value).isEmpty();
+        }
+    }
+
+    /**
+     * {@code @Email} の判定に利用するクラス. <br>
+     * Hibernate Validator の内部の Validator を直接利用せず、
+     * {@link jakarta.validation.Validator#validateValue} でこのクラスのプロパティの値として検証する
+     * (制約のメタデータは Hibernate Validator がクラスごとにキャッシュする).
+     */
+    static final class EmailValue {
+
+        static final String PROPERTY = "value";
+
+        @Email
+        private CharSequence value;
+    }
+
+    private record MessageKey(Class<?> beanType, String property, String constraint, Locale locale) {
+    }
+
+    /**
+     * エラーメッセージの生成に利用する {@link MessageInterpolator.Context}. <br>
+     * 検証した値はメッセージに含めないため、常に null とする.
+     */
+    private record InterpolatorContext(ConstraintDescriptor<?> descriptor) implements MessageInterpolator.Context {
+
+        @Override
+        public ConstraintDescriptor<?> getConstraintDescriptor() {
+            return descriptor;
+        }
+
+        @Override
+        public Object getValidatedValue() {
+            return null;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            throw new ValidationException("Type " + type.getName() + " not supported for unwrapping.");
+        }
+    }
+}
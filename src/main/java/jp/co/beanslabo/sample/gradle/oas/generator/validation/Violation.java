@@ -0,0 +1,19 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.validation;
+
+/**
+ * 制約違反の内容.
+ *
+ * @param propertyPath 検証対象のオブジェクトからのプロパティのパス
+ * @param message      エラーメッセージ
+ */
+public record Violation(String propertyPath, String message) {
+
+    /**
+     * {@code プロパティのパス: エラーメッセージ} の形式で返す.
+     */
+    @Override
+    public String toString() {
+        return propertyPath + ": " + message;
+    }
+}
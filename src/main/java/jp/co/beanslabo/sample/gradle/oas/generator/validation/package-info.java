@@ -0,0 +1,5 @@
+/**
+ * Validation classes.<br>
+ * リクエストの Bean Validation を行うクラスを格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.validation;
@@ -0,0 +1,204 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.startup;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 別プロセスで起動したアプリケーション. <br>
+ * CDS アーカイブは起動時の JVM オプションで指定するため、計測・学習を行うプロセスとは別の JVM で起動する.
+ * Native Image の実行ファイルも同様に別プロセスで起動する.
+ */
+final class ApplicationProcess implements AutoCloseable {
+
+    /**
+     * 起動を待機する最大時間.
+     */
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(1))
+        .build();
+
+    private final Process process;
+
+    private final int port;
+
+    private ApplicationProcess(Process process, int port) {
+        this.process = process;
+        this.port = port;
+    }
+
+    /**
+     * アプリケーションを起動する. <br>
+     * 計測を行う JVM と同じ java コマンドで、展開済みの Spring Boot の jar を {@code -jar} で起動する.
+     *
+     * @param applicationJar 展開済みの jar ({@code java -Djarmode=tools -jar ... extract} で生成)
+     * @param jvmOptions     JVM オプション
+     * @param arguments      アプリケーションの引数 ({@code --server.port} 以外)
+     * @param inheritIo      アプリケーションの標準出力を引き継ぐ場合は true (false の場合は破棄する)
+     * @return 起動したアプリケーション
+     * @throws IOException 起動に失敗した場合
+     */
+    static ApplicationProcess start(Path applicationJar, List<String> jvmOptions, List<String> arguments, boolean inheritIo)
+        throws IOException {
+
+        var command = new ArrayList<String>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmOptions);
+        command.add("-jar");
+        command.add(applicationJar.toString());
+        return start(command, arguments, inheritIo);
+    }
+
+    /**
+     * Native Image の実行ファイル ({@code ./gradlew nativeCompile} で生成) でアプリケーションを起動する.
+     *
+     * @param executable 実行ファイル
+     * @param arguments  アプリケーションの引数 ({@code --server.port} 以外)
+     * @param inheritIo  アプリケーションの標準出力を引き継ぐ場合は true (false の場合は破棄する)
+     * @return 起動したアプリケーション
+     * @throws IOException 起動に失敗した場合
+     */
+    static ApplicationProcess startExecutable(Path executable, List<String> arguments, boolean inheritIo)
+        throws IOException {
+
+        var command = new ArrayList<String>();
+        command.add(executable.toString());
+        return start(command, arguments, inheritIo);
+    }
+
+    private static ApplicationProcess start(List<String> command, List<String> arguments, boolean inheritIo)
+        throws IOException {
+
+        var port = freePort();
+        command.add("--server.port=" + port);
+        command.addAll(arguments);
+
+        var builder = new ProcessBuilder(command);
+        if (inheritIo) {
+            builder.inheritIO();
+        } else {
+            builder.redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        }
+        return new ApplicationProcess(builder.start(), port);
+    }
+
+    /**
+     * JSON を POST する.
+     *
+     * @param path API のパス
+     * @param json リクエストボディ
+     * @return HTTP ステータスコード
+     * @throws IOException          通信に失敗した場合
+     * @throws InterruptedException 割り込まれた場合
+     */
+    int post(String path, byte[] json) throws IOException, InterruptedException {
+        return HTTP_CLIENT.send(request(path, json), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * JSON を POST し、レスポンスボディを取得する.
+     *
+     * @param path API のパス
+     * @param json リクエストボディ
+     * @return レスポンス
+     * @throws IOException          通信に失敗した場合
+     * @throws InterruptedException 割り込まれた場合
+     */
+    HttpResponse<String> postForBody(String path, byte[] json) throws IOException, InterruptedException {
+        return HTTP_CLIENT.send(request(path, json), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest request(String path, byte[] json) {
+
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .timeout(Duration.ofSeconds(10))
+            .POST(HttpRequest.BodyPublishers.ofByteArray(json))
+            .build();
+    }
+
+    /**
+     * {@code 200 OK} が返るまで JSON を POST し続ける.
+     *
+     * @param path API のパス
+     * @param json リクエストボディ
+     * @throws InterruptedException 割り込まれた場合
+     * @throws IllegalStateException 起動前にプロセスが終了した場合、または起動がタイムアウトした場合
+     */
+    void awaitFirstSuccess(String path, byte[] json) throws InterruptedException {
+
+        var deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited: " + process.exitValue());
+            }
+            try {
+                if (post(path, json) == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 起動中のため接続できない
+            }
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        throw new IllegalStateException("Application did not start within " + STARTUP_TIMEOUT);
+    }
+
+    /**
+     * プロセスの RSS (Resident Set Size) を取得する. <br>
+     * {@code /proc/<pid>/status} を読み込むため Linux のみ対応.
+     *
+     * @return RSS (KiB) (取得できない場合は empty)
+     */
+    OptionalLong rssKib() {
+
+        var status = Path.of("/proc", Long.toString(process.pid()), "status");
+        try {
+            for (var line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return OptionalLong.of(Long.parseLong(line.replaceAll("\\D", "")));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Linux 以外
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * SIGTERM でアプリケーションを終了し、プロセスの終了を待機する. <br>
+     * {@code -XX:ArchiveClassesAtExit} を指定した場合は、JVM の終了時に CDS アーカイブが書き込まれる.
+     *
+     * @throws InterruptedException 割り込まれた場合
+     */
+    @Override
+    public void close() throws InterruptedException {
+
+        process.destroy();
+        if (!process.waitFor(1, TimeUnit.MINUTES)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.startup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * アプリケーションを {@code -XX:ArchiveClassesAtExit} で起動し、
+ * Test の Fixture JSON を両APIに POST した後に終了して、CDS アーカイブを生成する.
+ *
+ * <p>引数は以下の順に指定する.
+ *
+ * <ol>
+ *   <li>展開済みの Spring Boot の jar
+ *   <li>生成する CDS アーカイブ
+ *   <li>Fixture JSON のディレクトリ ({@code src/test/resources/json})
+ * </ol>
+ */
+public final class CdsTraining {
+
+    /**
+     * 学習で POST する API.
+     */
+    static final List<String> API_PATHS =
+        List.of("/api/sample-gradle-oas-generator", "/api/sample-gradle-oas-generator-required");
+
+    /**
+     * アプリケーションの引数. <br>
+     * 同じ Fixture JSON を繰り返し送信するため、保存したレスポンスを返さずに毎回処理させる.
+     */
+    static final List<String> APPLICATION_ARGUMENTS = List.of("--sample.idempotency.enabled=false");
+
+    /**
+     * Fixture JSON を POST する回数.
+     */
+    private static final int ROUNDS = 3;
+
+    private CdsTraining() {
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args Command line arguments
+     * @throws Exception 学習に失敗した場合
+     */
+    public static void main(String[] args) throws Exception {
+
+        var applicationJar = Path.of(args[0]);
+        var archive = Path.of(args[1]);
+        var jsonDirectory = Path.of(args[2]);
+
+        Files.deleteIfExists(archive);
+        Files.createDirectories(archive.toAbsolutePath().getParent());
+
+        var fixtures = readFixtures(jsonDirectory);
+        var statuses = new TreeMap<Integer, Integer>();
+
+        try (var application = ApplicationProcess.start(
+            applicationJar, List.of("-XX:ArchiveClassesAtExit=" + archive), APPLICATION_ARGUMENTS, true)) {
+
+            application.awaitFirstSuccess(API_PATHS.getFirst(), fixtures.get(jsonDirectory.resolve("ok.json")));
+            for (var round = 0; round < ROUNDS; round++) {
+                for (var path : API_PATHS) {
+                    for (var json : fixtures.values()) {
+                        statuses.merge(application.post(path, json), 1, Integer::sum);
+                    }
+                }
+            }
+        }
+
+        if (!Files.isRegularFile(archive)) {
+            throw new IllegalStateException("CDS archive was not created: " + archive);
+        }
+        System.out.printf("Training requests (status=count): %s%n", statuses);
+        System.out.printf("CDS archive: %s (%,d bytes)%n", archive, Files.size(archive));
+    }
+
+    /**
+     * Fixture JSON を読み込む.
+     *
+     * @param jsonDirectory Fixture JSON のディレクトリ
+     * @return Fixture JSON のパスと内容
+     * @throws IOException 読み込みに失敗した場合
+     */
+    static Map<Path, byte[]> readFixtures(Path jsonDirectory) throws IOException {
+
+        var fixtures = new TreeMap<Path, byte[]>();
+        try (Stream<Path> paths = Files.walk(jsonDirectory)) {
+            for (var path : paths.filter(p -> p.toString().endsWith(".json")).toList()) {
+                fixtures.put(path, Files.readAllBytes(path));
+            }
+        }
+        return fixtures;
+    }
+}
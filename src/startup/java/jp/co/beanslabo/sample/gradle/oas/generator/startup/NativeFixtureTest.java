@@ -0,0 +1,80 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.startup;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Native Image の実行ファイルと JVM のアプリケーションを起動し、Test の Fixture JSON を HTTP で POST して
+ * 全てのレスポンスが一致することを確認する. <br>
+ * ステータスコードと、2xx のレスポンスボディを比較する (エラーのレスポンスボディは時刻を含むため比較しない).
+ *
+ * <p>JVM のアプリケーションのレスポンスは {@code SampleGradleOasGeneratorApiTest} で検証しているため、
+ * 一致しない場合は Native Image の Reflection などのヒントの不足とみなし、一致しないレスポンスを出力して失敗する.
+ *
+ * <p>引数は以下の順に指定する.
+ *
+ * <ol>
+ *   <li>展開済みの Spring Boot の jar
+ *   <li>Native Image の実行ファイル
+ *   <li>Fixture JSON のディレクトリ ({@code src/test/resources/json})
+ * </ol>
+ */
+public final class NativeFixtureTest {
+
+    /**
+     * Fixture JSON を POST する API. <br>
+     * {@link CdsTraining#API_PATHS} に加えて、リクエストボディを逐次読み込む API も対象とする.
+     */
+    private static final List<String> API_PATHS = Stream.concat(
+        CdsTraining.API_PATHS.stream(), Stream.of("/api/sample-gradle-oas-generator-streaming")).toList();
+
+    private NativeFixtureTest() {
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args Command line arguments
+     * @throws Exception 起動に失敗した場合、またはレスポンスが一致しない場合
+     */
+    public static void main(String[] args) throws Exception {
+
+        var applicationJar = Path.of(args[0]);
+        var executable = Path.of(args[1]);
+        var jsonDirectory = Path.of(args[2]);
+
+        var fixtures = CdsTraining.readFixtures(jsonDirectory);
+        var ok = fixtures.get(jsonDirectory.resolve("ok.json"));
+        var mismatches = new ArrayList<String>();
+        var requests = 0;
+
+        try (var jvm = ApplicationProcess.start(applicationJar, List.of(), CdsTraining.APPLICATION_ARGUMENTS, false);
+             var nativeImage = ApplicationProcess.startExecutable(executable, CdsTraining.APPLICATION_ARGUMENTS, true)) {
+
+            jvm.awaitFirstSuccess(API_PATHS.getFirst(), ok);
+            nativeImage.awaitFirstSuccess(API_PATHS.getFirst(), ok);
+            for (var path : API_PATHS) {
+                for (var fixture : fixtures.entrySet()) {
+                    var expected = jvm.postForBody(path, fixture.getValue());
+                    var actual = nativeImage.postForBody(path, fixture.getValue());
+                    requests++;
+                    if (expected.statusCode() != actual.statusCode()
+                        || expected.statusCode() / 100 == 2 && !expected.body().equals(actual.body())) {
+                        mismatches.add(String.format("%s %s%n  jvm   : %d %s%n  native: %d %s",
+                            path, jsonDirectory.relativize(fixture.getKey()),
+                            expected.statusCode(), expected.body(), actual.statusCode(), actual.body()));
+                    }
+                }
+            }
+        }
+
+        mismatches.forEach(System.out::println);
+        System.out.printf("Native image requests: %d, mismatches: %d%n", requests, mismatches.size());
+        if (!mismatches.isEmpty()) {
+            throw new IllegalStateException("Native image responses differ from the JVM: " + mismatches.size());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.startup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CDS アーカイブの有無による起動性能の Benchmark.
+ *
+ * <p>アプリケーションを起動してから {@code ok.json} の POST に初めて {@code 200 OK} が返るまでの時間
+ * (time to first successful request) と、その時点の RSS を計測する.
+ *
+ * <p>引数は以下の順に指定する.
+ *
+ * <ol>
+ *   <li>展開済みの Spring Boot の jar
+ *   <li>CDS アーカイブ ({@link CdsTraining} で生成)
+ *   <li>Fixture JSON のディレクトリ ({@code src/test/resources/json})
+ *   <li>計測回数
+ * </ol>
+ */
+public final class StartupBenchmark {
+
+    private StartupBenchmark() {
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args Command line arguments
+     * @throws Exception 計測に失敗した場合
+     */
+    public static void main(String[] args) throws Exception {
+
+        var applicationJar = Path.of(args[0]);
+        var archive = Path.of(args[1]);
+        var json = Files.readAllBytes(Path.of(args[2], "ok.json"));
+        var runs = Integer.parseInt(args[3]);
+
+        if (!Files.isRegularFile(archive)) {
+            throw new IllegalStateException("CDS archive not found: " + archive);
+        }
+
+        // -Xshare:on はアーカイブを利用できない場合に起動を失敗させ、計測結果に混ざらないようにする
+        var modes = Map.of(
+            "default", List.<String>of(),
+            "appcds", List.of("-XX:SharedArchiveFile=" + archive, "-Xshare:on"));
+
+        System.out.printf("%-8s %5s %12s %12s %12s %12s%n", "mode", "runs", "ttfr(ms)p50", "ttfr(ms)min", "ttfr(ms)max", "rss(MiB)p50");
+        for (var mode : List.of("default", "appcds")) {
+            var times = new ArrayList<Double>();
+            var rss = new ArrayList<Double>();
+            for (var run = 0; run < runs; run++) {
+                var start = System.nanoTime();
+                try (var application = ApplicationProcess.start(applicationJar, modes.get(mode), CdsTraining.APPLICATION_ARGUMENTS, false)) {
+                    application.awaitFirstSuccess(CdsTraining.API_PATHS.getFirst(), json);
+                    times.add((System.nanoTime() - start) / 1_000_000.0);
+                    application.rssKib().ifPresent(kib -> rss.add(kib / 1024.0));
+                }
+            }
+            System.out.printf("%-8s %5d %12.1f %12.1f %12.1f %12s%n",
+                mode, runs, median(times), min(times), max(times),
+                rss.isEmpty() ? "n/a" : "%.1f".formatted(median(rss)));
+        }
+    }
+
+    private static double median(List<Double> values) {
+
+        var sorted = values.stream().sorted().toList();
+        var middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+
+    private static double min(List<Double> values) {
+        return values.stream().mapToDouble(Double::doubleValue).min().orElse(Double.NaN);
+    }
+
+    private static double max(List<Double> values) {
+        return values.stream().mapToDouble(Double::doubleValue).max().orElse(Double.NaN);
+    }
+}
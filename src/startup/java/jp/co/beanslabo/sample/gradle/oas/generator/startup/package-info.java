@@ -0,0 +1,5 @@
+/**
+ * Startup tools.<br>
+ * CDS (Class Data Sharing) アーカイブの生成と、起動時間の計測を行うツールを格納します。
+ */
+package jp.co.beanslabo.sample.gradle.oas.generator.startup;
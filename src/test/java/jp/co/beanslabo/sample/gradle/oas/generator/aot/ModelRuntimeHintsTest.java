@@ -0,0 +1,91 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.aot;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.controller.SampleGradleOasGeneratorResponses;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.BatchResult;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGenerator200Response;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequestObjectArrayFieldInner;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequestObjectField;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequiredRequest;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequiredRequestObjectArrayFieldInner;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequiredRequestObjectField;
+import lombok.val;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ModelRuntimeHints} の Test.
+ */
+class ModelRuntimeHintsTest {
+
+    private static final RuntimeHints HINTS = new RuntimeHints();
+
+    @BeforeAll
+    static void registerHints() {
+        new ModelRuntimeHints().registerHints(HINTS, ModelRuntimeHintsTest.class.getClassLoader());
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {
+        BatchResult.class,
+        PostV1SampleGradleOasGenerator200Response.class,
+        PostV1SampleGradleOasGeneratorRequest.class,
+        PostV1SampleGradleOasGeneratorRequestObjectArrayFieldInner.class,
+        PostV1SampleGradleOasGeneratorRequestObjectField.class,
+        PostV1SampleGradleOasGeneratorRequiredRequest.class,
+        PostV1SampleGradleOasGeneratorRequiredRequestObjectArrayFieldInner.class,
+        PostV1SampleGradleOasGeneratorRequiredRequestObjectField.class})
+    @DisplayName("モデルの Reflection と Java Serialization のヒントが登録されること")
+    void modelTest(Class<?> modelType) {
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(modelType)
+            .withMemberCategories(MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+            .accepts(HINTS);
+        assertThat(RuntimeHintsPredicates.serialization().onType(modelType)).accepts(HINTS);
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {
+        PostV1SampleGradleOasGeneratorRequest.StringToEnumEnum.class,
+        PostV1SampleGradleOasGeneratorRequiredRequest.StringToEnumEnum.class})
+    @DisplayName("enum の fromValue の呼び出しのヒントが登録されること")
+    void enumTest(Class<?> enumType) {
+
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(enumType, "fromValue")).accepts(HINTS);
+    }
+
+    @Test
+    @DisplayName("フィールドの型の Java Serialization のヒントが登録されること")
+    void fieldTypeTest() {
+
+        for (val type : new Class<?>[] {
+            JsonNullable.class, BigDecimal.class, LocalDate.class, OffsetDateTime.class, ArrayList.class}) {
+            assertThat(RuntimeHintsPredicates.serialization().onType(type)).as(type.getName()).accepts(HINTS);
+        }
+        assertThat(RuntimeHintsPredicates.reflection().onType(JsonNullable.class)).accepts(HINTS);
+    }
+
+    @Test
+    @DisplayName("固定のレスポンスのクラスの Reflection のヒントが登録されること")
+    void responseTest() {
+
+        assertThat(RuntimeHintsPredicates.reflection()
+            .onType(SampleGradleOasGeneratorResponses.OK.getBody().getClass()))
+            .accepts(HINTS);
+    }
+}
@@ -0,0 +1,120 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.async;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.config.AsyncConfig;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.AsyncProperties;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link DelegateExecutor} の Test.
+ */
+class DelegateExecutorTest {
+
+    private ExecutorService executorService;
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private DelegateExecutor delegateExecutor(int poolSize, int queueCapacity, Duration timeout) {
+
+        val properties = new AsyncProperties();
+        properties.setPoolSize(poolSize);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeout(timeout);
+        executorService = new AsyncConfig().delegateExecutorService(properties);
+        return new DelegateExecutor(executorService, properties);
+    }
+
+    @Test
+    @DisplayName("処理結果で完了すること")
+    void resultTest() throws Exception {
+
+        val delegateExecutor = delegateExecutor(1, 1, Duration.ofSeconds(10));
+
+        val future = delegateExecutor.submit(() -> Thread.currentThread().getName());
+
+        assertThat(future.get(10, TimeUnit.SECONDS)).startsWith("delegate-");
+    }
+
+    @Test
+    @DisplayName("処理が送出した例外で完了すること")
+    void exceptionTest() {
+
+        val delegateExecutor = delegateExecutor(1, 1, Duration.ofSeconds(10));
+        val exception = new IOException("failed");
+
+        val future = delegateExecutor.submit(() -> {
+            throw exception;
+        });
+
+        assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .cause().isSameAs(exception);
+    }
+
+    @Test
+    @DisplayName("タイムアウトした場合は処理を中断し、AsyncRequestTimeoutException で完了すること")
+    void timeoutTest() throws Exception {
+
+        val delegateExecutor = delegateExecutor(1, 1, Duration.ofMillis(50));
+        val interrupted = new CompletableFuture<Boolean>();
+
+        val future = delegateExecutor.submit(() -> {
+            try {
+                Thread.sleep(10_000);
+                interrupted.complete(false);
+            } catch (InterruptedException e) {
+                interrupted.complete(true);
+            }
+            return "OK";
+        });
+
+        assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .cause().isInstanceOf(AsyncRequestTimeoutException.class);
+        assertThat(interrupted.get(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Thread と待機できる数が埋まっている場合は 503 で完了すること")
+    void rejectTest() throws Exception {
+
+        val delegateExecutor = delegateExecutor(1, 1, Duration.ofSeconds(10));
+        val latch = new CountDownLatch(1);
+
+        val running = delegateExecutor.submit(() -> {
+            latch.await();
+            return "running";
+        });
+        val queued = delegateExecutor.submit(() -> "queued");
+        val rejected = delegateExecutor.submit(() -> "rejected");
+
+        assertThatThrownBy(() -> rejected.get(10, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .cause().isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+        latch.countDown();
+        assertThat(running.get(10, TimeUnit.SECONDS)).isEqualTo("running");
+        assertThat(queued.get(10, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+}
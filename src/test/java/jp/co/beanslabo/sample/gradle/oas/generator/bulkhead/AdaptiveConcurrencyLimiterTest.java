@@ -0,0 +1,119 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.bulkhead;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.config.BulkheadProperties;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link AdaptiveConcurrencyLimiter} の Test.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static BulkheadProperties properties(int initialLimit, int queueSize, Duration queueTimeout) {
+
+        val properties = new BulkheadProperties();
+        properties.setInitialLimit(initialLimit);
+        properties.setMinLimit(1);
+        properties.setMaxLimit(10);
+        properties.setQueueSize(queueSize);
+        properties.setQueueTimeout(queueTimeout);
+        return properties;
+    }
+
+    @Test
+    @DisplayName("上限に達し、待機できない場合は拒否されること")
+    void rejectTest() throws Exception {
+
+        val limiter = new AdaptiveConcurrencyLimiter(properties(2, 0, Duration.ofMillis(50)));
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("待機時間内に処理が終了しない場合は拒否されること")
+    void queueTimeoutTest() throws Exception {
+
+        val limiter = new AdaptiveConcurrencyLimiter(properties(1, 1, Duration.ofMillis(20)));
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        val start = System.nanoTime();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(20).toNanos());
+    }
+
+    @Test
+    @DisplayName("待機中に処理が終了した場合は処理を開始できること")
+    void queueTest() throws Exception {
+
+        val limiter = new AdaptiveConcurrencyLimiter(properties(1, 1, Duration.ofSeconds(10)));
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        val waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.tryAcquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+        Thread.sleep(50);
+        assertThat(waiter).isNotDone();
+
+        limiter.release(1_000_000);
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("同時実行数が上限の半分以上で処理時間が安定している場合は上限が増えること")
+    void increaseTest() throws Exception {
+
+        val limiter = new AdaptiveConcurrencyLimiter(properties(2, 0, Duration.ZERO));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            assertThat(limiter.tryAcquire()).isTrue();
+            limiter.release(1_000_000);
+            limiter.release(1_000_000);
+        }
+        assertThat(limiter.getLimit()).isGreaterThan(2);
+    }
+
+    @Test
+    @DisplayName("処理時間が増加した場合は上限が減り、最小値を下回らないこと")
+    void decreaseTest() throws Exception {
+
+        val limiter = new AdaptiveConcurrencyLimiter(properties(10, 0, Duration.ZERO));
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.release(1_000_000);
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            limiter.release(100_000_000);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("上限の範囲が不正な場合は例外となること")
+    void invalidRangeTest() {
+
+        val properties = properties(1, 0, Duration.ZERO);
+        properties.setMinLimit(0);
+
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(properties))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,133 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jp.co.beanslabo.sample.gradle.oas.generator.SampleGradleOasGeneratorApplication;
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@link BulkheadInterceptor} の Integration Test.
+ */
+@SpringBootTest(classes = SampleGradleOasGeneratorApplication.class, properties = {
+    "sample.bulkhead.initial-limit=1",
+    "sample.bulkhead.max-limit=1",
+    "sample.bulkhead.queue-size=0",
+    "sample.bulkhead.retry-after=3s",
+    // 同じリクエストを繰り返し送信するため、保存したレスポンスを返さないようにする
+    "sample.idempotency.enabled=false"})
+@AutoConfigureMockMvc
+class BulkheadInterceptorTest {
+
+    private static final String OPERATION_ID = "postV1SampleGradleOasGeneratorRequired";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Bulkheads bulkheads;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("上限に達している場合はリクエストボディを読み込まずに 503 を返すこと")
+    void rejectTest() throws Exception {
+
+        val limiter = bulkheads.limiter(OPERATION_ID);
+        assertThat(limiter.tryAcquire()).isTrue();
+        try {
+            val before = rejectedCount();
+
+            // 不正な JSON でも 400 ではなく 503 となる (リクエストボディを読み込まない)
+            perform(post("/api/sample-gradle-oas-generator-required")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                .andExpect(content().string(""));
+
+            assertThat(rejectedCount()).isEqualTo(before + 1);
+        } finally {
+            limiter.release(1_000_000);
+        }
+    }
+
+    @Test
+    @DisplayName("他のAPIの上限には影響されないこと")
+    void isolationTest() throws Exception {
+
+        val limiter = bulkheads.limiter(OPERATION_ID);
+        assertThat(limiter.tryAcquire()).isTrue();
+        try {
+            perform(post("/api/sample-gradle-oas-generator")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(readJson("/json/ok.json")))
+                .andExpect(status().isOk());
+        } finally {
+            limiter.release(1_000_000);
+        }
+    }
+
+    @Test
+    @DisplayName("処理が終了した場合は同時実行数が戻ること")
+    void releaseTest() throws Exception {
+
+        perform(post("/api/sample-gradle-oas-generator-required")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(readJson("/json/ok.json")))
+            .andExpect(status().isOk());
+        perform(post("/api/sample-gradle-oas-generator-required")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{"))
+            .andExpect(status().isBadRequest());
+
+        assertThat(bulkheads.limiter(OPERATION_ID).getInFlight()).isZero();
+    }
+
+    private double rejectedCount() {
+
+        val counter = meterRegistry.find(Bulkheads.REJECTED_METRIC_NAME)
+            .tag(Bulkheads.KEY_TAG, OPERATION_ID)
+            .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static String readJson(String jsonPath) throws Exception {
+
+        try (val is = BulkheadInterceptorTest.class.getResourceAsStream(jsonPath)) {
+            return IOUtils.toString(Objects.requireNonNull(is), Charset.defaultCharset());
+        }
+    }
+
+    /**
+     * リクエストを実行する. <br>
+     * Delegate の非同期処理が開始された場合は、処理の完了を待って ASYNC の dispatch を実行する.
+     */
+    private ResultActions perform(RequestBuilder requestBuilder) throws Exception {
+
+        val resultActions = mockMvc.perform(requestBuilder);
+        val mvcResult = resultActions.andReturn();
+        return mvcResult.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(mvcResult)) : resultActions;
+    }
+}
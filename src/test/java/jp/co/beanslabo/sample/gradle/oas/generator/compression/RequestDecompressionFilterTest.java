@@ -0,0 +1,209 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.compression;
+
+import com.github.luben.zstd.Zstd;
+import jp.co.beanslabo.sample.gradle.oas.generator.SampleGradleOasGeneratorApplication;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.CompressionProperties;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@link RequestDecompressionFilter} の Integration Test.
+ */
+@SpringBootTest(classes = SampleGradleOasGeneratorApplication.class, properties = {
+    "sample.compression.max-decompressed-size=256KB",
+    "sample.compression.max-ratio=20",
+    "sample.compression.ratio-check-threshold=16KB"})
+@AutoConfigureMockMvc
+class RequestDecompressionFilterTest {
+
+    private static final String PATH = "/api/sample-gradle-oas-generator-required";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "x-gzip", "zstd", "gzip, zstd", "identity, gzip", "GZIP"})
+    @DisplayName("圧縮されたリクエストボディが展開されて処理されること")
+    void decompressTest(String contentEncoding) throws Exception {
+
+        perform(post(PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, contentEncoding)
+                .content(compress(readJson("/json/ok.json"), contentEncoding)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("OK"));
+    }
+
+    @Test
+    @DisplayName("展開したリクエストボディのバリデーションエラーは 400 となること")
+    void badRequestTest() throws Exception {
+
+        perform(post(PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(compress(readJson("/json/fieldIsNull/string.json"), "gzip")))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("対応していない Content-Encoding の場合は 415 と対応している Accept-Encoding を返すこと")
+    void unsupportedEncodingTest() throws Exception {
+
+        perform(post(PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "br")
+                .content(readJson("/json/ok.json")))
+            .andExpect(status().isUnsupportedMediaType())
+            .andExpect(header().string(HttpHeaders.ACCEPT_ENCODING, "gzip, zstd"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"zstd", "gzip, zstd"})
+    @DisplayName("zstd に対応しない場合 (Native Image) は zstd のリクエストが 415 となること")
+    void zstdDisabledTest(String contentEncoding) throws Exception {
+
+        val filter = new RequestDecompressionFilter(new CompressionProperties(), false);
+        val request = new MockHttpServletRequest("POST", PATH);
+        request.addHeader(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        request.setContent(compress(readJson("/json/ok.json"), contentEncoding));
+        val response = new MockHttpServletResponse();
+        val filterChain = new MockFilterChain();
+
+        filter.doFilter(request, response, filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value());
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_ENCODING)).isEqualTo("gzip");
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("zstd に対応しない場合も gzip のリクエストは展開されること")
+    void zstdDisabledGzipTest() throws Exception {
+
+        val filter = new RequestDecompressionFilter(new CompressionProperties(), false);
+        val request = new MockHttpServletRequest("POST", PATH);
+        request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        request.setContent(compress(readJson("/json/ok.json"), "gzip"));
+        val filterChain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        assertThat(Objects.requireNonNull(filterChain.getRequest()).getInputStream().readAllBytes())
+            .isEqualTo(readJson("/json/ok.json"));
+    }
+
+    @Test
+    @DisplayName("圧縮形式が不正な場合は 400 となること")
+    void corruptedTest() throws Exception {
+
+        perform(post(PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(readJson("/json/ok.json")))
+            .andExpect(status().isBadRequest());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "zstd"})
+    @DisplayName("圧縮率が上限を超えた場合は 413 となること")
+    void ratioLimitTest(String contentEncoding) throws Exception {
+
+        // 同じ文字の繰り返しは数百倍に圧縮される
+        val json = "{\"string_field\": \"" + "a".repeat(200 * 1024) + "\"}";
+
+        perform(post(PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, contentEncoding)
+                .content(compress(json.getBytes(StandardCharsets.UTF_8), contentEncoding)))
+            .andExpect(status().isPayloadTooLarge());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "zstd"})
+    @DisplayName("展開後のサイズが上限を超えた場合は 413 となること")
+    void sizeLimitTest(String contentEncoding) throws Exception {
+
+        // 乱数の16進文字列は2倍程度にしか圧縮されないため、圧縮率の上限より先にサイズの上限を超える
+        val random = new Random(0);
+        val value = new StringBuilder();
+        while (value.length() < 300 * 1024) {
+            value.append(Long.toHexString(random.nextLong()));
+        }
+        val json = "{\"string_field\": \"" + value + "\"}";
+
+        perform(post(PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, contentEncoding)
+                .content(compress(json.getBytes(StandardCharsets.UTF_8), contentEncoding)))
+            .andExpect(status().isPayloadTooLarge());
+    }
+
+    private static byte[] compress(byte[] body, String contentEncoding) throws IOException {
+
+        var compressed = body;
+        for (val token : contentEncoding.split(",")) {
+            switch (token.trim().toLowerCase()) {
+                case "gzip", "x-gzip" -> {
+                    val out = new ByteArrayOutputStream();
+                    try (val gzip = new GZIPOutputStream(out)) {
+                        gzip.write(compressed);
+                    }
+                    compressed = out.toByteArray();
+                }
+                case "zstd" -> compressed = Zstd.compress(compressed);
+                default -> {
+                    // identity
+                }
+            }
+        }
+        return compressed;
+    }
+
+    private static byte[] readJson(String jsonPath) throws IOException {
+
+        try (val is = RequestDecompressionFilterTest.class.getResourceAsStream(jsonPath)) {
+            return Objects.requireNonNull(is).readAllBytes();
+        }
+    }
+
+    /**
+     * リクエストを実行する. <br>
+     * Delegate の非同期処理が開始された場合は、処理の完了を待って ASYNC の dispatch を実行する.
+     */
+    private ResultActions perform(RequestBuilder requestBuilder) throws Exception {
+
+        val resultActions = mockMvc.perform(requestBuilder);
+        val mvcResult = resultActions.andReturn();
+        return mvcResult.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(mvcResult)) : resultActions;
+    }
+}
@@ -0,0 +1,161 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link JsonProperties#isFastNumberParsingEnabled()} の Test.
+ *
+ * <p>固定の Seed で生成したランダムな数値文字列について、
+ * FastDoubleParser を利用した場合と利用しない場合で同じ結果となることを確認する.
+ */
+class JsonConfigFastNumberParsingTest {
+
+    private static final ObjectMapper FAST_OBJECT_MAPPER = objectMapper(true);
+
+    private static final ObjectMapper DEFAULT_OBJECT_MAPPER = objectMapper(false);
+
+    /**
+     * 生成するランダムな数値文字列の件数 (種類ごと).
+     */
+    private static final int SAMPLES = 200;
+
+    static Stream<String> numbersStream() {
+
+        val random = new Random(20240901L);
+
+        val edgeCases = Stream.of(
+            "0", "-0", "0.0", "-0.0", "1", "-1", "0.1", "1.5", "1e0", "1E+2", "1e-2",
+            "9223372036854775807", "9223372036854775808", "9223372036854776000", "-9223372036854775809",
+            "3.4028235e38", "3.4028236e38", "1.4e-45", "7.0e-46",
+            "1.7976931348623157e308", "1.7976931348623159e308", "1e309", "4.9e-324", "2.4703282292062328e-324",
+            "2.2250738585072011e-308", "2.2250738585072014e-308",
+            "3.141592653589793238462643383279502884197169399375105820974944592307816406286",
+            "0.30000000000000004", "123456789012345678901234567890.123456789012345678901234567890",
+            "1" + "0".repeat(400), "0." + "0".repeat(400) + "1");
+
+        // ビット列からランダムに生成した double
+        val doubles = Stream.generate(() -> Double.longBitsToDouble(random.nextLong()))
+            .filter(Double::isFinite)
+            .limit(SAMPLES)
+            .map(String::valueOf);
+
+        // ビット列からランダムに生成した float
+        val floats = Stream.generate(() -> Float.intBitsToFloat(random.nextInt()))
+            .filter(Float::isFinite)
+            .limit(SAMPLES)
+            .map(String::valueOf);
+
+        // ランダムな桁数・小数点・指数の10進数
+        val decimals = Stream.generate(() -> randomDecimal(random))
+            .limit(SAMPLES);
+
+        return Stream.of(edgeCases, doubles, floats, decimals).flatMap(s -> s);
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = "numbersStream")
+    @DisplayName("float / double / BigDecimal のフィールドが同じ値に変換されること")
+    void numberFieldTest(String number) throws Exception {
+
+        val json = "{\"float_field\": %1$s, \"double_field\": %1$s, \"number_no_format\": %1$s}".formatted(number);
+
+        val expected = parse(DEFAULT_OBJECT_MAPPER, json);
+        val actual = parse(FAST_OBJECT_MAPPER, json);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = "numbersStream")
+    @DisplayName("int64 のフィールドが同じ値 (または同じ例外) となること")
+    void int64FieldTest(String number) throws Exception {
+
+        val json = "{\"int64_field\": %s}".formatted(number);
+
+        assertThat(parse(FAST_OBJECT_MAPPER, json)).isEqualTo(parse(DEFAULT_OBJECT_MAPPER, json));
+    }
+
+    /**
+     * JSON を変換し、各フィールドの値を返す. <br>
+     * 例外が発生した場合は例外のクラスを返す.
+     */
+    private static Object parse(ObjectMapper objectMapper, String json) {
+
+        return result(() -> {
+            val request = objectMapper.readValue(json, PostV1SampleGradleOasGeneratorRequest.class);
+            return Stream.of(
+                    request.getFloatField().orElse(null),
+                    request.getDoubleField().orElse(null),
+                    request.getNumberNoFormat().orElse(null),
+                    request.getInt64Field().orElse(null))
+                .map(value -> value == null ? "null" : value.getClass().getSimpleName() + ":" + exact(value))
+                .toList();
+        });
+    }
+
+    private static Object result(Callable<Object> callable) {
+
+        try {
+            return callable.call();
+        } catch (Exception e) {
+            return e.getClass();
+        }
+    }
+
+    /**
+     * -0.0 と 0.0、BigDecimal の scale も区別できる文字列表現.
+     */
+    private static String exact(Object value) {
+
+        if (value instanceof Double d) {
+            return Long.toHexString(Double.doubleToRawLongBits(d));
+        }
+        if (value instanceof Float f) {
+            return Integer.toHexString(Float.floatToRawIntBits(f));
+        }
+        if (value instanceof BigDecimal b) {
+            return b.unscaledValue() + "E" + b.scale();
+        }
+        return value.toString();
+    }
+
+    private static String randomDecimal(Random random) {
+
+        val digits = new BigInteger(1 + random.nextInt(120), random).toString();
+        val point = random.nextInt(digits.length() + 1);
+        val number = new StringBuilder();
+        if (random.nextBoolean()) {
+            number.append('-');
+        }
+        number.append(digits, 0, Math.max(point, 1));
+        if (point > 0 && point < digits.length()) {
+            number.append('.').append(digits, point, digits.length());
+        }
+        if (random.nextInt(3) == 0) {
+            number.append(random.nextBoolean() ? 'e' : 'E').append(random.nextInt(700) - 350);
+        }
+        return number.toString();
+    }
+
+    private static ObjectMapper objectMapper(boolean fastNumberParsingEnabled) {
+
+        val jsonProperties = new JsonProperties();
+        jsonProperties.setFastNumberParsingEnabled(fastNumberParsingEnabled);
+        return new JsonConfig().objectMapper(jsonProperties, new StandardEnvironment());
+    }
+}
@@ -1,43 +1,72 @@
 /* © 2024 Beans Labo Co., Ltd. */
 package jp.co.beanslabo.sample.gradle.oas.generator.controller;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import jp.co.beanslabo.sample.gradle.oas.generator.SampleGradleOasGeneratorApplication;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.BatchProperties;
+import jp.co.beanslabo.sample.gradle.oas.generator.converter.MessagePackHttpMessageConverter;
+import jp.co.beanslabo.sample.gradle.oas.generator.idempotency.IdempotencyFilter;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.BatchResult;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGenerator200Response;
 import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
 import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequestObjectArrayFieldInner;
 import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequestObjectField;
+import jp.co.beanslabo.sample.gradle.oas.generator.type.Base64Bytes;
 import lombok.val;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.msgpack.jackson.dataformat.MessagePackMapper;
 import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.net.Socket;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Fail.fail;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -68,12 +97,45 @@ class SampleGradleOasGeneratorApiTest {
      */
     private static final String REQUIRED_API_PATH = "/api/sample-gradle-oas-generator-required";
 
+    /**
+     * {@link #API_PATH} と同じリクエストボディを逐次読み込みながら処理する.
+     */
+    private static final String STREAMING_API_PATH = "/api/sample-gradle-oas-generator-streaming";
+
+    /**
+     * 各APIのリクエストボディを複数件まとめて処理するAPIのパスの接尾辞.
+     */
+    private static final String BATCH_API_PATH_SUFFIX = "-batch";
+
+    /**
+     * 各APIの {@code string_binary_format} をリクエストボディのバイナリで受け付けるAPIのパスの接尾辞.
+     */
+    private static final String UPLOAD_API_PATH_SUFFIX = "-upload";
+
+    @LocalServerPort
+    private int port;
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CBORMapper cborMapper;
+
+    @Autowired
+    private SmileMapper smileMapper;
+
+    @Autowired
+    private MessagePackMapper messagePackMapper;
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    @Autowired
+    private ForkJoinPool batchExecutor;
+
     static Stream<Arguments> argumentsStream() {
 
         val paths = List.of(API_PATH, REQUIRED_API_PATH);
@@ -114,6 +176,14 @@ class SampleGradleOasGeneratorApiTest {
         return paths.stream().flatMap(path -> jsons.stream().map(json -> arguments(path, json)));
     }
 
+    static Stream<Arguments> streamingArgumentsStream() {
+
+        return argumentsStream()
+            .filter(arguments -> API_PATH.equals(arguments.get()[0]))
+            .flatMap(arguments -> Stream.of("/json/fieldIsNull", "/json/fieldIsMissing")
+                .map(directory -> arguments(directory, arguments.get()[1])));
+    }
+
     @SuppressWarnings("java:S5961")
     @ParameterizedTest
     @ValueSource(strings = {API_PATH, REQUIRED_API_PATH})
@@ -126,14 +196,16 @@ class SampleGradleOasGeneratorApiTest {
             jsonStr = IOUtils.toString(Objects.requireNonNull(is), Charset.defaultCharset());
         }
 
-        mockMvc
-            .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+        perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
             .andDo(print())
             .andExpect(status().is2xxSuccessful())
             .andExpect(mvcResult -> {
                 val responseBody = mvcResult.getResponse().getContentAsString();
                 assertThat(responseBody).isNotBlank();
                 assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
+                // 変換済みの JSON を書き込む場合も Content-Type / Content-Length が設定されること
+                assertThat(mvcResult.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+                assertThat(mvcResult.getResponse().getContentLength()).isEqualTo(responseBody.length());
             });
 
         val request = objectMapper.readValue(jsonStr, PostV1SampleGradleOasGeneratorRequest.class);
@@ -267,6 +339,9 @@ class SampleGradleOasGeneratorApiTest {
         assertThat(request.getStringByteFormat()).isExactlyInstanceOf(JsonNullable.class);
         assertThat(request.getStringByteFormat().isPresent()).isTrue();
         assertThat(request.getStringByteFormat().get())
+            .isExactlyInstanceOf(Base64Bytes.class)
+            .returns("U3dhZ2dlciByb2Nrcw==", Base64Bytes::getEncoded);
+        assertThat(request.getStringByteFormat().get().getBytes())
             .containsExactly(83, 119, 97, 103, 103, 101, 114, 32, 114, 111, 99, 107, 115);
 
         assertThat(request.getStringEmailFormat())
@@ -348,8 +423,7 @@ class SampleGradleOasGeneratorApiTest {
              */
             case "boolean.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -357,8 +431,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -371,8 +444,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "double.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -380,8 +452,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -394,8 +465,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "float.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -403,8 +473,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -417,8 +486,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "int32.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -426,8 +494,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -440,8 +507,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "int64.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -449,8 +515,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -463,8 +528,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "intArray.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -472,8 +536,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -487,8 +550,7 @@ class SampleGradleOasGeneratorApiTest {
             case "intArrayItem.json" -> {
 
                 // 要素が null の場合はバリデーションエラーとならない
-                mockMvc
-                    .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                     .andDo(print())
                     .andExpect(status().isOk())
                     .andExpect(mvcResult -> {
@@ -506,8 +568,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "integer.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -515,8 +576,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -529,8 +589,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "number.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -538,8 +597,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -552,8 +610,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "object.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -561,8 +618,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -574,8 +630,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "objectArray.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -583,8 +638,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -596,8 +650,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "objectArrayItem.json" -> {
                 // 要素が null の場合はバリデーションエラーとならない
-                mockMvc
-                    .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                     .andDo(print())
                     .andExpect(status().isOk())
                     .andExpect(mvcResult -> {
@@ -615,8 +668,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "objectArrayItemField.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -624,8 +676,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -645,8 +696,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "objectField1.json" -> {
                 if (apiPath.equals(API_PATH)) {
-                    mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -664,8 +714,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "objectField2.json" -> {
                 if (apiPath.equals(API_PATH)) {
-                    mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -683,8 +732,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "objectFieldBoth.json" -> {
                 if (apiPath.equals(API_PATH)) {
-                    mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -705,8 +753,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "string.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -714,8 +761,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -728,8 +774,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "stringArray.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -737,8 +782,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -751,8 +795,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "stringArrayItem.json" -> {
                 // 要素が null の場合はバリデーションエラーとならない
-                mockMvc
-                    .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                     .andDo(print())
                     .andExpect(status().isOk())
                     .andExpect(mvcResult -> {
@@ -770,8 +813,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "stringDateFormat.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -779,8 +821,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -793,8 +834,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "stringDateTimeFormat.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -802,8 +842,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -816,8 +855,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "stringToEnum.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -825,8 +863,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -839,8 +876,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "stringBinaryFormat.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -848,8 +884,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -862,8 +897,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "stringByteFormat.json" -> {
                 // byte[] を required かつ nullable: true にするとコンパイルエラーのため不可
-                mockMvc
-                    .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                     .andDo(print())
                     .andExpect(status().isOk())
                     .andExpect(mvcResult -> {
@@ -879,8 +913,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "stringEmailFormat.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -888,8 +921,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -902,8 +934,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "stringHostnameFormat.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -911,8 +942,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -925,8 +955,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "stringIpv4Format.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -934,8 +963,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -948,8 +976,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "stringIpv6Format.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -957,8 +984,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -971,8 +997,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "stringPasswordFormat.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -980,8 +1005,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -994,8 +1018,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "stringUriFormat.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -1003,8 +1026,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -1017,8 +1039,7 @@ class SampleGradleOasGeneratorApiTest {
             }
             case "stringUuidFormat.json" -> {
                 switch (apiPath) {
-                    case API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isOk())
                         .andExpect(mvcResult -> {
@@ -1026,8 +1047,7 @@ class SampleGradleOasGeneratorApiTest {
                             assertThat(responseBody).isNotBlank();
                             assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
                         });
-                    case REQUIRED_API_PATH -> mockMvc
-                        .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    case REQUIRED_API_PATH -> perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
                         .andDo(print())
                         .andExpect(status().isBadRequest());
                     default -> fail("API Path が異常");
@@ -1053,8 +1073,7 @@ class SampleGradleOasGeneratorApiTest {
             jsonStr = IOUtils.toString(Objects.requireNonNull(is), Charset.defaultCharset());
         }
 
-        mockMvc
-            .perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+        perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
             .andDo(print())
             .andExpect(status().isOk())
             .andExpect(mvcResult -> {
@@ -1359,4 +1378,438 @@ class SampleGradleOasGeneratorApiTest {
             default -> fail("case 不足");
         }
     }
+
+    @ParameterizedTest
+    @MethodSource(value = "streamingArgumentsStream")
+    @DisplayName("ストリーミング: 値がNull / フィールドの欠損あり")
+    void streamingTest(String directory, String jsonName) throws Exception {
+        String jsonStr;
+        val jsonPath = String.join("/", directory, jsonName);
+        try (val is = SampleGradleOasGeneratorApiTest.class.getResourceAsStream(jsonPath)) {
+            jsonStr = IOUtils.toString(Objects.requireNonNull(is), Charset.defaultCharset());
+        }
+
+        // API_PATH と同じ結果になること
+        perform(post(STREAMING_API_PATH).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(mvcResult -> {
+                val responseBody = mvcResult.getResponse().getContentAsString();
+                assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
+            });
+    }
+
+    @Test
+    @DisplayName("ストリーミング: 要素数の多い配列")
+    void streamingLargeArrayTest() throws Exception {
+
+        val request = new PostV1SampleGradleOasGeneratorRequest();
+        val objectArrayField = new ArrayList<PostV1SampleGradleOasGeneratorRequestObjectArrayFieldInner>();
+        val stringArrayField = new ArrayList<String>();
+        for (int i = 0; i < 100_000; i++) {
+            objectArrayField.add(new PostV1SampleGradleOasGeneratorRequestObjectArrayFieldInner().innerId(i).innerName("name" + i));
+            stringArrayField.add("str" + i);
+        }
+        request.setObjectArrayField(JsonNullable.of(objectArrayField));
+        request.setStringArrayField(JsonNullable.of(stringArrayField));
+        request.setObjectField(JsonNullable.of(new PostV1SampleGradleOasGeneratorRequestObjectField().id(1).name("hoge")));
+
+        perform(post(STREAMING_API_PATH).contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsBytes(request)))
+            .andExpect(status().isOk())
+            .andExpect(mvcResult -> {
+                val responseBody = mvcResult.getResponse().getContentAsString();
+                assertThat(responseBody).isEqualTo("{\"status\":\"OK\"}");
+            });
+    }
+
+    @Test
+    @DisplayName("ストリーミング: リクエストボディの受信中に要素をバリデーションすること")
+    void streamingPartialBodyTest() throws Exception {
+
+        try (val socket = new Socket("localhost", port)) {
+            socket.setSoTimeout(10_000);
+            val outputStream = socket.getOutputStream();
+            outputStream.write(("POST " + STREAMING_API_PATH + " HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Content-Type: application/json\r\n"
+                + "Transfer-Encoding: chunked\r\n"
+                + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            writeChunk(outputStream, "{\"object_array_field\": [{\"inner_id\": 1, \"inner_name\": \"first\"}, {\"inner_id\": \"abc\"},");
+
+            // リクエストボディの残りを送信する前に、不正な要素で 400 を返すこと
+            val reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            assertThat(reader.readLine()).startsWith("HTTP/1.1 400");
+        }
+    }
+
+    private static void writeChunk(OutputStream outputStream, String chunk) throws IOException {
+
+        val bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        outputStream.write((Integer.toHexString(bytes.length) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        outputStream.write(bytes);
+        outputStream.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+        outputStream.flush();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "[]",
+        "{\"object_array_field\": [{\"inner_id\": 1}, {\"inner_id\": \"abc\"}]}",
+        "{\"string_array_field\": [\"str\",",
+        "{\"string_email_format\": \"invalid\"}"})
+    @DisplayName("ストリーミング: 不正なリクエスト")
+    void streamingBadRequestTest(String jsonStr) throws Exception {
+
+        perform(post(STREAMING_API_PATH).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = "batchArgumentsStream")
+    @DisplayName("バッチ: 値がNull / フィールドの欠損あり")
+    void batchTest(String apiPath, MediaType contentType) throws Exception {
+
+        val jsonReader = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        val items = new ArrayList<String>();
+        val expectedStatuses = new ArrayList<Integer>();
+        for (val directory : List.of("/json/fieldIsNull", "/json/fieldIsMissing")) {
+            for (val arguments : argumentsStream().filter(arguments -> apiPath.equals(arguments.get()[0])).toList()) {
+                String jsonStr;
+                val jsonPath = String.join("/", directory, (String) arguments.get()[1]);
+                try (val is = SampleGradleOasGeneratorApiTest.class.getResourceAsStream(jsonPath)) {
+                    jsonStr = IOUtils.toString(Objects.requireNonNull(is), Charset.defaultCharset());
+                }
+                // NDJSON とするため1行にする
+                items.add(objectMapper.writeValueAsString(jsonReader.readTree(jsonStr)));
+
+                // 単体のAPIと同じステータスになること
+                expectedStatuses.add(perform(post(apiPath).contentType(MediaType.APPLICATION_JSON).content(jsonStr))
+                    .andReturn().getResponse().getStatus());
+            }
+        }
+
+        val content = MediaType.APPLICATION_NDJSON.equals(contentType)
+            ? String.join("\n", items)
+            : "[" + String.join(",", items) + "]";
+
+        val results = performBatch(apiPath, contentType, content);
+
+        assertThat(results).extracting(BatchResult::getIndex)
+            .containsExactlyElementsOf(Stream.iterate(0, i -> i + 1).limit(items.size()).toList());
+        assertThat(results).extracting(BatchResult::getStatus).containsExactlyElementsOf(expectedStatuses);
+        assertThat(results)
+            .allSatisfy(result -> assertThat(result.getErrors().isEmpty()).isEqualTo(result.getStatus() == 200));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {API_PATH, REQUIRED_API_PATH})
+    @DisplayName("バッチ: 要素数の多いリクエスト")
+    void batchLargeTest(String apiPath) throws Exception {
+
+        val content = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            content.append(i % 2 == 0 ? "{\"int32_field\":" + i + "}" : "{\"string_email_format\":\"invalid\"}")
+                .append('\n');
+        }
+
+        val results = performBatch(apiPath, MediaType.APPLICATION_NDJSON, content.toString());
+
+        assertThat(results).hasSize(10_000);
+        assertThat(results).allSatisfy(result ->
+            assertThat(result.getStatus()).isEqualTo(result.getIndex() % 2 == 0 ? 200 : 400));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {API_PATH, REQUIRED_API_PATH})
+    @DisplayName("バッチ: リクエストボディの受信中に要素を処理し、処理結果を返すこと")
+    void batchPartialBodyTest(String apiPath) throws Exception {
+
+        val maxInFlight = batchProperties.getMaxInFlight() > 0
+            ? batchProperties.getMaxInFlight()
+            : batchExecutor.getParallelism() * 2;
+        // 処理中の要素数の上限を超える要素数
+        val items = maxInFlight * 4;
+
+        try (val socket = new Socket("localhost", port)) {
+            socket.setSoTimeout(10_000);
+            val outputStream = socket.getOutputStream();
+            outputStream.write(("POST " + apiPath + BATCH_API_PATH_SUFFIX + " HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Content-Type: application/x-ndjson\r\n"
+                + "Transfer-Encoding: chunked\r\n"
+                + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            for (int i = 0; i < items; i++) {
+                writeChunk(outputStream, "{\"int32_field\":" + i + "}\n");
+            }
+
+            // リクエストボディの終端を送信する前に、処理結果を返すこと
+            val reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            assertThat(reader.readLine()).startsWith("HTTP/1.1 200");
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && !line.startsWith("{\"index\":"));
+            assertThat(line).isNotNull();
+            assertThat(objectMapper.readValue(line, BatchResult.class).getStatus()).isEqualTo(200);
+
+            outputStream.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            outputStream.flush();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {API_PATH, REQUIRED_API_PATH})
+    @DisplayName("バッチ: 処理が完了した要素の結果を、残りの要素の処理の完了を待たずに返すこと")
+    void batchFlushTest(String apiPath) throws Exception {
+
+        try (val socket = new Socket("localhost", port)) {
+            socket.setSoTimeout(10_000);
+            val outputStream = socket.getOutputStream();
+            outputStream.write(("POST " + apiPath + BATCH_API_PATH_SUFFIX + " HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Content-Type: application/x-ndjson\r\n"
+                + "Accept-Encoding: gzip\r\n"
+                + "Transfer-Encoding: chunked\r\n"
+                + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            writeChunk(outputStream, "{\"int32_field\":0}\n{\"int32_field\":1}\n");
+
+            // 最後の要素を送信する前に、送信済みの要素の結果を受信できること
+            val reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            assertThat(reader.readLine()).startsWith("HTTP/1.1 200");
+            val indexes = new ArrayList<Integer>();
+            while (indexes.size() < 2) {
+                val line = reader.readLine();
+                assertThat(line).isNotNull().doesNotStartWithIgnoringCase("Content-Encoding:");
+                if (line.startsWith("{\"index\":")) {
+                    indexes.add(objectMapper.readValue(line, BatchResult.class).getIndex());
+                }
+            }
+            assertThat(indexes).containsExactlyInAnyOrder(0, 1);
+
+            writeChunk(outputStream, "{\"int32_field\":2}\n");
+            outputStream.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            outputStream.flush();
+
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && !line.startsWith("{\"index\":"));
+            assertThat(line).isNotNull();
+            assertThat(objectMapper.readValue(line, BatchResult.class).getIndex()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("バッチ: 不正なリクエスト")
+    void batchBadRequestTest() throws Exception {
+
+        val content = String.join("\n",
+            "{\"int32_field\": 1}",
+            "{\"int32_field\": \"abc\"}",
+            "null",
+            "{\"string_email_format\": \"invalid\"}",
+            "{\"int32_field\": 2}",
+            "{\"int32_field\":");
+
+        val results = performBatch(API_PATH, MediaType.APPLICATION_NDJSON, content);
+
+        // 構文エラー以降の要素は読み込まれないこと
+        assertThat(results).extracting(BatchResult::getStatus).containsExactly(200, 400, 400, 400, 200, 400);
+        assertThat(results.get(3).getErrors()).containsExactly("stringEmailFormat: must be a well-formed email address");
+    }
+
+    static Stream<Arguments> batchArgumentsStream() {
+
+        return Stream.of(API_PATH, REQUIRED_API_PATH)
+            .flatMap(path -> Stream.of(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                .map(contentType -> arguments(path, contentType)));
+    }
+
+    /**
+     * バッチAPIを呼び出し、処理結果を {@link BatchResult#getIndex()} の順に返す.
+     */
+    private List<BatchResult> performBatch(String apiPath, MediaType contentType, String content) throws Exception {
+
+        val response = perform(post(apiPath + BATCH_API_PATH_SUFFIX).contentType(contentType).content(content))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse();
+
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON_VALUE);
+
+        val results = new ArrayList<BatchResult>();
+        for (val line : response.getContentAsString().split("\n")) {
+            results.add(objectMapper.readValue(line, BatchResult.class));
+        }
+        results.sort(Comparator.comparing(BatchResult::getIndex));
+
+        return results;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {API_PATH, REQUIRED_API_PATH})
+    @DisplayName("再送: 同じリクエストには保存したレスポンスを返すこと")
+    void idempotencyTest(String apiPath) throws Exception {
+
+        val idempotencyKey = UUID.randomUUID().toString();
+        for (val replayed : new String[] {null, "true", "true"}) {
+            perform(post(apiPath).contentType(MediaType.APPLICATION_JSON)
+                    .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                    .content("{\"int32_field\": 1}"))
+                .andExpect(status().isOk())
+                .andExpect(mvcResult -> {
+                    assertThat(mvcResult.getResponse().getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo(replayed);
+                    assertThat(mvcResult.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+                    assertThat(mvcResult.getResponse().getContentAsString()).isEqualTo("{\"status\":\"OK\"}");
+                });
+        }
+
+        // 不正なリクエストのレスポンスは保存しないこと
+        for (int i = 0; i < 2; i++) {
+            perform(post(apiPath).contentType(MediaType.APPLICATION_JSON)
+                    .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                    .content("{\"int32_field\": \"abc\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(mvcResult ->
+                    assertThat(mvcResult.getResponse().getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {API_PATH, REQUIRED_API_PATH})
+    @DisplayName("HTTP/2: h2c で Upgrade した1つの接続で、複数のリクエストを多重化して処理すること")
+    void http2Test(String apiPath) throws Exception {
+
+        String jsonStr;
+        try (val is = SampleGradleOasGeneratorApiTest.class.getResourceAsStream("/json/ok.json")) {
+            jsonStr = IOUtils.toString(Objects.requireNonNull(is), Charset.defaultCharset());
+        }
+        val httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+        val baseUri = URI.create("http://localhost:" + port);
+
+        // リクエストボディのない GET で HTTP/2 に Upgrade し、以降のリクエストはこの接続で送信される
+        val upgrade = httpClient.send(
+            HttpRequest.newBuilder(baseUri.resolve("/actuator/health")).build(), HttpResponse.BodyHandlers.discarding());
+        assertThat(upgrade.version()).isEqualTo(HttpClient.Version.HTTP_2);
+
+        val responses = IntStream.range(0, 16)
+            .mapToObj(i -> httpClient.sendAsync(
+                HttpRequest.newBuilder(baseUri.resolve(apiPath))
+                    .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, UUID.randomUUID().toString())
+                    .POST(HttpRequest.BodyPublishers.ofString(jsonStr))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString()))
+            .toList();
+        for (val future : responses) {
+            val response = future.get(10, TimeUnit.SECONDS);
+            assertThat(response.version()).isEqualTo(HttpClient.Version.HTTP_2);
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).isEqualTo("{\"status\":\"OK\"}");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {API_PATH, REQUIRED_API_PATH})
+    @DisplayName("アップロード: バイナリのリクエストボディ")
+    void uploadTest(String apiPath) throws Exception {
+
+        val content = new byte[8 * 1024 * 1024];
+        new Random(0).nextBytes(content);
+
+        perform(post(apiPath + UPLOAD_API_PATH_SUFFIX).contentType(MediaType.APPLICATION_OCTET_STREAM).content(content))
+            .andExpect(status().isOk())
+            .andExpect(mvcResult ->
+                assertThat(mvcResult.getResponse().getContentAsString()).isEqualTo("{\"status\":\"OK\"}"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {API_PATH, REQUIRED_API_PATH})
+    @DisplayName("アップロード: 不正なリクエスト")
+    void uploadBadRequestTest(String apiPath) throws Exception {
+
+        // リクエストボディは必須
+        perform(post(apiPath + UPLOAD_API_PATH_SUFFIX).contentType(MediaType.APPLICATION_OCTET_STREAM))
+            .andExpect(status().isBadRequest());
+        // application/octet-stream 以外は受け付けない
+        perform(post(apiPath + UPLOAD_API_PATH_SUFFIX).contentType(MediaType.APPLICATION_JSON).content("{}"))
+            .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = "binaryFormatArgumentsStream")
+    @DisplayName("バイナリ形式: 全パラメータ値あり")
+    void binaryFormatTest(String apiPath, MediaType mediaType) throws Exception {
+
+        String jsonStr;
+        try (val is = SampleGradleOasGeneratorApiTest.class.getResourceAsStream("/json/ok.json")) {
+            jsonStr = IOUtils.toString(Objects.requireNonNull(is), Charset.defaultCharset());
+        }
+        val binaryMapper = binaryMapper(mediaType);
+        val content = binaryMapper.writeValueAsBytes(
+            objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS).readTree(jsonStr));
+
+        // Accept と同じ形式で返すこと
+        perform(post(apiPath).contentType(mediaType).accept(mediaType).content(content))
+            .andExpect(status().isOk())
+            .andExpect(mvcResult -> {
+                assertThat(mvcResult.getResponse().getContentType()).isEqualTo(mediaType.toString());
+                val response = binaryMapper.readValue(
+                    mvcResult.getResponse().getContentAsByteArray(), PostV1SampleGradleOasGenerator200Response.class);
+                assertThat(response.getStatus()).isEqualTo("OK");
+            });
+
+        // Accept の指定がない場合は JSON で返すこと
+        perform(post(apiPath).contentType(mediaType).content(content))
+            .andExpect(status().isOk())
+            .andExpect(mvcResult -> {
+                assertThat(mvcResult.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+                assertThat(mvcResult.getResponse().getContentAsString()).isEqualTo("{\"status\":\"OK\"}");
+            });
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = "binaryFormatArgumentsStream")
+    @DisplayName("バイナリ形式: 不正なリクエスト")
+    void binaryFormatBadRequestTest(String apiPath, MediaType mediaType) throws Exception {
+
+        val binaryMapper = binaryMapper(mediaType);
+        for (val jsonStr : List.of("{\"int32_field\": \"abc\"}", "{\"string_email_format\": \"invalid\"}")) {
+            perform(post(apiPath).contentType(mediaType).accept(mediaType)
+                    .content(binaryMapper.writeValueAsBytes(objectMapper.readTree(jsonStr))))
+                .andExpect(status().isBadRequest());
+        }
+    }
+
+    static Stream<Arguments> binaryFormatArgumentsStream() {
+
+        return Stream.of(API_PATH, REQUIRED_API_PATH)
+            .flatMap(path -> Stream.of(
+                    MediaType.APPLICATION_CBOR,
+                    new MediaType("application", "x-jackson-smile"),
+                    MessagePackHttpMessageConverter.APPLICATION_MSGPACK)
+                .map(mediaType -> arguments(path, mediaType)));
+    }
+
+    private ObjectMapper binaryMapper(MediaType mediaType) {
+
+        return switch (mediaType.getSubtype()) {
+            case "cbor" -> cborMapper;
+            case "x-jackson-smile" -> smileMapper;
+            case "x-msgpack" -> messagePackMapper;
+            default -> throw new IllegalArgumentException(mediaType.toString());
+        };
+    }
+
+    /**
+     * リクエストを実行する. <br>
+     * Delegate の非同期処理が開始された場合は、処理の完了を待って ASYNC の dispatch を実行する.
+     */
+    private ResultActions perform(RequestBuilder requestBuilder) throws Exception {
+
+        val resultActions = mockMvc.perform(requestBuilder);
+        val mvcResult = resultActions.andReturn();
+        return mvcResult.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(mvcResult)) : resultActions;
+    }
 }
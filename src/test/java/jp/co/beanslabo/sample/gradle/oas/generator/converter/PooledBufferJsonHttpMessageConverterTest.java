@@ -0,0 +1,145 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonConfig;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonProperties;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequiredRequest;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link PooledBufferJsonHttpMessageConverter} の Test.
+ */
+class PooledBufferJsonHttpMessageConverterTest {
+
+    private ObjectMapper objectMapper;
+
+    private ByteArrayPool pool;
+
+    private PooledBufferJsonHttpMessageConverter converter;
+
+    private byte[] okJson;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        objectMapper = new JsonConfig().objectMapper(new JsonProperties(), new StandardEnvironment());
+        try (val is = PooledBufferJsonHttpMessageConverterTest.class.getResourceAsStream("/json/ok.json")) {
+            okJson = Objects.requireNonNull(is).readAllBytes();
+        }
+        pool = new ByteArrayPool(okJson.length + 16, 4);
+        converter = new PooledBufferJsonHttpMessageConverter(objectMapper, pool,
+            PostV1SampleGradleOasGeneratorRequest.class.getPackageName());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "true, 64",
+        "false, 64",
+        "true, 0",
+        "false, 0",
+        "true, -1",
+        "false, -1"})
+    @DisplayName("バッファのサイズに関わらず ObjectMapper と同じ結果に変換されること")
+    void readTest(boolean contentLength, int bufferSizeDelta) throws Exception {
+
+        pool = new ByteArrayPool(okJson.length + bufferSizeDelta, 4);
+        converter = new PooledBufferJsonHttpMessageConverter(objectMapper, pool,
+            PostV1SampleGradleOasGeneratorRequest.class.getPackageName());
+
+        val actual = converter.read(PostV1SampleGradleOasGeneratorRequiredRequest.class, null,
+            inputMessage(okJson, MediaType.APPLICATION_JSON, contentLength));
+
+        val expected = objectMapper.readValue(okJson, PostV1SampleGradleOasGeneratorRequiredRequest.class);
+        assertThat(objectMapper.writeValueAsString(actual)).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+    @Test
+    @DisplayName("読み込んだバッファが Pool に返却され、再利用されること")
+    void reuseTest() throws Exception {
+
+        for (int i = 0; i < 10; i++) {
+            converter.read(PostV1SampleGradleOasGeneratorRequest.class, null,
+                inputMessage(okJson, MediaType.APPLICATION_JSON, true));
+        }
+
+        assertThat(pool.getPooledCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Content-Length の長さだけ読み込むこと")
+    void contentLengthTest() throws Exception {
+
+        val json = "{\"int32_field\": 1}{\"int32_field\": 2}".getBytes(StandardCharsets.UTF_8);
+        val inputMessage = new MockHttpInputMessage(json);
+        inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        inputMessage.getHeaders().setContentLength(18);
+
+        val actual = (PostV1SampleGradleOasGeneratorRequest) converter.read(
+            PostV1SampleGradleOasGeneratorRequest.class, null, inputMessage);
+
+        assertThat(actual.getInt32Field().get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("UTF-8 以外の文字コードも変換されること")
+    void charsetTest() throws Exception {
+
+        val json = "{\"string_field\": \"日本語\"}";
+        val actual = (PostV1SampleGradleOasGeneratorRequest) converter.read(
+            PostV1SampleGradleOasGeneratorRequest.class, null,
+            inputMessage(json.getBytes(StandardCharsets.UTF_16),
+                new MediaType("application", "json", StandardCharsets.UTF_16), false));
+
+        assertThat(actual.getStringField().get()).isEqualTo("日本語");
+        assertThat(pool.getPooledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("対象のパッケージ以外のクラスは MappingJackson2HttpMessageConverter と同じ処理で変換されること")
+    void otherTypeTest() throws Exception {
+
+        val actual = converter.read(Map.class, null, inputMessage(okJson, MediaType.APPLICATION_JSON, true));
+
+        assertThat(actual).isInstanceOf(Map.class);
+        assertThat(pool.getPooledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("不正な JSON の場合は HttpMessageNotReadableException となり、バッファが返却されること")
+    void parseErrorTest() {
+
+        assertThatThrownBy(() -> converter.read(PostV1SampleGradleOasGeneratorRequest.class, null,
+            inputMessage("{".getBytes(StandardCharsets.UTF_8), MediaType.APPLICATION_JSON, true)))
+            .isInstanceOf(HttpMessageNotReadableException.class)
+            .hasMessageStartingWith("JSON parse error: ");
+        assertThat(pool.getPooledCount()).isEqualTo(1);
+    }
+
+    private static MockHttpInputMessage inputMessage(byte[] body, MediaType contentType, boolean contentLength) {
+
+        val inputMessage = new MockHttpInputMessage(body);
+        inputMessage.getHeaders().setContentType(contentType);
+        if (contentLength) {
+            inputMessage.getHeaders().setContentLength(body.length);
+        }
+        return inputMessage;
+    }
+}
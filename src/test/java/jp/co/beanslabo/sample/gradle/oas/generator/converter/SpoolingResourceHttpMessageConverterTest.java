@@ -0,0 +1,130 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.converter;
+
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link SpoolingResourceHttpMessageConverter} の Test.
+ */
+class SpoolingResourceHttpMessageConverterTest {
+
+    private static final int MAX_SIZE = 4 * 1024 * 1024;
+
+    @TempDir
+    private Path directory;
+
+    private MockHttpServletRequest request;
+
+    private SpoolingResourceHttpMessageConverter converter;
+
+    @BeforeEach
+    void setUp() {
+
+        request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        converter = new SpoolingResourceHttpMessageConverter(directory, MAX_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    @DisplayName("リクエストボディが一時ファイルに書き込まれ、リクエストの完了時に削除されること")
+    void readTest(boolean contentLength) throws Exception {
+
+        val bytes = bytes(MAX_SIZE);
+        val resource = converter.read(Resource.class, inputMessage(bytes, contentLength));
+
+        assertThat(resource).isInstanceOf(FileSystemResource.class);
+        val file = resource.getFile().toPath();
+        assertThat(file.getParent()).isEqualTo(directory);
+        assertThat(resource.contentLength()).isEqualTo(bytes.length);
+        try (val channel = FileChannel.open(file)) {
+            val mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            val actual = new byte[bytes.length];
+            mapped.get(actual);
+            assertThat(actual).isEqualTo(bytes);
+        }
+
+        new SpooledFileCleanupInterceptor().afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Content-Length が上限を超える場合は一時ファイルを作成せずに例外となること")
+    void contentLengthTooLargeTest() throws Exception {
+
+        assertThatThrownBy(() -> converter.read(Resource.class, inputMessage(bytes(MAX_SIZE + 1), true)))
+            .isInstanceOf(MaxUploadSizeExceededException.class);
+        try (val files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Content-Length の指定がなく上限を超える場合は例外となり、作成した一時ファイルは削除されること")
+    void chunkedTooLargeTest() throws Exception {
+
+        assertThatThrownBy(() -> converter.read(Resource.class, inputMessage(bytes(MAX_SIZE + 1), false)))
+            .isInstanceOf(MaxUploadSizeExceededException.class);
+
+        new SpooledFileCleanupInterceptor().afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+        try (val files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("application/octet-stream の Resource の読み込みのみに対応すること")
+    void canReadTest() {
+
+        assertThat(converter.canRead(Resource.class, MediaType.APPLICATION_OCTET_STREAM)).isTrue();
+        assertThat(converter.canRead(Resource.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(FileSystemResource.class, MediaType.APPLICATION_OCTET_STREAM)).isFalse();
+        assertThat(converter.canWrite(Resource.class, MediaType.APPLICATION_OCTET_STREAM)).isFalse();
+    }
+
+    private static byte[] bytes(int size) {
+
+        val bytes = new byte[size];
+        new Random(0).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static MockHttpInputMessage inputMessage(byte[] bytes, boolean contentLength) {
+
+        val inputMessage = new MockHttpInputMessage(bytes);
+        inputMessage.getHeaders().setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        if (contentLength) {
+            inputMessage.getHeaders().setContentLength(bytes.length);
+        }
+        return inputMessage;
+    }
+}
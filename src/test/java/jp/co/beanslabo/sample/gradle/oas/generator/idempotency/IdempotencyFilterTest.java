@@ -0,0 +1,257 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.idempotency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.IdempotencyProperties;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link IdempotencyFilter} の Test.
+ */
+class IdempotencyFilterTest {
+
+    private static final String PATH = "/api/sample";
+
+    private static final String OPERATION_ID = "postSample";
+
+    private IdempotencyProperties properties;
+
+    private MeterRegistry meterRegistry;
+
+    private IdempotencyFilter filter;
+
+    /**
+     * Delegate まで処理された回数.
+     */
+    private AtomicInteger executions;
+
+    /**
+     * Delegate が返すステータスコード.
+     */
+    private int status;
+
+    @BeforeEach
+    void setUp() {
+
+        properties = new IdempotencyProperties();
+        properties.setOperationIds(List.of(OPERATION_ID));
+        properties.setMaxBodySize(DataSize.ofBytes(64));
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new IdempotencyFilter(properties, Map.of(PATH, OPERATION_ID, "/api/other", "postOther"), meterRegistry);
+        executions = new AtomicInteger();
+        status = 201;
+    }
+
+    @Test
+    @DisplayName("同じリクエストには、処理を行わずに保存したレスポンスを返すこと")
+    void hitTest() throws Exception {
+
+        val first = perform(request("{\"a\":1}"), this::echo);
+        val second = perform(request("{\"a\":1}"), this::echo);
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(second.getStatus()).isEqualTo(201);
+        assertThat(second.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("echo:{\"a\":1}");
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("リクエストボディ・Accept・Idempotency-Key のいずれかが異なる場合は、それぞれ処理すること")
+    void missTest() throws Exception {
+
+        perform(request("{\"a\":1}"), this::echo);
+        perform(request("{\"a\":2}"), this::echo);
+        val accept = request("{\"a\":1}");
+        accept.addHeader(HttpHeaders.ACCEPT, "application/cbor");
+        perform(accept, this::echo);
+        val idempotencyKey = request("{\"a\":1}");
+        idempotencyKey.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+        perform(idempotencyKey, this::echo);
+
+        assertThat(executions).hasValue(4);
+        assertThat(count("hit")).isZero();
+        assertThat(count("miss")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("2xx 以外のレスポンスは保存しないこと")
+    void errorResponseTest() throws Exception {
+
+        status = 400;
+        perform(request("{\"a\":1}"), this::echo);
+        val second = perform(request("{\"a\":1}"), this::echo);
+
+        assertThat(executions).hasValue(2);
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("対象外のリクエストは保存しないこと")
+    void notTargetTest() throws Exception {
+
+        for (int i = 0; i < 2; i++) {
+            // 対象外の operationId
+            val other = request("{\"a\":1}");
+            other.setRequestURI("/api/other");
+            perform(other, this::echo);
+            // Content-Length が上限を超える
+            perform(request("{\"a\":\"" + "x".repeat(64) + "\"}"), this::echo);
+            // Content-Length の指定がない
+            val chunked = request("{\"a\":1}");
+            chunked.setContent(null);
+            perform(chunked, this::echo);
+        }
+
+        assertThat(executions).hasValue(6);
+        assertThat(count("miss")).isZero();
+    }
+
+    @Test
+    @DisplayName("同時に受け付けた同じリクエストは、1件のみ処理すること")
+    void coalesceTest() throws Exception {
+
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            echo(request, response);
+        };
+
+        // 後続のリクエストが待機している間にタイムアウトしないようにする
+        properties.setCoalesceTimeout(Duration.ofSeconds(10));
+
+        val executor = Executors.newFixedThreadPool(8);
+        try {
+            val first = executor.submit(() -> perform(request("{\"a\":1}"), slow));
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            val others = new ArrayList<Future<MockHttpServletResponse>>();
+            for (int i = 0; i < 7; i++) {
+                others.add(executor.submit(() -> perform(request("{\"a\":1}"), slow)));
+            }
+            // 後続のリクエストが待機するまで待つ
+            Thread.sleep(200);
+            release.countDown();
+
+            assertThat(first.get(10, TimeUnit.SECONDS).getContentAsString()).isEqualTo("echo:{\"a\":1}");
+            for (val other : others) {
+                assertThat(other.get(10, TimeUnit.SECONDS).getContentAsString()).isEqualTo("echo:{\"a\":1}");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(executions).hasValue(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("coalesced") + count("hit")).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("同じリクエストの処理が待機時間の上限までに完了しない場合は、待たずに処理すること")
+    void coalesceTimeoutTest() throws Exception {
+
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            echo(request, response);
+        };
+
+        val executor = Executors.newSingleThreadExecutor();
+        try {
+            val first = executor.submit(() -> perform(request("{\"a\":1}"), slow));
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // デフォルトの待機時間の上限を超えた後に、保存せずに処理すること
+            val begin = System.nanoTime();
+            val second = perform(request("{\"a\":1}"), this::echo);
+            val elapsed = Duration.ofNanos(System.nanoTime() - begin);
+
+            assertThat(second.getContentAsString()).isEqualTo("echo:{\"a\":1}");
+            assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+            assertThat(elapsed).isGreaterThanOrEqualTo(properties.getCoalesceTimeout()).isLessThan(Duration.ofSeconds(5));
+            assertThat(executions).hasValue(1);
+
+            release.countDown();
+            assertThat(first.get(10, TimeUnit.SECONDS).getContentAsString()).isEqualTo("echo:{\"a\":1}");
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        assertThat(executions).hasValue(2);
+        assertThat(count("miss")).isEqualTo(2);
+        assertThat(count("coalesced") + count("hit")).isZero();
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+
+        val response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    /**
+     * リクエストボディを読み込み、{@code echo:} を付与して返す Delegate の代わりの処理.
+     */
+    private void echo(ServletRequest request, ServletResponse response) throws IOException {
+
+        executions.incrementAndGet();
+        val body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        ((HttpServletResponse) response).setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(("echo:" + body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MockHttpServletRequest request(String body) {
+
+        val request = new MockHttpServletRequest("POST", PATH);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter(IdempotencyFilter.REQUESTS_METRIC_NAME, IdempotencyFilter.RESULT_TAG, result).count();
+    }
+}
@@ -0,0 +1,156 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonConfig;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonProperties;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequiredRequest;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * {@link PrimitiveJsonNullableDeserializer} の Test.
+ */
+class PrimitiveJsonNullableDeserializerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = objectMapper(true);
+
+    private static final ObjectMapper DEFAULT_OBJECT_MAPPER = objectMapper(false);
+
+    static Stream<Arguments> argumentsStream() {
+
+        return Stream.of(PostV1SampleGradleOasGeneratorRequest.class, PostV1SampleGradleOasGeneratorRequiredRequest.class)
+            .flatMap(type -> Stream.of(
+                    "{}",
+                    "{\"int32_field\": null, \"int64_field\": null, \"integer_no_format\": null, \"boolean_field\": null}",
+                    "{\"int32_field\": 0, \"int64_field\": 0, \"integer_no_format\": -128, \"boolean_field\": true}",
+                    "{\"int32_field\": 1023, \"int64_field\": 1024, \"integer_no_format\": -129, \"boolean_field\": false}",
+                    "{\"int32_field\": 2147483647, \"int64_field\": 9223372036854775807, \"integer_no_format\": -2147483648}",
+                    "{\"int32_field\": \"1\", \"int64_field\": \"2\", \"boolean_field\": \"true\"}",
+                    "{\"int32_field\": \"\", \"int64_field\": \" \", \"boolean_field\": \"\"}",
+                    "{\"int32_field\": 1.0, \"int64_field\": 2.0, \"float_field\": 1, \"double_field\": 2}",
+                    "{\"float_field\": null, \"double_field\": null}",
+                    "{\"float_field\": 1.5, \"double_field\": -0.0}",
+                    "{\"float_field\": 3.4028235E39, \"double_field\": 1.7976931348623157E308}",
+                    "{\"object_field\": {\"id\": 1}, \"object_array_field\": [{\"inner_id\": null}, {\"inner_id\": 100000}]}")
+                .map(json -> arguments(type, json)));
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}: {1}")
+    @MethodSource(value = "argumentsStream")
+    @DisplayName("JsonNullableModule のみの場合と同じ値に Deserialize されること")
+    void deserializeTest(Class<?> type, String json) throws Exception {
+
+        assertThat(OBJECT_MAPPER.readValue(json, type)).isEqualTo(DEFAULT_OBJECT_MAPPER.readValue(json, type));
+    }
+
+    @Test
+    @DisplayName("未定義・null・値の3状態が保持されること")
+    void stateTest() throws Exception {
+
+        val missing = OBJECT_MAPPER.readValue("{}", PostV1SampleGradleOasGeneratorRequest.class);
+        assertThat(missing.getInt32Field()).isEqualTo(JsonNullable.undefined());
+        assertThat(missing.getInt64Field()).isEqualTo(JsonNullable.undefined());
+        assertThat(missing.getBooleanField()).isEqualTo(JsonNullable.undefined());
+
+        val nulls = OBJECT_MAPPER.readValue(
+            "{\"int32_field\": null, \"int64_field\": null, \"boolean_field\": null}",
+            PostV1SampleGradleOasGeneratorRequest.class);
+        assertThat(nulls.getInt32Field()).isEqualTo(JsonNullable.of(null));
+        assertThat(nulls.getInt64Field()).isEqualTo(JsonNullable.of(null));
+        assertThat(nulls.getBooleanField()).isEqualTo(JsonNullable.of(null));
+
+        val values = OBJECT_MAPPER.readValue(
+            "{\"int32_field\": 1, \"int64_field\": 2, \"boolean_field\": true}",
+            PostV1SampleGradleOasGeneratorRequest.class);
+        assertThat(values.getInt32Field()).isEqualTo(JsonNullable.of(1));
+        assertThat(values.getInt64Field()).isEqualTo(JsonNullable.of(2L));
+        assertThat(values.getBooleanField()).isEqualTo(JsonNullable.of(true));
+    }
+
+    @Test
+    @DisplayName("null・真偽値・小さな整数値の JsonNullable が再利用されること")
+    void reuseTest() throws Exception {
+
+        val json = "{\"int32_field\": 1, \"int64_field\": 1, \"integer_no_format\": null, \"boolean_field\": true}";
+        val first = OBJECT_MAPPER.readValue(json, PostV1SampleGradleOasGeneratorRequest.class);
+        val second = OBJECT_MAPPER.readValue(json, PostV1SampleGradleOasGeneratorRequest.class);
+
+        assertThat(first.getInt32Field()).isSameAs(second.getInt32Field());
+        assertThat(first.getInt64Field()).isSameAs(second.getInt64Field());
+        assertThat(first.getIntegerNoFormat()).isSameAs(second.getIntegerNoFormat());
+        assertThat(first.getBooleanField()).isSameAs(second.getBooleanField());
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}: {1}")
+    @MethodSource(value = "argumentsStream")
+    @DisplayName("Serialize した JSON が JsonNullableModule のみの場合と一致すること")
+    void serializeTest(Class<?> type, String json) throws Exception {
+
+        assertThat(OBJECT_MAPPER.writeValueAsString(OBJECT_MAPPER.readValue(json, type)))
+            .isEqualTo(DEFAULT_OBJECT_MAPPER.writeValueAsString(DEFAULT_OBJECT_MAPPER.readValue(json, type)));
+    }
+
+    @Test
+    @DisplayName("setter で設定した場合も状態が保持され、Deserialize した場合と equals・hashCode が一致すること")
+    void setterTest() throws Exception {
+
+        val model = new PostV1SampleGradleOasGeneratorRequest()
+            .int32Field(1)
+            .int64Field(null)
+            .doubleField(1.5);
+        model.setFloatField(JsonNullable.of(2.5f));
+        model.setBooleanField(null);
+
+        assertThat(model.getInt32Field()).isEqualTo(JsonNullable.of(1));
+        assertThat(model.getInt64Field()).isEqualTo(JsonNullable.of(null));
+        assertThat(model.getIntegerNoFormat()).isEqualTo(JsonNullable.undefined());
+        assertThat(model.getFloatField()).isEqualTo(JsonNullable.of(2.5f));
+        assertThat(model.getDoubleField()).isEqualTo(JsonNullable.of(1.5d));
+        assertThat(model.getBooleanField()).isNull();
+
+        model.setBooleanField(JsonNullable.undefined());
+        val json = "{\"int32_field\": 1, \"int64_field\": null, \"float_field\": 2.5, \"double_field\": 1.5}";
+        val deserialized = OBJECT_MAPPER.readValue(json, PostV1SampleGradleOasGeneratorRequest.class);
+        assertThat(deserialized).isEqualTo(model);
+        assertThat(deserialized.hashCode()).isEqualTo(model.hashCode());
+
+        model.setInt32Field(JsonNullable.of(null));
+        assertThat(model).isNotEqualTo(deserialized);
+        assertThat(model).isEqualTo(OBJECT_MAPPER.readValue(
+            json.replace("\"int32_field\": 1", "\"int32_field\": null"), PostV1SampleGradleOasGeneratorRequest.class));
+    }
+
+    @Test
+    @DisplayName("範囲外の整数値は JsonNullableModule のみの場合と同じ例外となること")
+    void overflowTest() {
+
+        val json = "{\"int32_field\": 2147483648}";
+        val expected = catchThrowable(() -> DEFAULT_OBJECT_MAPPER.readValue(json, PostV1SampleGradleOasGeneratorRequest.class));
+
+        assertThat(expected).isNotNull();
+        assertThatThrownBy(() -> OBJECT_MAPPER.readValue(json, PostV1SampleGradleOasGeneratorRequest.class))
+            .isExactlyInstanceOf(expected.getClass());
+    }
+
+    private static ObjectMapper objectMapper(boolean primitiveJsonNullableEnabled) {
+
+        val jsonProperties = new JsonProperties();
+        jsonProperties.setPrimitiveJsonNullableEnabled(primitiveJsonNullableEnabled);
+        return new JsonConfig().objectMapper(jsonProperties, new StandardEnvironment());
+    }
+}
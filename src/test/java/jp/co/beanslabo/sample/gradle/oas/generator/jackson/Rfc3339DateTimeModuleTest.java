@@ -0,0 +1,236 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonConfig;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonProperties;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * {@link Rfc3339DateTimeModule} の Test.
+ */
+class Rfc3339DateTimeModuleTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = objectMapper(true);
+
+    private static final ObjectMapper DEFAULT_OBJECT_MAPPER = objectMapper(false);
+
+    private static final String[] TIME_ZONES = {
+        "Asia/Tokyo", "UTC", "America/New_York", "Europe/London", "Australia/Lord_Howe", "America/St_Johns"};
+
+    static Stream<Arguments> dateTimeArgumentsStream() {
+
+        return Stream.of(TIME_ZONES)
+            .flatMap(timeZone -> Stream.of(
+                    "\"2023-09-01T08:45:00+09:00\"",
+                    "\"2023-09-01T08:45:00Z\"",
+                    "\"2023-09-01T08:45:00+00:00\"",
+                    "\"2023-09-01T08:45:00-00:00\"",
+                    "\"2023-09-01T08:45:00-05:30\"",
+                    "\"2023-09-01T08:45:00+18:00\"",
+                    "\"2023-09-01T08:45:00.1+09:00\"",
+                    "\"2023-09-01T08:45:00.123456789Z\"",
+                    "\"2023-09-01T08:45:00.1234567890Z\"",
+                    "\"2023-03-12T02:30:00-05:00\"",
+                    "\"2023-11-05T01:30:00-04:00\"",
+                    "\"2023-03-26T01:30:00Z\"",
+                    "\"0000-01-01T00:00:00Z\"",
+                    "\"9999-12-31T23:59:59.999999999-18:00\"",
+                    // 固定の形式以外
+                    "\"2023-09-01T08:45+09:00\"",
+                    "\"2023-09-01t08:45:00z\"",
+                    "\"2023-09-01T08:45:00+0900\"",
+                    "\"2023-09-01T08:45:00+09:00:30\"",
+                    "\" 2023-09-01T08:45:00+09:00 \"",
+                    "\"+12023-09-01T08:45:00Z\"",
+                    "\"1693525500\"",
+                    "1693525500.123",
+                    "\"\"",
+                    "null",
+                    // 不正な日時
+                    "\"2023-02-30T08:45:00Z\"",
+                    "\"2023-09-01T24:00:00Z\"",
+                    "\"2023-09-01T23:59:60Z\"",
+                    "\"2023-09-01T08:45:00+18:01\"",
+                    "\"2023-09-01T08:45:00+09:60\"",
+                    "\"2023-09-01T08:45:00.Z\"",
+                    "\"2023-09-01T08:45:00\"",
+                    "\"2023-09-01\"")
+                .map(json -> arguments(timeZone, json)));
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}: {1}")
+    @MethodSource(value = "dateTimeArgumentsStream")
+    @DisplayName("OffsetDateTime が JavaTimeModule のみの場合と同じ値に Deserialize されること")
+    void deserializeDateTimeTest(String timeZone, String json) throws Exception {
+
+        assertSameResult(
+            () -> DEFAULT_OBJECT_MAPPER.readerFor(OffsetDateTime.class).with(TimeZone.getTimeZone(timeZone)).readValue(json),
+            () -> OBJECT_MAPPER.readerFor(OffsetDateTime.class).with(TimeZone.getTimeZone(timeZone)).readValue(json));
+        assertSameResult(
+            () -> DEFAULT_OBJECT_MAPPER.readerFor(OffsetDateTime.class)
+                .without(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE).readValue(json),
+            () -> OBJECT_MAPPER.readerFor(OffsetDateTime.class)
+                .without(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE).readValue(json));
+    }
+
+    static Stream<String> dateArgumentsStream() {
+
+        return Stream.of(
+            "\"2023-09-01\"",
+            "\"0000-01-01\"",
+            "\"9999-12-31\"",
+            "\"2024-02-29\"",
+            // 固定の形式以外
+            "\"2023-9-1\"",
+            "\"+12023-09-01\"",
+            "\"2023-09-01T00:00:00Z\"",
+            "\"2023-09-01T00:00:00\"",
+            "\" 2023-09-01 \"",
+            "\"\"",
+            "null",
+            "19601",
+            "[2023, 9, 1]",
+            // 不正な日付
+            "\"2023-02-29\"",
+            "\"2023-13-01\"",
+            "\"2023-09-00\"",
+            "\"2023/09/01\"");
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource(value = "dateArgumentsStream")
+    @DisplayName("LocalDate が JavaTimeModule のみの場合と同じ値に Deserialize されること")
+    void deserializeDateTest(String json) throws Exception {
+
+        assertSameResult(
+            () -> DEFAULT_OBJECT_MAPPER.readValue(json, LocalDate.class),
+            () -> OBJECT_MAPPER.readValue(json, LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("OffsetDateTime が JavaTimeModule のみの場合と同じ文字列に Serialize されること")
+    void serializeDateTimeTest() throws Exception {
+
+        val random = new Random(0);
+        for (int i = 0; i < 10_000; i++) {
+            val value = randomDateTime(random);
+            val timeZone = TimeZone.getTimeZone(TIME_ZONES[i % TIME_ZONES.length]);
+
+            assertThat(OBJECT_MAPPER.writer().with(timeZone).writeValueAsString(value))
+                .isEqualTo(DEFAULT_OBJECT_MAPPER.writer().with(timeZone).writeValueAsString(value));
+            assertThat(OBJECT_MAPPER.writer().without(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE)
+                .writeValueAsString(value))
+                .isEqualTo(DEFAULT_OBJECT_MAPPER.writer().without(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE)
+                    .writeValueAsString(value));
+        }
+        for (val value : new OffsetDateTime[] {OffsetDateTime.MIN, OffsetDateTime.MAX}) {
+            // Context の Time Zone への変換で範囲外となり、JavaTimeModule でも例外となる
+            assertSameResult(
+                () -> DEFAULT_OBJECT_MAPPER.writeValueAsString(value), () -> OBJECT_MAPPER.writeValueAsString(value));
+        }
+    }
+
+    @Test
+    @DisplayName("LocalDate が JavaTimeModule のみの場合と同じ文字列に Serialize されること")
+    void serializeDateTest() throws Exception {
+
+        val random = new Random(0);
+        for (int i = 0; i < 10_000; i++) {
+            val value = LocalDate.ofEpochDay(
+                random.nextLong(LocalDate.of(-100, 1, 1).toEpochDay(), LocalDate.of(10100, 1, 1).toEpochDay()));
+            assertThat(OBJECT_MAPPER.writeValueAsString(value)).isEqualTo(DEFAULT_OBJECT_MAPPER.writeValueAsString(value));
+        }
+    }
+
+    @Test
+    @DisplayName("WRITE_DATES_AS_TIMESTAMPS が有効な場合は JavaTimeModule と同じ数値・配列に Serialize されること")
+    void timestampTest() throws Exception {
+
+        val dateTime = OffsetDateTime.of(2023, 9, 1, 8, 45, 0, 123_000_000, ZoneOffset.ofHours(9));
+        val date = LocalDate.of(2023, 9, 1);
+        val writer = OBJECT_MAPPER.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        val defaultWriter = DEFAULT_OBJECT_MAPPER.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        assertThat(writer.writeValueAsString(dateTime)).isEqualTo(defaultWriter.writeValueAsString(dateTime));
+        assertThat(writer.writeValueAsString(date)).isEqualTo(defaultWriter.writeValueAsString(date));
+    }
+
+    @Test
+    @DisplayName("モデルの format: date / date-time のフィールドが JavaTimeModule のみの場合と同じ値に変換されること")
+    void modelTest() throws Exception {
+
+        val json = "{\"string_date_time_format\": \"2023-09-01T08:45:00.5Z\", \"string_date_format\": \"2023-09-01\"}";
+        val request = OBJECT_MAPPER.readValue(json, PostV1SampleGradleOasGeneratorRequest.class);
+        val expected = DEFAULT_OBJECT_MAPPER.readValue(json, PostV1SampleGradleOasGeneratorRequest.class);
+
+        assertThat(request).isEqualTo(expected);
+        assertThat(OBJECT_MAPPER.writeValueAsString(request)).isEqualTo(DEFAULT_OBJECT_MAPPER.writeValueAsString(expected));
+    }
+
+    private static OffsetDateTime randomDateTime(Random random) {
+
+        val dateTime = LocalDateTime.ofEpochSecond(
+            random.nextLong(LocalDateTime.of(1, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC),
+                LocalDateTime.of(10000, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC)),
+            switch (random.nextInt(4)) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(1000) * 1_000_000;
+                case 2 -> random.nextInt(1_000_000) * 1000;
+                default -> random.nextInt(1_000_000_000);
+            },
+            ZoneOffset.UTC);
+        val offsetSeconds = switch (random.nextInt(3)) {
+            case 0 -> 0;
+            case 1 -> random.nextInt(-72, 73) * 15 * 60;
+            default -> random.nextInt(-18 * 3600, 18 * 3600 + 1);
+        };
+        return OffsetDateTime.of(dateTime, ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    /**
+     * 2つの処理が同じ値を返すか、同じ型の例外となることを確認する.
+     */
+    private static void assertSameResult(ThrowingSupplier expected, ThrowingSupplier actual) throws Exception {
+
+        val expectedThrowable = catchThrowable(expected::get);
+        if (expectedThrowable != null) {
+            assertThat(catchThrowable(actual::get)).isExactlyInstanceOf(expectedThrowable.getClass());
+            return;
+        }
+        assertThat((Object) actual.get()).isEqualTo(expected.get());
+    }
+
+    @FunctionalInterface
+    private interface ThrowingSupplier {
+        Object get() throws Exception;
+    }
+
+    private static ObjectMapper objectMapper(boolean fastDateTimeEnabled) {
+
+        val jsonProperties = new JsonProperties();
+        jsonProperties.setFastDateTimeEnabled(fastDateTimeEnabled);
+        return new JsonConfig().objectMapper(jsonProperties, new StandardEnvironment());
+    }
+}
@@ -0,0 +1,76 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.jackson;
+
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ZoneOffsetCache} の Test.
+ */
+class ZoneOffsetCacheTest {
+
+    private static final long FROM = LocalDateTime.of(1850, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    private static final long TO = LocalDateTime.of(2150, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Asia/Tokyo", "UTC", "America/New_York", "Europe/London", "Australia/Lord_Howe", "America/St_Johns", "Africa/Casablanca"})
+    @DisplayName("Offset の切り替わりの前後の日時で ZoneRules と同じ Offset を返すこと")
+    void transitionTest(String zone) {
+
+        val timeZone = TimeZone.getTimeZone(zone);
+        val rules = timeZone.toZoneId().getRules();
+        val cache = new ZoneOffsetCache();
+
+        var transition = rules.nextTransition(Instant.ofEpochSecond(FROM));
+        while (transition != null && transition.toEpochSecond() < TO) {
+            val epochSecond = transition.toEpochSecond();
+            // 切り替わりの前後3時間を15分ごと、切り替わりの直前・直後を1秒ごとに確認する
+            for (long second = epochSecond - 3 * 3600; second <= epochSecond + 3 * 3600; second += 15 * 60) {
+                assertOffset(cache, timeZone, second);
+            }
+            for (long second = epochSecond - 2; second <= epochSecond + 2; second++) {
+                assertOffset(cache, timeZone, second);
+                assertOffset(cache, timeZone, second + transition.getOffsetBefore().getTotalSeconds());
+                assertOffset(cache, timeZone, second + transition.getOffsetAfter().getTotalSeconds());
+            }
+            transition = rules.nextTransition(transition.getInstant());
+        }
+    }
+
+    @Test
+    @DisplayName("Time Zone の異なる日時を交互に検索しても ZoneRules と同じ Offset を返すこと")
+    void randomTest() {
+
+        val timeZones = new TimeZone[] {
+            TimeZone.getTimeZone("Asia/Tokyo"), TimeZone.getTimeZone("America/New_York"), TimeZone.getTimeZone("Europe/London")};
+        val cache = new ZoneOffsetCache();
+        val random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            // 同じ Time Zone の近い日時が続く場合と、異なる Time Zone の日時を交互に検索する場合を確認する
+            val timeZone = timeZones[i % 1000 < 500 ? 0 : random.nextInt(timeZones.length)];
+            assertOffset(cache, timeZone, random.nextLong(FROM, TO));
+        }
+    }
+
+    private static void assertOffset(ZoneOffsetCache cache, TimeZone timeZone, long second) {
+
+        val rules = timeZone.toZoneId().getRules();
+        val dateTime = LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC);
+        assertThat(cache.getOffset(timeZone, dateTime)).as("local %s", dateTime).isEqualTo(rules.getOffset(dateTime));
+        assertThat(cache.getOffset(timeZone, second)).as("instant %s", second)
+            .isEqualTo(rules.getOffset(Instant.ofEpochSecond(second)));
+    }
+}
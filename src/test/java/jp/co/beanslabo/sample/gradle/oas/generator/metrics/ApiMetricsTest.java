@@ -0,0 +1,158 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jp.co.beanslabo.sample.gradle.oas.generator.SampleGradleOasGeneratorApplication;
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@link ApiMetrics} の Integration Test.
+ */
+@SpringBootTest(classes = SampleGradleOasGeneratorApplication.class, properties = {
+    // 同じリクエストを繰り返し送信するため、保存したレスポンスを返さないようにする
+    "sample.idempotency.enabled=false"})
+@AutoConfigureMockMvc
+class ApiMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @ParameterizedTest
+    @CsvSource({
+        "/api/sample-gradle-oas-generator, postV1SampleGradleOasGenerator",
+        "/api/sample-gradle-oas-generator-required, postV1SampleGradleOasGeneratorRequired"})
+    @DisplayName("正常なリクエストで全てのフェーズの処理時間が記録されること")
+    void okTest(String path, String operationId) throws Exception {
+
+        val before = counts(operationId);
+
+        perform(post(path).contentType(MediaType.APPLICATION_JSON).content(readJson("/json/ok.json")))
+            .andExpect(status().isOk());
+
+        val after = counts(operationId);
+        for (val phase : ApiPhase.values()) {
+            assertThat(after.get(phase)).as(phase.name()).isEqualTo(before.get(phase) + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("バリデーションエラーの場合は Controller の処理以降が記録されないこと")
+    void badRequestTest() throws Exception {
+
+        val operationId = "postV1SampleGradleOasGeneratorRequired";
+        val before = counts(operationId);
+
+        perform(post("/api/sample-gradle-oas-generator-required")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(readJson("/json/fieldIsNull/string.json")))
+            .andExpect(status().isBadRequest());
+
+        val after = counts(operationId);
+        assertThat(after.get(ApiPhase.READ)).isEqualTo(before.get(ApiPhase.READ) + 1);
+        assertThat(after.get(ApiPhase.BIND)).isEqualTo(before.get(ApiPhase.BIND) + 1);
+        assertThat(after.get(ApiPhase.VALIDATION)).isEqualTo(before.get(ApiPhase.VALIDATION) + 1);
+        assertThat(after.get(ApiPhase.DELEGATE)).isEqualTo(before.get(ApiPhase.DELEGATE));
+        assertThat(after.get(ApiPhase.SERIALIZATION)).isEqualTo(before.get(ApiPhase.SERIALIZATION));
+    }
+
+    @Test
+    @DisplayName("ストリーミングAPIで Delegate の Thread の検証が記録されること")
+    void streamingTest() throws Exception {
+
+        val operationId = "postV1SampleGradleOasGeneratorStreaming";
+        val before = counts(operationId);
+
+        perform(post("/api/sample-gradle-oas-generator-streaming")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(readJson("/json/ok.json")))
+            .andExpect(status().isOk());
+
+        // リクエストボディは Delegate の処理の中で読み込むため、READ と BIND は記録されない
+        val after = counts(operationId);
+        assertThat(after.get(ApiPhase.READ)).isEqualTo(before.get(ApiPhase.READ));
+        assertThat(after.get(ApiPhase.BIND)).isEqualTo(before.get(ApiPhase.BIND));
+        assertThat(after.get(ApiPhase.VALIDATION)).isEqualTo(before.get(ApiPhase.VALIDATION) + 1);
+        assertThat(after.get(ApiPhase.DELEGATE)).isEqualTo(before.get(ApiPhase.DELEGATE) + 1);
+        assertThat(after.get(ApiPhase.SERIALIZATION)).isEqualTo(before.get(ApiPhase.SERIALIZATION) + 1);
+    }
+
+    @Test
+    @DisplayName("Metrics のエンドポイントでパーセンタイルが公開されること")
+    void metricsEndpointTest() throws Exception {
+
+        perform(post("/api/sample-gradle-oas-generator")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(readJson("/json/ok.json")))
+            .andExpect(status().isOk());
+
+        perform(get("/actuator/metrics/" + ApiMetrics.METRIC_NAME))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.availableTags[?(@.tag == 'phase')].values[*]")
+                .value(hasItems("read", "bind", "validation", "delegate", "serialization")));
+
+        perform(get("/actuator/metrics/" + ApiMetrics.METRIC_NAME + ".percentile"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.availableTags[?(@.tag == 'phi')].values[*]")
+                .value(hasItems("0.5", "0.99", "0.999")));
+    }
+
+    private Map<ApiPhase, Long> counts(String operationId) {
+
+        return Arrays.stream(ApiPhase.values())
+            .collect(Collectors.toMap(Function.identity(), phase -> {
+                val timer = meterRegistry.find(ApiMetrics.METRIC_NAME)
+                    .tag(ApiMetrics.OPERATION_TAG, operationId)
+                    .tag(ApiMetrics.PHASE_TAG, phase.getTagValue())
+                    .timer();
+                return timer == null ? 0L : timer.count();
+            }));
+    }
+
+    private static String readJson(String jsonPath) throws Exception {
+
+        try (val is = ApiMetricsTest.class.getResourceAsStream(jsonPath)) {
+            return IOUtils.toString(Objects.requireNonNull(is), Charset.defaultCharset());
+        }
+    }
+
+    /**
+     * リクエストを実行する. <br>
+     * Delegate の非同期処理が開始された場合は、処理の完了を待って ASYNC の dispatch を実行する.
+     */
+    private ResultActions perform(RequestBuilder requestBuilder) throws Exception {
+
+        val resultActions = mockMvc.perform(requestBuilder);
+        val mvcResult = resultActions.andReturn();
+        return mvcResult.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(mvcResult)) : resultActions;
+    }
+}
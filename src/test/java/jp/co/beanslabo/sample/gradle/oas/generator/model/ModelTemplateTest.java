@@ -0,0 +1,209 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.model;
+
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonConfig;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonProperties;
+import jp.co.beanslabo.sample.gradle.oas.generator.invoker.ModelStrings;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest.StringToEnumEnum;
+import jp.co.beanslabo.sample.gradle.oas.generator.type.Base64Bytes;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * open_api/templates のテンプレートから生成したモデルの Test.
+ */
+class ModelTemplateTest {
+
+    private static PostV1SampleGradleOasGeneratorRequestObjectArrayFieldInner inner(int id, String name) {
+        return new PostV1SampleGradleOasGeneratorRequestObjectArrayFieldInner().innerId(id).innerName(name);
+    }
+
+    @Test
+    @DisplayName("enum の値から定数を取得できること")
+    void enumFromValueTest() {
+
+        assertThat(StringToEnumEnum.fromValue("1")).isSameAs(StringToEnumEnum._1);
+        assertThat(StringToEnumEnum.fromValue("2")).isNull();
+        assertThat(StringToEnumEnum.fromValue(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("同じ値のモデルは equals が true で、hashCode が一致すること")
+    void equalsTest() {
+
+        val first = inner(1, "name");
+        val second = inner(1, "name");
+
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isNotEqualTo(inner(1, "other"));
+        assertThat(first).isNotEqualTo(new PostV1SampleGradleOasGeneratorRequestObjectArrayFieldInner().innerId(1));
+
+        // hashCode の計算後に比較した場合
+        val other = inner(2, "name");
+        other.hashCode();
+        assertThat(first).isNotEqualTo(other);
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("setter で値を変更した場合は hashCode が再計算されること")
+    void setterTest() {
+
+        val model = inner(1, "name");
+        val before = model.hashCode();
+
+        model.setInnerName(JsonNullable.of("other"));
+        assertThat(model.hashCode()).isNotEqualTo(before).isEqualTo(inner(1, "other").hashCode());
+        assertThat(model).isEqualTo(inner(1, "other"));
+
+        model.innerName("name");
+        assertThat(model.hashCode()).isEqualTo(before);
+        assertThat(model).isEqualTo(inner(1, "name"));
+    }
+
+    @Test
+    @DisplayName("getter で取得した配列を変更した場合は hashCode と equals に反映されること")
+    void mutableTest() {
+
+        val model = new BatchResult(0, 200, new ArrayList<>(List.of("a")));
+        val before = model.hashCode();
+
+        model.getErrors().add("b");
+        assertThat(model.hashCode()).isNotEqualTo(before)
+            .isEqualTo(new BatchResult(0, 200, List.of("a", "b")).hashCode());
+        assertThat(model).isEqualTo(new BatchResult(0, 200, List.of("a", "b")))
+            .isNotEqualTo(new BatchResult(0, 200, List.of("a")));
+    }
+
+    @Test
+    @DisplayName("hashCode の計算後にバイト列を変更しても hashCode と equals が一致すること")
+    void bytesTest() {
+
+        val bytes = "bytes".getBytes(StandardCharsets.US_ASCII);
+        val binary = "binary".getBytes(StandardCharsets.US_ASCII);
+        val model = new PostV1SampleGradleOasGeneratorRequest()
+            .stringByteFormat(Base64Bytes.of(bytes))
+            .stringBinaryFormat(new ByteArrayResource(binary));
+        model.hashCode();
+
+        bytes[0] = 'B';
+        model.getStringByteFormat().get().getBytes()[1] = 'Y';
+        binary[0] = 'B';
+
+        val expected = new PostV1SampleGradleOasGeneratorRequest()
+            .stringByteFormat(Base64Bytes.of("bytes".getBytes(StandardCharsets.US_ASCII)))
+            .stringBinaryFormat(new ByteArrayResource("Binary".getBytes(StandardCharsets.US_ASCII)));
+        expected.hashCode();
+        assertThat(model.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(model).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Java の Serialize / Deserialize の後も hashCode と equals が一致すること")
+    void serializationTest() throws Exception {
+
+        val model = inner(1, "name");
+        val hashCode = model.hashCode();
+
+        val output = new ByteArrayOutputStream();
+        try (val stream = new ObjectOutputStream(output)) {
+            stream.writeObject(model);
+        }
+        final Object copy;
+        try (val stream = new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            copy = stream.readObject();
+        }
+
+        assertThat(copy.hashCode()).isEqualTo(hashCode);
+        assertThat(copy).isEqualTo(model);
+    }
+
+    @Test
+    @DisplayName("計算済みの hashCode は JSON に出力されないこと")
+    void jsonTest() throws Exception {
+
+        val objectMapper = new JsonConfig().objectMapper(new JsonProperties(), new StandardEnvironment());
+        val model = inner(1, "name");
+        model.hashCode();
+
+        assertThat(objectMapper.writeValueAsString(model)).isEqualTo("{\"inner_id\":1,\"inner_name\":\"name\"}");
+    }
+
+    static Stream<Object> toStringTest() {
+        val map = new LinkedHashMap<String, Object>();
+        map.put("key", inner(1, "a\nb"));
+        map.put("null", null);
+        return Stream.of(
+            "value",
+            "a\nb",
+            1,
+            JsonNullable.undefined(),
+            JsonNullable.of(null),
+            JsonNullable.of(List.of(inner(1, "name"), inner(2, null))),
+            Arrays.asList("a\nb", null),
+            map,
+            new BatchResult(0, 400, List.of("x", "y")));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    @DisplayName("toString は OpenAPI Generator の標準のテンプレートと同じ形式であること")
+    void toStringTest(Object value) {
+
+        // 標準のテンプレートの toIndentedString と同じ変換
+        val expected = "class Model {\n"
+            + "    " + String.valueOf(value).replace("\n", "\n    ") + "\n"
+            + "    value: " + String.valueOf(value).replace("\n", "\n    ") + "\n"
+            + "}";
+
+        assertThat(ModelStrings.builder("Model").parent(String.valueOf(value)).property("value", value).build())
+            .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("パスワードは出力されないこと")
+    void toStringPasswordTest() {
+
+        val model = new PostV1SampleGradleOasGeneratorRequest().stringPasswordFormat("secret");
+
+        assertThat(model.toString()).contains("    stringPasswordFormat: *\n").doesNotContain("secret");
+    }
+
+    @Test
+    @DisplayName("toString は最大長を超える部分を省略すること")
+    void toStringTruncatedTest() {
+
+        val errors = IntStream.range(0, 100_000).mapToObj(i -> "error-" + i).toList();
+        val model = new BatchResult(0, 400, errors);
+
+        val result = model.toString();
+
+        assertThat(result).hasSize(ModelStrings.MAX_LENGTH + ModelStrings.TRUNCATED.length())
+            .startsWith("class BatchResult {\n    index: 0\n    status: 400\n    errors: [error-0, error-1, ")
+            .endsWith(ModelStrings.TRUNCATED);
+        assertThat(result.substring(0, ModelStrings.MAX_LENGTH))
+            .isEqualTo(("class BatchResult {\n    index: 0\n    status: 400\n    errors: " + errors + "\n}")
+                .substring(0, ModelStrings.MAX_LENGTH));
+    }
+}
@@ -0,0 +1,139 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.type;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonConfig;
+import jp.co.beanslabo.sample.gradle.oas.generator.config.JsonProperties;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Base64;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link Base64Bytes} の Test.
+ */
+class Base64BytesTest {
+
+    private final ObjectMapper objectMapper = new JsonConfig().objectMapper(new JsonProperties(), new StandardEnvironment());
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "QQ==", "QUI=", "QUJD", "U3dhZ2dlciByb2Nrcw==", "+/+/", "QR=="})
+    @DisplayName("Jackson の標準の Base64 で読み込める文字列は正しい形式と判定されること")
+    void validTest(String value) throws Exception {
+
+        assertThat(Base64Bytes.isValid(value)).isTrue();
+        assertThat(Base64Bytes.ofEncoded(value).getBytes())
+            .isEqualTo(objectMapper.readValue("\"" + value + "\"", byte[].class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Q", "QQ", "QQ=", "Q===", "====", "QQ=A", "Q Q=", "QQ-_", "ＱＱ==", "QQ==QQ=="})
+    @DisplayName("Base64 として正しくない文字列は不正な形式と判定されること")
+    void invalidTest(String value) {
+
+        assertThat(Base64Bytes.isValid(value)).isFalse();
+        assertThatThrownBy(() -> Base64Bytes.ofEncoded(value)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Base64 文字列から生成した場合は参照するまで展開されないこと")
+    void lazyTest() {
+
+        val value = Base64Bytes.ofEncoded("U3dhZ2dlciByb2Nrcw==");
+
+        assertThat(value.isDecoded()).isFalse();
+        assertThat(value.length()).isEqualTo(13);
+        assertThat(value.toString()).isEqualTo("Base64Bytes[length=13]");
+        assertThat(value.isDecoded()).isFalse();
+
+        assertThat(value.getBytes()).isEqualTo("Swagger rocks".getBytes());
+        assertThat(value.isDecoded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("JSON から読み込んだ時点で展開され、同じ Base64 文字列で書き込まれること")
+    void jsonTest() throws Exception {
+
+        val json = "{\"string_byte_format\":\"U3dhZ2dlciByb2Nrcw==\"}";
+        val request = objectMapper.readValue(json, PostV1SampleGradleOasGeneratorRequest.class);
+        val value = request.getStringByteFormat().get();
+
+        assertThat(value.isDecoded()).isTrue();
+        assertThat(value.getBytes()).isEqualTo("Swagger rocks".getBytes());
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(request)).get("string_byte_format").asText())
+            .isEqualTo("U3dhZ2dlciByb2Nrcw==");
+    }
+
+    @Test
+    @DisplayName("生成に利用した配列や取得した配列を変更しても値が変わらないこと")
+    void immutableTest() {
+
+        val bytes = "Swagger rocks".getBytes();
+        val value = Base64Bytes.of(bytes);
+        val hashCode = value.hashCode();
+
+        bytes[0] = 0;
+        value.getBytes()[1] = 0;
+
+        assertThat(value.getBytes()).isEqualTo("Swagger rocks".getBytes());
+        assertThat(value.asReadOnlyBuffer().isReadOnly()).isTrue();
+        assertThat(value.asReadOnlyBuffer().remaining()).isEqualTo(13);
+        assertThat(value.hashCode()).isEqualTo(hashCode);
+        assertThat(value).isEqualTo(Base64Bytes.ofEncoded("U3dhZ2dlciByb2Nrcw=="));
+    }
+
+    @Test
+    @DisplayName("不正な Base64 文字列は読み込み時に例外となること")
+    void invalidJsonTest() {
+
+        assertThatThrownBy(() -> objectMapper.readValue(
+            "{\"string_byte_format\": \"U3dhZ2dlciByb2Nrcw\"}", PostV1SampleGradleOasGeneratorRequest.class))
+            .isInstanceOf(JsonMappingException.class);
+        assertThatThrownBy(() -> objectMapper.readValue(
+            "{\"string_byte_format\": 1}", PostV1SampleGradleOasGeneratorRequest.class))
+            .isInstanceOf(MismatchedInputException.class);
+    }
+
+    @Test
+    @DisplayName("CBOR ではバイト列として読み書きされること")
+    void cborTest() throws Exception {
+
+        val bytes = new byte[1024];
+        new Random(0).nextBytes(bytes);
+        val cborMapper = new CBORMapper();
+        cborMapper.findAndRegisterModules();
+
+        val request = new PostV1SampleGradleOasGeneratorRequest().stringByteFormat(Base64Bytes.of(bytes));
+        val cbor = cborMapper.writeValueAsBytes(request);
+        val actual = cborMapper.readValue(cbor, PostV1SampleGradleOasGeneratorRequest.class);
+
+        assertThat(cborMapper.readTree(cbor).get("string_byte_format").isBinary()).isTrue();
+        assertThat(actual.getStringByteFormat().get().getBytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    @DisplayName("バイト列から生成した場合は Base64 文字列に変換して書き込まれること")
+    void encodeTest() throws Exception {
+
+        val bytes = new byte[100];
+        new Random(0).nextBytes(bytes);
+        val value = Base64Bytes.of(bytes);
+
+        assertThat(value.getEncoded()).isEqualTo(Base64.getEncoder().encodeToString(bytes));
+        assertThat(objectMapper.writeValueAsString(value)).isEqualTo(objectMapper.writeValueAsString(bytes));
+        assertThat(value).isEqualTo(Base64Bytes.ofEncoded(value.getEncoded()))
+            .hasSameHashCodeAs(Base64Bytes.ofEncoded(value.getEncoded()));
+    }
+}
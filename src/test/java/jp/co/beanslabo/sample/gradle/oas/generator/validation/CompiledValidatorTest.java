@@ -0,0 +1,133 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import jp.co.beanslabo.sample.gradle.oas.generator.SampleGradleOasGeneratorApplication;
+import jp.co.beanslabo.sample.gradle.oas.generator.controller.SampleGradleOasGeneratorApiController;
+import jp.co.beanslabo.sample.gradle.oas.generator.controller.SampleGradleOasGeneratorRequiredApiController;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequest;
+import jp.co.beanslabo.sample.gradle.oas.generator.model.PostV1SampleGradleOasGeneratorRequiredRequest;
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * {@link CompiledValidator} の Test.
+ */
+@SpringBootTest(classes = SampleGradleOasGeneratorApplication.class)
+class CompiledValidatorTest {
+
+    @Autowired
+    private CompiledValidator compiledValidator;
+
+    @Autowired
+    private Validator beanValidator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SampleGradleOasGeneratorApiController apiController;
+
+    @Autowired
+    private SampleGradleOasGeneratorRequiredApiController requiredApiController;
+
+    static Stream<Arguments> argumentsStream() throws Exception {
+
+        // Fixture のパス (またはJSON) と JSON
+        val jsons = new ArrayList<Arguments>();
+        for (val directory : List.of("/json/fieldIsNull", "/json/fieldIsMissing")) {
+            for (val jsonName : List.of(
+                "boolean.json",
+                "double.json",
+                "float.json",
+                "int32.json",
+                "int64.json",
+                "intArray.json",
+                "intArrayItem.json",
+                "integer.json",
+                "number.json",
+                "object.json",
+                "objectArray.json",
+                "objectArrayItem.json",
+                "objectArrayItemField.json",
+                "objectField1.json",
+                "objectField2.json",
+                "objectFieldBoth.json",
+                "string.json",
+                "stringArray.json",
+                "stringArrayItem.json",
+                "stringDateTimeFormat.json",
+                "stringDateFormat.json",
+                "stringToEnum.json",
+                "stringBinaryFormat.json",
+                "stringByteFormat.json",
+                "stringEmailFormat.json",
+                "stringHostnameFormat.json",
+                "stringIpv4Format.json",
+                "stringIpv6Format.json",
+                "stringPasswordFormat.json",
+                "stringUriFormat.json",
+                "stringUuidFormat.json")) {
+                val jsonPath = String.join("/", directory, jsonName);
+                jsons.add(arguments(jsonPath, readJson(jsonPath)));
+            }
+        }
+        jsons.add(arguments("/json/ok.json", readJson("/json/ok.json")));
+        Stream.of(
+                "{}",
+                "{\"string_email_format\": \"invalid\"}",
+                "{\"string_email_format\": null, \"object_field\": {\"id\": null}}",
+                "{\"object_array_field\": [null, {\"inner_id\": null, \"inner_name\": null}, {\"inner_id\": 1}]}")
+            .forEach(json -> jsons.add(arguments(json, json)));
+
+        return Stream.of(PostV1SampleGradleOasGeneratorRequest.class, PostV1SampleGradleOasGeneratorRequiredRequest.class)
+            .flatMap(type -> jsons.stream().map(json -> arguments(type, json.get()[0], json.get()[1])));
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}: {1}")
+    @MethodSource(value = "argumentsStream")
+    @DisplayName("Hibernate Validator と同じ制約違反となること")
+    void validateTest(Class<?> type, String name, String json) throws Exception {
+
+        val target = objectMapper.readValue(json, type);
+
+        val expected = beanValidator.validate(target).stream()
+            .map(violation -> new Violation(violation.getPropertyPath().toString(), violation.getMessage()))
+            .toList();
+
+        assertThat(compiledValidator.validate(target)).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Controller がメソッドの Bean Validation の対象外となること")
+    void controllerIsNotProxiedTest() {
+
+        assertThat(AopUtils.isAopProxy(apiController)).isFalse();
+        assertThat(AopUtils.isAopProxy(requiredApiController)).isFalse();
+    }
+
+    private static String readJson(String jsonPath) throws Exception {
+
+        try (val is = CompiledValidatorTest.class.getResourceAsStream(jsonPath)) {
+            return IOUtils.toString(Objects.requireNonNull(is), Charset.defaultCharset());
+        }
+    }
+}
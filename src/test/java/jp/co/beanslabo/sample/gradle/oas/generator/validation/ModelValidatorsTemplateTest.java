@@ -0,0 +1,119 @@
+/* © 2024 Beans Labo Co., Ltd. */
+package jp.co.beanslabo.sample.gradle.oas.generator.validation;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jp.co.beanslabo.sample.gradle.oas.generator.fixture.invoker.ModelValidators;
+import jp.co.beanslabo.sample.gradle.oas.generator.fixture.model.ConstrainedNumbers;
+import lombok.val;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * open_api/templates の modelValidators.mustache から生成した {@code ModelValidators} の Test.
+ *
+ * <p>sample-oas3.yaml で利用していない制約は、src/test/open_api/validation-fixture-oas3.yaml から生成したモデルで検証する.
+ */
+class ModelValidatorsTemplateTest {
+
+    private static ValidatorFactory validatorFactory;
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    static Stream<ConstrainedNumbers> validateTest() {
+        return Stream.of(
+            new ConstrainedNumbers(),
+            // 境界値 (下限)
+            new ConstrainedNumbers()
+                .numberMin(new BigDecimal("1.5"))
+                .numberExclusiveMin(new BigDecimal("1.50"))
+                .doubleRange(-1d)
+                .doubleExclusiveRange(0d)
+                .floatRange(0.1f)
+                .nullableNumberRange(BigDecimal.ZERO)
+                .int32Range(1)
+                .int64ExclusiveRange(1L),
+            // 境界値 (上限)
+            new ConstrainedNumbers()
+                .numberMax(new BigDecimal("10.25"))
+                .numberExclusiveMax(new BigDecimal("10.250"))
+                .doubleRange(1d)
+                .doubleExclusiveRange(1d)
+                .floatRange(0.3f)
+                .nullableNumberRange(new BigDecimal("100"))
+                .int32Range(10)
+                .int64ExclusiveRange(10L),
+            // 境界値の前後
+            new ConstrainedNumbers()
+                .numberMin(new BigDecimal("1.4999"))
+                .numberExclusiveMin(new BigDecimal("1.5001"))
+                .numberMax(new BigDecimal("10.2501"))
+                .numberExclusiveMax(new BigDecimal("10.2499"))
+                .doubleRange(Math.nextDown(-1d))
+                .doubleExclusiveRange(Math.nextUp(0d))
+                .floatRange(Math.nextDown(0.1f))
+                .nullableNumberRange(new BigDecimal("-0.01"))
+                .int32Range(0)
+                .int64ExclusiveRange(11L),
+            // 無限大・NaN
+            new ConstrainedNumbers()
+                .doubleRange(Double.NaN)
+                .doubleExclusiveRange(Double.POSITIVE_INFINITY)
+                .floatRange(Float.NEGATIVE_INFINITY),
+            new ConstrainedNumbers()
+                .doubleRange(Double.NEGATIVE_INFINITY)
+                .doubleExclusiveRange(Double.NaN)
+                .floatRange(Float.NaN)
+                .nullableNumberRange(null));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    @DisplayName("Hibernate Validator と同じ制約違反となること")
+    void validateTest(ConstrainedNumbers target) {
+
+        val expected = validatorFactory.getValidator().validate(target).stream()
+            .map(violation -> new ConstraintViolation(
+                violation.getPropertyPath().toString(),
+                violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName(),
+                violation.getInvalidValue()))
+            .toList();
+
+        val violations = new ArrayList<ConstraintViolation>();
+        ModelValidators.validate(target, new ModelValidators.Context() {
+            @Override
+            public boolean isValidEmail(CharSequence value) {
+                return true;
+            }
+
+            @Override
+            public void addViolation(
+                Class<?> beanType, String property, String constraint, String propertyPath, Object invalidValue) {
+
+                violations.add(new ConstraintViolation(propertyPath, constraint, invalidValue));
+            }
+        });
+
+        assertThat(violations).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    private record ConstraintViolation(String propertyPath, String constraint, Object invalidValue) {
+    }
+}